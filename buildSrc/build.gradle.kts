@@ -9,5 +9,6 @@ repositories {
 
 dependencies {
     implementation("org.jreleaser:jreleaser-gradle-plugin:1.21.0")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.3")
 
 }
@@ -0,0 +1,17 @@
+plugins {
+    java
+    id("me.champeau.jmh")
+}
+
+val jmhToolVersion: String = "1.37"
+
+jmh {
+    jmhVersion.set(jmhToolVersion)
+
+    // Report allocation rate and bytes allocated per op alongside throughput
+    profilers.add("gc")
+    resultFormat.set("JSON")
+
+    // Narrow the run with e.g. ./gradlew :locationtech-core-jmh:jmh -PjmhIncludes=Polygon
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
@@ -0,0 +1,4 @@
+plugins {
+    id("java-instancio-gis-library")
+    id("java-publish-conventions")
+}
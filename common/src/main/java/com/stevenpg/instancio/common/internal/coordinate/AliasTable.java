@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.Random;
+
+/**
+ * Walker/Vose alias table for drawing an index in proportion to a fixed set of weights.
+ *
+ * <p>Construction is O(n). Each {@link #sample(Random)} costs one integer and one double draw
+ * regardless of the number of weights, so thousands of clusters or grid cells sample as fast
+ * as two.</p>
+ *
+ * @since 1.0.0
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds a table for the given weights. Weights need not sum to one.
+     *
+     * @param weights - non-negative, finite weights, at least one of them positive
+     */
+    public AliasTable(final double[] weights) {
+        if (weights == null || weights.length == 0) {
+            throw new IllegalArgumentException("weights must not be empty");
+        }
+        final int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weights must be finite and >= 0");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("weights must not all be zero");
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average weight is 1, then pair each under-full slot with an over-full one
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever remains is full up to rounding error
+        while (largeCount > 0) {
+            final int index = large[--largeCount];
+            probability[index] = 1;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            final int index = small[--smallCount];
+            probability[index] = 1;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * Returns the number of weights in this table.
+     *
+     * @return - the table size
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Draws an index between 0 and {@code size() - 1}, each with probability proportional to its weight.
+     *
+     * @param random - the random instance to use
+     * @return - the drawn index
+     */
+    public int sample(final Random random) {
+        final int column = random.intRange(0, probability.length - 1);
+        return random.doubleRange(0, 1) < probability[column] ? column : alias[column];
+    }
+}
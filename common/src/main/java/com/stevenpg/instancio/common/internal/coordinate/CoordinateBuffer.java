@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+/**
+ * Fixed-size structure-of-arrays coordinate storage: one {@code double[]} per ordinate.
+ *
+ * <p>The {@code x} and {@code y} arrays are always present. The {@code z} and {@code m} arrays
+ * exist only when the buffer was created with those ordinates, and are {@code null} otherwise.
+ * Accessors return the backing arrays without copying, so a module can read or hand them on
+ * to its own coordinate types without a second allocation.</p>
+ *
+ * @since 1.0.0
+ */
+public final class CoordinateBuffer {
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final double[] m;
+
+    private CoordinateBuffer(final int size, final boolean hasZ, final boolean hasM) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be >= 0");
+        }
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = hasZ ? new double[size] : null;
+        this.m = hasM ? new double[size] : null;
+    }
+
+    /**
+     * Creates a buffer holding {@code size} XY coordinates.
+     *
+     * @param size - number of coordinates
+     * @return - a new buffer
+     */
+    public static CoordinateBuffer xy(final int size) {
+        return new CoordinateBuffer(size, false, false);
+    }
+
+    /**
+     * Creates a buffer holding {@code size} XYZ coordinates.
+     *
+     * @param size - number of coordinates
+     * @return - a new buffer
+     */
+    public static CoordinateBuffer xyz(final int size) {
+        return new CoordinateBuffer(size, true, false);
+    }
+
+    /**
+     * Creates a buffer holding {@code size} XYM coordinates.
+     *
+     * @param size - number of coordinates
+     * @return - a new buffer
+     */
+    public static CoordinateBuffer xym(final int size) {
+        return new CoordinateBuffer(size, false, true);
+    }
+
+    /**
+     * Creates a buffer holding {@code size} XYZM coordinates.
+     *
+     * @param size - number of coordinates
+     * @return - a new buffer
+     */
+    public static CoordinateBuffer xyzm(final int size) {
+        return new CoordinateBuffer(size, true, true);
+    }
+
+    /**
+     * Returns the number of coordinates in this buffer.
+     *
+     * @return - the coordinate count
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Returns whether this buffer stores z ordinates.
+     *
+     * @return - true if {@link #z()} is not null
+     */
+    public boolean hasZ() {
+        return z != null;
+    }
+
+    /**
+     * Returns whether this buffer stores m ordinates.
+     *
+     * @return - true if {@link #m()} is not null
+     */
+    public boolean hasM() {
+        return m != null;
+    }
+
+    /**
+     * Returns the backing x ordinate array.
+     *
+     * @return - the x ordinates
+     */
+    public double[] x() {
+        return x;
+    }
+
+    /**
+     * Returns the backing y ordinate array.
+     *
+     * @return - the y ordinates
+     */
+    public double[] y() {
+        return y;
+    }
+
+    /**
+     * Returns the backing z ordinate array.
+     *
+     * @return - the z ordinates, or null if this buffer has no z
+     */
+    public double[] z() {
+        return z;
+    }
+
+    /**
+     * Returns the backing m ordinate array.
+     *
+     * @return - the m ordinates, or null if this buffer has no m
+     */
+    public double[] m() {
+        return m;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.Random;
+
+/**
+ * Immutable, thread-safe source of random coordinates shared by every library module.
+ *
+ * <p>A kernel holds the x, y, z and m ranges and draws ordinates from the supplied
+ * {@link Random}. Modules keep one kernel per generator, replace it through the
+ * {@code with*Range} methods when their {@code xRange}/{@code yRange}/{@code within}
+ * options are called, and only adapt the drawn values into their own point types.</p>
+ *
+ * <p>Every fill draws the ordinates of one coordinate in the order x, y, z, m before moving
+ * to the next coordinate, and the single-value methods draw exactly one value each. A
+ * generator that reads x then y per point therefore consumes the {@code Random} the same way
+ * as a bulk {@link #fill(CoordinateBuffer, Random)}, and the same seed yields the same
+ * coordinates whether they end up as JTS, ESRI, geolatte, Spatial4j or PostGIS objects.</p>
+ *
+ * <p>By default x and y are uniform. {@link #withDistribution(SpatialDistribution)} installs a
+ * clustered or gridded {@link SpatialDistribution}, which {@link #xy(Random, double[])} and the
+ * fills then use to place each x/y pair jointly inside the x and y ranges. The single-value
+ * {@link #x(Random)} and {@link #y(Random)} always draw uniformly.</p>
+ *
+ * @since 1.0.0
+ */
+public final class CoordinateKernel {
+
+    /**
+     * Kernel drawing WGS84 longitude (-180 to 180) as x and latitude (-90 to 90) as y, with
+     * z and m between 1 and 10,000 (the default range of {@code Instancio.gen().doubles()}).
+     */
+    public static final CoordinateKernel WGS84 = new CoordinateKernel(-180, 180, -90, 90, 1, 10_000, 1, 10_000, null);
+
+    private final double minX;
+    private final double maxX;
+    private final double minY;
+    private final double maxY;
+    private final double minZ;
+    private final double maxZ;
+    private final double minM;
+    private final double maxM;
+    // Null means uniform, which keeps the fills on the plain doubleRange path
+    private final SpatialDistribution distribution;
+
+    private CoordinateKernel(final double minX, final double maxX,
+                             final double minY, final double maxY,
+                             final double minZ, final double maxZ,
+                             final double minM, final double maxM,
+                             final SpatialDistribution distribution) {
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.minM = minM;
+        this.maxM = maxM;
+        this.distribution = distribution;
+    }
+
+    /**
+     * Returns a kernel with this kernel's ranges and the given x range.
+     *
+     * @param min - minimum x (inclusive)
+     * @param max - maximum x
+     * @return - a new kernel
+     */
+    public CoordinateKernel withXRange(final double min, final double max) {
+        return new CoordinateKernel(min, max, minY, maxY, minZ, maxZ, minM, maxM, distribution);
+    }
+
+    /**
+     * Returns a kernel with this kernel's ranges and the given y range.
+     *
+     * @param min - minimum y (inclusive)
+     * @param max - maximum y
+     * @return - a new kernel
+     */
+    public CoordinateKernel withYRange(final double min, final double max) {
+        return new CoordinateKernel(minX, maxX, min, max, minZ, maxZ, minM, maxM, distribution);
+    }
+
+    /**
+     * Returns a kernel with this kernel's ranges and the given z range.
+     *
+     * @param min - minimum z (inclusive)
+     * @param max - maximum z
+     * @return - a new kernel
+     */
+    public CoordinateKernel withZRange(final double min, final double max) {
+        return new CoordinateKernel(minX, maxX, minY, maxY, min, max, minM, maxM, distribution);
+    }
+
+    /**
+     * Returns a kernel with this kernel's ranges and the given m range.
+     *
+     * @param min - minimum m (inclusive)
+     * @param max - maximum m
+     * @return - a new kernel
+     */
+    public CoordinateKernel withMRange(final double min, final double max) {
+        return new CoordinateKernel(minX, maxX, minY, maxY, minZ, maxZ, min, max, distribution);
+    }
+
+    /**
+     * Returns a kernel with this kernel's ranges that places x/y pairs with the given distribution.
+     *
+     * @param distribution - the distribution to use, or null for uniform
+     * @return - a new kernel
+     */
+    public CoordinateKernel withDistribution(final SpatialDistribution distribution) {
+        final SpatialDistribution effective = distribution == SpatialDistribution.uniform() ? null : distribution;
+        return new CoordinateKernel(minX, maxX, minY, maxY, minZ, maxZ, minM, maxM, effective);
+    }
+
+    /**
+     * Returns the distribution used for x/y pairs.
+     *
+     * @return - the configured distribution, {@link SpatialDistribution#uniform()} by default
+     */
+    public SpatialDistribution distribution() {
+        return distribution == null ? SpatialDistribution.uniform() : distribution;
+    }
+
+    /**
+     * Draws one x/y pair with the configured distribution, writing x to {@code xy[0]} and y to
+     * {@code xy[1]}. With the uniform distribution this draws exactly like {@link #x(Random)}
+     * followed by {@link #y(Random)}.
+     *
+     * @param random - the random instance to use
+     * @param xy - output array of at least two elements
+     */
+    public void xy(final Random random, final double[] xy) {
+        if (distribution == null) {
+            xy[0] = random.doubleRange(minX, maxX);
+            xy[1] = random.doubleRange(minY, maxY);
+        } else {
+            distribution.sample(random, minX, maxX, minY, maxY, xy);
+        }
+    }
+
+    /**
+     * Draws one x ordinate.
+     *
+     * @param random - the random instance to use
+     * @return - a value in the x range
+     */
+    public double x(final Random random) {
+        return random.doubleRange(minX, maxX);
+    }
+
+    /**
+     * Draws one y ordinate.
+     *
+     * @param random - the random instance to use
+     * @return - a value in the y range
+     */
+    public double y(final Random random) {
+        return random.doubleRange(minY, maxY);
+    }
+
+    /**
+     * Draws one z ordinate.
+     *
+     * @param random - the random instance to use
+     * @return - a value in the z range
+     */
+    public double z(final Random random) {
+        return random.doubleRange(minZ, maxZ);
+    }
+
+    /**
+     * Draws one m ordinate.
+     *
+     * @param random - the random instance to use
+     * @return - a value in the m range
+     */
+    public double m(final Random random) {
+        return random.doubleRange(minM, maxM);
+    }
+
+    /**
+     * Fills every coordinate of the buffer.
+     *
+     * @param buffer - the buffer to fill
+     * @param random - the random instance to use
+     * @return - the same buffer
+     */
+    public CoordinateBuffer fill(final CoordinateBuffer buffer, final Random random) {
+        return fill(buffer, 0, buffer.size(), random);
+    }
+
+    /**
+     * Fills {@code count} coordinates of the buffer starting at {@code offset}, leaving the
+     * others untouched.
+     *
+     * @param buffer - the buffer to fill
+     * @param offset - index of the first coordinate to fill
+     * @param count - number of coordinates to fill
+     * @param random - the random instance to use
+     * @return - the same buffer
+     */
+    public CoordinateBuffer fill(final CoordinateBuffer buffer, final int offset, final int count,
+                                 final Random random) {
+        if (offset < 0 || count < 0 || offset > buffer.size() - count) {
+            throw new IndexOutOfBoundsException(
+                    "range [" + offset + ", " + offset + " + " + count + ") out of bounds for size " + buffer.size());
+        }
+        final double[] xs = buffer.x();
+        final double[] ys = buffer.y();
+        final double[] zs = buffer.z();
+        final double[] ms = buffer.m();
+        final int end = offset + count;
+        final double[] xy = distribution == null ? null : new double[2];
+        for (int i = offset; i < end; i++) {
+            if (xy == null) {
+                xs[i] = random.doubleRange(minX, maxX);
+                ys[i] = random.doubleRange(minY, maxY);
+            } else {
+                distribution.sample(random, minX, maxX, minY, maxY, xy);
+                xs[i] = xy[0];
+                ys[i] = xy[1];
+            }
+            if (zs != null) {
+                zs[i] = random.doubleRange(minZ, maxZ);
+            }
+            if (ms != null) {
+                ms[i] = random.doubleRange(minM, maxM);
+            }
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.Random;
+
+import java.util.Arrays;
+
+/**
+ * Mixture of isotropic Gaussian clusters, each with a center, a standard deviation and a weight.
+ *
+ * <p>Sampling picks a cluster through an {@link AliasTable} and then offsets its center by a
+ * normal deviate on each axis (Box-Muller). Draws falling outside the bounds are redrawn, up to
+ * {@value #MAX_ATTEMPTS} times, after which the last draw is clamped to the bounds, so a cluster
+ * centered near an edge piles up against it rather than looping forever.</p>
+ *
+ * @since 1.0.0
+ */
+public final class GaussianMixture implements SpatialDistribution {
+
+    /**
+     * Maximum number of draws for one coordinate before clamping to the bounds.
+     */
+    public static final int MAX_ATTEMPTS = 32;
+
+    private final double[] centerX;
+    private final double[] centerY;
+    private final double[] sigma;
+    private final double[] weight;
+    private final AliasTable clusters;
+
+    private GaussianMixture(final double[] centerX, final double[] centerY,
+                            final double[] sigma, final double[] weight) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.sigma = sigma;
+        this.weight = weight;
+        this.clusters = new AliasTable(weight);
+    }
+
+    /**
+     * Creates a builder for a new mixture.
+     *
+     * @return - an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a mixture whose cluster weights follow Zipf's law. See
+     * {@link SpatialDistribution#zipfHotspots(double, double, double[]...)}.
+     *
+     * @param exponent - Zipf exponent, must be >= 0
+     * @param sigma - standard deviation of every hotspot
+     * @param centers - hotspot centers as {@code {x, y}} pairs, most popular first
+     * @return - the hotspot mixture
+     */
+    public static GaussianMixture zipf(final double exponent, final double sigma, final double[]... centers) {
+        if (!(exponent >= 0)) {
+            throw new IllegalArgumentException("exponent must be >= 0");
+        }
+        if (centers == null) {
+            throw new IllegalArgumentException("at least one cluster is required");
+        }
+        final Builder builder = builder();
+        for (int rank = 0; rank < centers.length; rank++) {
+            final double[] center = centers[rank];
+            if (center == null || center.length != 2) {
+                throw new IllegalArgumentException("centers must be {x, y} pairs");
+            }
+            builder.cluster(center[0], center[1], sigma, 1 / Math.pow(rank + 1, exponent));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of clusters in this mixture.
+     *
+     * @return - the cluster count
+     */
+    public int clusters() {
+        return weight.length;
+    }
+
+    /**
+     * Returns the weight of a cluster, in the order the clusters were added.
+     *
+     * @param cluster - the cluster index
+     * @return - the cluster's unnormalized weight
+     */
+    public double weight(final int cluster) {
+        return weight[cluster];
+    }
+
+    @Override
+    public void sample(final Random random, final double minX, final double maxX,
+                       final double minY, final double maxY, final double[] xy) {
+        final int cluster = clusters.sample(random);
+        final double cx = centerX[cluster];
+        final double cy = centerY[cluster];
+        final double s = sigma[cluster];
+        double x = cx;
+        double y = cy;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            // The output array doubles as scratch for the normals, so sampling does not allocate
+            GaussianSampler.standardNormalPair(random, xy);
+            x = cx + s * xy[0];
+            y = cy + s * xy[1];
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                break;
+            }
+        }
+        xy[0] = Math.max(minX, Math.min(maxX, x));
+        xy[1] = Math.max(minY, Math.min(maxY, y));
+    }
+
+    /**
+     * Builder for {@link GaussianMixture}.
+     */
+    public static final class Builder {
+
+        private double[] centerX = new double[4];
+        private double[] centerY = new double[4];
+        private double[] sigma = new double[4];
+        private double[] weight = new double[4];
+        private int count;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a cluster.
+         *
+         * @param x - center x
+         * @param y - center y
+         * @param sigma - standard deviation on each axis, in coordinate units
+         * @param weight - relative weight of the cluster
+         * @return - this builder
+         */
+        public Builder cluster(final double x, final double y, final double sigma, final double weight) {
+            if (!Double.isFinite(x) || !Double.isFinite(y)) {
+                throw new IllegalArgumentException("center must be finite");
+            }
+            if (!(sigma >= 0) || Double.isInfinite(sigma)) {
+                throw new IllegalArgumentException("sigma must be finite and >= 0");
+            }
+            if (!(weight > 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weight must be finite and > 0");
+            }
+            if (count == centerX.length) {
+                final int capacity = count * 2;
+                centerX = Arrays.copyOf(centerX, capacity);
+                centerY = Arrays.copyOf(centerY, capacity);
+                this.sigma = Arrays.copyOf(this.sigma, capacity);
+                this.weight = Arrays.copyOf(this.weight, capacity);
+            }
+            centerX[count] = x;
+            centerY[count] = y;
+            this.sigma[count] = sigma;
+            this.weight[count] = weight;
+            count++;
+            return this;
+        }
+
+        /**
+         * Builds the mixture.
+         *
+         * @return - a new, immutable mixture
+         */
+        public GaussianMixture build() {
+            if (count == 0) {
+                throw new IllegalArgumentException("at least one cluster is required");
+            }
+            return new GaussianMixture(
+                    Arrays.copyOf(centerX, count),
+                    Arrays.copyOf(centerY, count),
+                    Arrays.copyOf(sigma, count),
+                    Arrays.copyOf(weight, count));
+        }
+    }
+}
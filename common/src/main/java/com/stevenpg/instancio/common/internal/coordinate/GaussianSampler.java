@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.Random;
+
+/**
+ * Standard normal draws shared by every instancio-gis sampler that needs Gaussian noise.
+ *
+ * <p>Uses the Box-Muller transform: each call consumes exactly two uniforms from the
+ * {@link Random}, the radius first and then the angle, and yields two independent standard
+ * normals. Keeping the one implementation here means seeded output stays identical across
+ * modules.</p>
+ *
+ * @since 1.0.0
+ */
+public final class GaussianSampler {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GaussianSampler() {
+    }
+
+    /**
+     * Draws two independent standard normal values.
+     *
+     * @param random - the random instance to use
+     * @param pair - receives the two values in its first two elements
+     */
+    public static void standardNormalPair(final Random random, final double[] pair) {
+        // The lower bound keeps the logarithm finite
+        final double radius = Math.sqrt(-2 * Math.log(random.doubleRange(Double.MIN_VALUE, 1)));
+        final double angle = 2 * Math.PI * random.doubleRange(0, 1);
+        pair[0] = radius * Math.cos(angle);
+        pair[1] = radius * Math.sin(angle);
+    }
+}
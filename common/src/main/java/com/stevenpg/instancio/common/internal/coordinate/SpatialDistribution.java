@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.Random;
+
+/**
+ * Strategy deciding where inside a bounding box generated coordinates fall.
+ *
+ * <p>The default, {@link #uniform()}, draws x then y uniformly and is what every generator
+ * uses when no distribution is configured. {@link #gaussianMixture()}, {@link #zipfHotspots}
+ * and {@link #densityGrid(double[][])} produce skewed data, with points clustered around
+ * cities or concentrated in a few grid cells, for exercising spatial indexes and partitioning
+ * against realistic load.</p>
+ *
+ * <p>Implementations are immutable and shared across threads. They write their result into
+ * a caller-supplied array instead of returning a new object, so sampling does not allocate.</p>
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SpatialDistribution {
+
+    /**
+     * Draws one coordinate inside the bounds and writes x to {@code xy[0]} and y to {@code xy[1]}.
+     *
+     * @param random - the random instance to use
+     * @param minX - minimum x of the bounds
+     * @param maxX - maximum x of the bounds
+     * @param minY - minimum y of the bounds
+     * @param maxY - maximum y of the bounds
+     * @param xy - output array of at least two elements
+     */
+    void sample(Random random, double minX, double maxX, double minY, double maxY, double[] xy);
+
+    /**
+     * Returns the uniform distribution, drawing x and then y across the whole bounds.
+     *
+     * @return - the uniform distribution
+     */
+    static SpatialDistribution uniform() {
+        return UniformDistribution.INSTANCE;
+    }
+
+    /**
+     * Creates a builder for a mixture of isotropic Gaussian clusters.
+     *
+     * @return - an empty builder
+     */
+    static GaussianMixture.Builder gaussianMixture() {
+        return GaussianMixture.builder();
+    }
+
+    /**
+     * Creates a mixture of Gaussian hotspots whose weights follow Zipf's law: the hotspot at
+     * rank {@code r} (starting at 1, in the order given) has weight {@code 1 / r^exponent}.
+     *
+     * @param exponent - Zipf exponent, 0 gives equal weights and larger values more skew
+     * @param sigma - standard deviation of every hotspot, in coordinate units
+     * @param centers - hotspot centers as {@code {x, y}} pairs, most popular first
+     * @return - the hotspot distribution
+     */
+    static GaussianMixture zipfHotspots(final double exponent, final double sigma, final double[]... centers) {
+        return GaussianMixture.zipf(exponent, sigma, centers);
+    }
+
+    /**
+     * Creates a distribution that picks a grid cell in proportion to its weight and then a
+     * uniform point inside that cell. The grid is stretched over the bounds passed to
+     * {@link #sample}; row 0 lies along {@code minY} and column 0 along {@code minX}.
+     *
+     * @param weights - non-negative cell weights, indexed {@code [row][column]}
+     * @return - the density grid distribution
+     */
+    static DensityGrid densityGrid(final double[][] weights) {
+        return new DensityGrid(weights);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.Random;
+
+/**
+ * Uniform sampling over the bounds, drawing x before y like {@link CoordinateKernel#x} and
+ * {@link CoordinateKernel#y}.
+ */
+final class UniformDistribution implements SpatialDistribution {
+
+    static final UniformDistribution INSTANCE = new UniformDistribution();
+
+    private UniformDistribution() {
+    }
+
+    @Override
+    public void sample(final Random random, final double minX, final double maxX,
+                       final double minY, final double maxY, final double[] xy) {
+        xy[0] = random.doubleRange(minX, maxX);
+        xy[1] = random.doubleRange(minY, maxY);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.spi;
+
+import org.instancio.Node;
+import org.instancio.generator.Generator;
+import org.instancio.generators.Generators;
+import org.instancio.spi.InstancioServiceProvider;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Class-keyed generator lookup shared by the instancio-gis service providers.
+ *
+ * <p>A target class resolves to the generator registered for exactly that class. Failing
+ * that, it resolves to the generator that declared the target as one of its supertypes at
+ * registration; the first declaration wins. A provider declares the library's own geometry
+ * roots this way, so a field declared as a JTS {@code Lineal}, for example, is filled by the
+ * {@code LineString} generator. Undeclared supertypes never resolve, so a provider does not
+ * claim {@code Object}, {@code Serializable} or third-party base classes such as
+ * {@code PGobject} just because a registered class extends them.</p>
+ *
+ * <p>Each resolution, including a miss, is computed once per class and cached in a
+ * {@link ClassValue}. Providers keep their registry in a static field, so the cache
+ * survives across Instancio runs and every later lookup is a single {@code ClassValue}
+ * read. Registered generators are shared across threads and must not change state in
+ * {@code generate}.</p>
+ *
+ * @since 1.0.0
+ */
+public final class GeneratorRegistry implements InstancioServiceProvider.GeneratorProvider {
+
+    private final Map<Class<?>, Generator<?>> generators;
+    private final Map<Class<?>, Generator<?>> supertypes;
+
+    private final ClassValue<Optional<Generator<?>>> resolved = new ClassValue<>() {
+        @Override
+        protected Optional<Generator<?>> computeValue(final Class<?> type) {
+            return Optional.ofNullable(lookup(type));
+        }
+    };
+
+    private GeneratorRegistry(final Map<Class<?>, Generator<?>> generators,
+                              final Map<Class<?>, Generator<?>> supertypes) {
+        this.generators = Collections.unmodifiableMap(new LinkedHashMap<>(generators));
+        this.supertypes = Map.copyOf(supertypes);
+    }
+
+    /**
+     * Creates a builder for a new registry.
+     *
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Generator<?> getGenerator(final Node node, final Generators gen) {
+        return resolve(node.getTargetClass());
+    }
+
+    /**
+     * Resolves the generator for the given target class.
+     *
+     * @param type the target class, may be null
+     * @return the matching generator, or null if this registry does not handle the type
+     */
+    public Generator<?> resolve(final Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+        return resolved.get(type).orElse(null);
+    }
+
+    /**
+     * Returns the registered classes and generators in registration order.
+     *
+     * @return an unmodifiable view of the registrations
+     */
+    public Map<Class<?>, Generator<?>> generators() {
+        return generators;
+    }
+
+    private Generator<?> lookup(final Class<?> type) {
+        final Generator<?> exact = generators.get(type);
+        return exact != null ? exact : supertypes.get(type);
+    }
+
+    /**
+     * Collects class-to-generator registrations for a {@link GeneratorRegistry}.
+     */
+    public static final class Builder {
+
+        private final Map<Class<?>, Generator<?>> generators = new LinkedHashMap<>();
+        private final Map<Class<?>, Generator<?>> supertypes = new LinkedHashMap<>();
+
+        private Builder() {
+            // Use GeneratorRegistry.builder()
+        }
+
+        /**
+         * Registers the generator for the given class, and for any supertypes it should also
+         * fill. When several registrations declare the same supertype, the first one wins.
+         *
+         * @param type the generated class
+         * @param generator the generator producing instances of the class
+         * @param supertypes supertypes of the class that resolve to this generator
+         * @param <T> the generated type
+         * @return this builder
+         */
+        public <T> Builder register(final Class<T> type, final Generator<? extends T> generator,
+                                    final Class<?>... supertypes) {
+            Objects.requireNonNull(type, "type must not be null");
+            Objects.requireNonNull(generator, "generator must not be null");
+            for (Class<?> supertype : supertypes) {
+                Objects.requireNonNull(supertype, "supertype must not be null");
+                if (!supertype.isAssignableFrom(type) || supertype == type) {
+                    throw new IllegalArgumentException(supertype.getName() + " is not a supertype of " + type.getName());
+                }
+            }
+            if (generators.putIfAbsent(type, generator) != null) {
+                throw new IllegalArgumentException("type is already registered: " + type.getName());
+            }
+            for (Class<?> supertype : supertypes) {
+                this.supertypes.putIfAbsent(supertype, generator);
+            }
+            return this;
+        }
+
+        /**
+         * Builds an immutable registry from the current registrations.
+         *
+         * @return the registry
+         */
+        public GeneratorRegistry build() {
+            return new GeneratorRegistry(generators, supertypes);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AliasTableTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void frequenciesFollowWeights() {
+        double[] weights = {1, 2, 3, 4};
+        var table = new AliasTable(weights);
+        var random = new DefaultRandom(3L);
+
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[table.sample(random)]++;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / 10;
+            double actual = counts[i] / (double) SAMPLES;
+            assertEquals(expected, actual, 0.01, "index " + i);
+        }
+    }
+
+    @Test
+    void zeroWeightsAreNeverDrawn() {
+        var table = new AliasTable(new double[]{0, 5, 0, 1, 0});
+        var random = new DefaultRandom();
+        for (int i = 0; i < 10_000; i++) {
+            int index = table.sample(random);
+            assertTrue(index == 1 || index == 3, "drew zero-weight index " + index);
+        }
+    }
+
+    @Test
+    void singleWeightAlwaysDrawsZero() {
+        var table = new AliasTable(new double[]{0.25});
+        assertEquals(1, table.size());
+        assertEquals(0, table.sample(new DefaultRandom()));
+    }
+
+    @Test
+    void invalidWeightsAreRejected() {
+        var empty = assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+        assertEquals("weights must not be empty", empty.getMessage());
+        var negative = assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{1, -1}));
+        assertEquals("weights must be finite and >= 0", negative.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{Double.POSITIVE_INFINITY}));
+        var zeros = assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0, 0}));
+        assertEquals("weights must not all be zero", zeros.getMessage());
+    }
+}
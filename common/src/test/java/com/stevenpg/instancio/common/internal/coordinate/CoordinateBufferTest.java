@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoordinateBufferTest {
+
+    @Test
+    void xyHasNoZOrM() {
+        var buffer = CoordinateBuffer.xy(4);
+        assertEquals(4, buffer.size());
+        assertEquals(4, buffer.x().length);
+        assertEquals(4, buffer.y().length);
+        assertFalse(buffer.hasZ());
+        assertFalse(buffer.hasM());
+        assertNull(buffer.z());
+        assertNull(buffer.m());
+    }
+
+    @Test
+    void optionalOrdinatesAreAllocatedOnRequest() {
+        assertTrue(CoordinateBuffer.xyz(2).hasZ());
+        assertFalse(CoordinateBuffer.xyz(2).hasM());
+        assertFalse(CoordinateBuffer.xym(2).hasZ());
+        assertTrue(CoordinateBuffer.xym(2).hasM());
+
+        var xyzm = CoordinateBuffer.xyzm(3);
+        assertNotNull(xyzm.z());
+        assertNotNull(xyzm.m());
+        assertEquals(3, xyzm.z().length);
+        assertEquals(3, xyzm.m().length);
+    }
+
+    @Test
+    void accessorsReturnBackingArrays() {
+        var buffer = CoordinateBuffer.xy(1);
+        buffer.x()[0] = 12.5;
+        assertEquals(12.5, buffer.x()[0]);
+    }
+
+    @Test
+    void emptyBufferIsAllowed() {
+        assertEquals(0, CoordinateBuffer.xy(0).size());
+    }
+
+    @Test
+    void negativeSizeIsRejected() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> CoordinateBuffer.xy(-1));
+        assertEquals("size must be >= 0", ex.getMessage());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoordinateKernelTest {
+
+    @RepeatedTest(5)
+    void wgs84FillsWithinLonLatBounds() {
+        var buffer = CoordinateKernel.WGS84.fill(CoordinateBuffer.xyzm(500), new DefaultRandom());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertTrue(buffer.x()[i] >= -180 && buffer.x()[i] <= 180, "x out of range: " + buffer.x()[i]);
+            assertTrue(buffer.y()[i] >= -90 && buffer.y()[i] <= 90, "y out of range: " + buffer.y()[i]);
+            assertTrue(buffer.z()[i] >= 1 && buffer.z()[i] <= 10_000, "z out of range: " + buffer.z()[i]);
+            assertTrue(buffer.m()[i] >= 1 && buffer.m()[i] <= 10_000, "m out of range: " + buffer.m()[i]);
+        }
+    }
+
+    @RepeatedTest(5)
+    void customRangesAreRespected() {
+        var kernel = CoordinateKernel.WGS84
+                .withXRange(10, 20)
+                .withYRange(-5, 5)
+                .withZRange(100, 200)
+                .withMRange(0, 1);
+        var buffer = kernel.fill(CoordinateBuffer.xyzm(500), new DefaultRandom());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertTrue(buffer.x()[i] >= 10 && buffer.x()[i] <= 20);
+            assertTrue(buffer.y()[i] >= -5 && buffer.y()[i] <= 5);
+            assertTrue(buffer.z()[i] >= 100 && buffer.z()[i] <= 200);
+            assertTrue(buffer.m()[i] >= 0 && buffer.m()[i] <= 1);
+        }
+    }
+
+    @Test
+    void withRangeReturnsNewKernel() {
+        var narrowed = CoordinateKernel.WGS84.withXRange(0, 1);
+        var x = CoordinateKernel.WGS84.fill(CoordinateBuffer.xy(200), new DefaultRandom()).x();
+        assertTrue(Arrays.stream(x).anyMatch(v -> v < 0 || v > 1),
+                "WGS84 should be unaffected by withXRange");
+        assertTrue(narrowed.x(new DefaultRandom()) <= 1);
+    }
+
+    @Test
+    void fillDrawsInTheSameOrderAsSingleValues() {
+        var kernel = CoordinateKernel.WGS84.withXRange(-10, 10).withYRange(-20, 20);
+        var buffer = kernel.fill(CoordinateBuffer.xyzm(50), new DefaultRandom(42L));
+
+        var random = new DefaultRandom(42L);
+        for (int i = 0; i < buffer.size(); i++) {
+            assertEquals(kernel.x(random), buffer.x()[i]);
+            assertEquals(kernel.y(random), buffer.y()[i]);
+            assertEquals(kernel.z(random), buffer.z()[i]);
+            assertEquals(kernel.m(random), buffer.m()[i]);
+        }
+    }
+
+    @Test
+    void sameSeedYieldsSameCoordinates() {
+        var first = CoordinateKernel.WGS84.fill(CoordinateBuffer.xy(100), new DefaultRandom(7L));
+        var second = CoordinateKernel.WGS84.fill(CoordinateBuffer.xy(100), new DefaultRandom(7L));
+        assertArrayEquals(first.x(), second.x());
+        assertArrayEquals(first.y(), second.y());
+    }
+
+    @Test
+    void rangeFillLeavesOtherCoordinatesUntouched() {
+        var buffer = CoordinateBuffer.xy(6);
+        Arrays.fill(buffer.x(), Double.NaN);
+        Arrays.fill(buffer.y(), Double.NaN);
+
+        assertSame(buffer, CoordinateKernel.WGS84.fill(buffer, 2, 3, new DefaultRandom()));
+
+        for (int i = 0; i < buffer.size(); i++) {
+            boolean filled = i >= 2 && i < 5;
+            assertEquals(filled, !Double.isNaN(buffer.x()[i]), "x[" + i + "]");
+            assertEquals(filled, !Double.isNaN(buffer.y()[i]), "y[" + i + "]");
+        }
+    }
+
+    @Test
+    void rangeFillOutsideBufferIsRejected() {
+        var buffer = CoordinateBuffer.xy(4);
+        var random = new DefaultRandom();
+        assertThrows(IndexOutOfBoundsException.class, () -> CoordinateKernel.WGS84.fill(buffer, -1, 1, random));
+        assertThrows(IndexOutOfBoundsException.class, () -> CoordinateKernel.WGS84.fill(buffer, 0, -1, random));
+        assertThrows(IndexOutOfBoundsException.class, () -> CoordinateKernel.WGS84.fill(buffer, 2, 3, random));
+    }
+
+    @Test
+    void uniformDistributionMatchesDefaultDraws() {
+        var kernel = CoordinateKernel.WGS84.withDistribution(SpatialDistribution.uniform());
+        assertSame(SpatialDistribution.uniform(), kernel.distribution());
+
+        var expected = CoordinateKernel.WGS84.fill(CoordinateBuffer.xy(50), new DefaultRandom(1L));
+        var actual = kernel.fill(CoordinateBuffer.xy(50), new DefaultRandom(1L));
+        assertArrayEquals(expected.x(), actual.x());
+        assertArrayEquals(expected.y(), actual.y());
+    }
+
+    @Test
+    void distributionIsUsedForXyAndFill() {
+        var center = SpatialDistribution.gaussianMixture().cluster(5, 6, 0, 1).build();
+        var kernel = CoordinateKernel.WGS84.withDistribution(center).withZRange(0, 1);
+        assertSame(center, kernel.distribution());
+
+        var xy = new double[2];
+        kernel.xy(new DefaultRandom(), xy);
+        assertArrayEquals(new double[]{5, 6}, xy);
+
+        var buffer = kernel.fill(CoordinateBuffer.xyz(10), new DefaultRandom());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertEquals(5, buffer.x()[i]);
+            assertEquals(6, buffer.y()[i]);
+            assertTrue(buffer.z()[i] >= 0 && buffer.z()[i] <= 1);
+        }
+    }
+
+    @Test
+    void distributionRespectsKernelRanges() {
+        var grid = SpatialDistribution.densityGrid(new double[][]{{1, 1}, {1, 1}});
+        var kernel = CoordinateKernel.WGS84.withXRange(10, 20).withYRange(30, 40).withDistribution(grid);
+        var buffer = kernel.fill(CoordinateBuffer.xy(1_000), new DefaultRandom());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertTrue(buffer.x()[i] >= 10 && buffer.x()[i] <= 20);
+            assertTrue(buffer.y()[i] >= 30 && buffer.y()[i] <= 40);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DensityGridTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void cellsAreSampledInProportionToWeight() {
+        // 2 rows x 2 columns over [0, 10] x [0, 10]; row 0 is the southern half
+        var grid = SpatialDistribution.densityGrid(new double[][]{
+                {1, 0},
+                {0, 3}
+        });
+        assertEquals(2, grid.rows());
+        assertEquals(2, grid.columns());
+
+        var random = new DefaultRandom(9L);
+        var xy = new double[2];
+        int southWest = 0;
+        int northEast = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            grid.sample(random, 0, 10, 0, 10, xy);
+            assertTrue(xy[0] >= 0 && xy[0] <= 10 && xy[1] >= 0 && xy[1] <= 10);
+            if (xy[0] <= 5 && xy[1] <= 5) {
+                southWest++;
+            } else if (xy[0] >= 5 && xy[1] >= 5) {
+                northEast++;
+            }
+        }
+        assertEquals(SAMPLES, southWest + northEast);
+        assertEquals(0.25, southWest / (double) SAMPLES, 0.01);
+    }
+
+    @Test
+    void samplesAreUniformWithinACell() {
+        var grid = SpatialDistribution.densityGrid(new double[][]{{0, 1, 0}});
+        var random = new DefaultRandom();
+        var xy = new double[2];
+        double sumX = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            grid.sample(random, -30, 60, 0, 1, xy);
+            assertTrue(xy[0] >= 0 && xy[0] <= 30, "x outside middle column: " + xy[0]);
+            sumX += xy[0];
+        }
+        assertEquals(15, sumX / SAMPLES, 0.2);
+    }
+
+    @Test
+    void invalidGridsAreRejected() {
+        var empty = assertThrows(IllegalArgumentException.class,
+                () -> SpatialDistribution.densityGrid(new double[0][]));
+        assertEquals("weights must not be empty", empty.getMessage());
+        var ragged = assertThrows(IllegalArgumentException.class,
+                () -> SpatialDistribution.densityGrid(new double[][]{{1, 2}, {3}}));
+        assertEquals("weights must be rectangular", ragged.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> SpatialDistribution.densityGrid(new double[][]{{0, 0}}));
+    }
+}
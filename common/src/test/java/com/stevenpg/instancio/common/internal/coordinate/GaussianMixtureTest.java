@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GaussianMixtureTest {
+
+    private static final int SAMPLES = 50_000;
+
+    @RepeatedTest(5)
+    void samplesStayInsideBounds() {
+        var mixture = SpatialDistribution.gaussianMixture()
+                .cluster(-179, 89, 30, 1)
+                .cluster(0, 0, 5, 1)
+                .build();
+        var random = new DefaultRandom();
+        var xy = new double[2];
+        for (int i = 0; i < 10_000; i++) {
+            mixture.sample(random, -180, 180, -90, 90, xy);
+            assertTrue(xy[0] >= -180 && xy[0] <= 180, "x out of range: " + xy[0]);
+            assertTrue(xy[1] >= -90 && xy[1] <= 90, "y out of range: " + xy[1]);
+        }
+    }
+
+    @Test
+    void pointsClusterAroundCentersInProportionToWeight() {
+        var mixture = SpatialDistribution.gaussianMixture()
+                .cluster(-50, 0, 1, 3)
+                .cluster(50, 0, 1, 1)
+                .build();
+        var random = new DefaultRandom(5L);
+        var xy = new double[2];
+        int west = 0;
+        int near = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            mixture.sample(random, -180, 180, -90, 90, xy);
+            if (xy[0] < 0) {
+                west++;
+            }
+            double dx = xy[0] < 0 ? xy[0] + 50 : xy[0] - 50;
+            if (Math.hypot(dx, xy[1]) <= 3) {
+                near++;
+            }
+        }
+        assertEquals(0.75, west / (double) SAMPLES, 0.01);
+        // 3 sigma in two dimensions holds about 98.9% of an isotropic Gaussian
+        assertTrue(near / (double) SAMPLES > 0.98, "fraction within 3 sigma: " + near / (double) SAMPLES);
+    }
+
+    @Test
+    void zeroSigmaReturnsTheCenter() {
+        var mixture = SpatialDistribution.gaussianMixture().cluster(12.5, -7.25, 0, 1).build();
+        var xy = new double[2];
+        mixture.sample(new DefaultRandom(), -180, 180, -90, 90, xy);
+        assertEquals(12.5, xy[0]);
+        assertEquals(-7.25, xy[1]);
+    }
+
+    @Test
+    void centerOutsideBoundsIsClamped() {
+        var mixture = SpatialDistribution.gaussianMixture().cluster(100, 100, 0.001, 1).build();
+        var xy = new double[2];
+        mixture.sample(new DefaultRandom(), 0, 10, 0, 10, xy);
+        assertEquals(10, xy[0]);
+        assertEquals(10, xy[1]);
+    }
+
+    @Test
+    void zipfWeightsDecreaseByRank() {
+        var hotspots = SpatialDistribution.zipfHotspots(1.0, 0.5, new double[]{0, 0}, new double[]{10, 10}, new double[]{20, 20});
+        assertEquals(3, hotspots.clusters());
+        assertEquals(1.0, hotspots.weight(0));
+        assertEquals(0.5, hotspots.weight(1));
+        assertEquals(1.0 / 3, hotspots.weight(2), 1e-12);
+
+        var flat = GaussianMixture.zipf(0, 0.5, new double[]{0, 0}, new double[]{10, 10});
+        assertEquals(flat.weight(0), flat.weight(1));
+    }
+
+    @Test
+    void manyClustersGrowTheBuilder() {
+        var builder = SpatialDistribution.gaussianMixture();
+        for (int i = 0; i < 1_000; i++) {
+            builder.cluster(i % 360 - 180, 0, 1, 1);
+        }
+        assertEquals(1_000, builder.build().clusters());
+    }
+
+    @Test
+    void invalidInputIsRejected() {
+        var empty = assertThrows(IllegalArgumentException.class, () -> SpatialDistribution.gaussianMixture().build());
+        assertEquals("at least one cluster is required", empty.getMessage());
+        var sigma = assertThrows(IllegalArgumentException.class,
+                () -> SpatialDistribution.gaussianMixture().cluster(0, 0, -1, 1));
+        assertEquals("sigma must be finite and >= 0", sigma.getMessage());
+        var weight = assertThrows(IllegalArgumentException.class,
+                () -> SpatialDistribution.gaussianMixture().cluster(0, 0, 1, 0));
+        assertEquals("weight must be finite and > 0", weight.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> SpatialDistribution.gaussianMixture().cluster(Double.NaN, 0, 1, 1));
+        var exponent = assertThrows(IllegalArgumentException.class,
+                () -> GaussianMixture.zipf(-1, 1, new double[]{0, 0}));
+        assertEquals("exponent must be >= 0", exponent.getMessage());
+        var pair = assertThrows(IllegalArgumentException.class,
+                () -> GaussianMixture.zipf(1, 1, new double[]{0, 0, 0}));
+        assertEquals("centers must be {x, y} pairs", pair.getMessage());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.coordinate;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GaussianSamplerTest {
+
+    @Test
+    void shouldDrawStandardNormalPairs() {
+        var random = new DefaultRandom(3);
+        var pair = new double[2];
+        var n = 100_000;
+        double sum0 = 0, sum1 = 0, squares0 = 0, squares1 = 0, products = 0;
+        for (int i = 0; i < n; i++) {
+            GaussianSampler.standardNormalPair(random, pair);
+            assertTrue(Double.isFinite(pair[0]) && Double.isFinite(pair[1]));
+            sum0 += pair[0];
+            sum1 += pair[1];
+            squares0 += pair[0] * pair[0];
+            squares1 += pair[1] * pair[1];
+            products += pair[0] * pair[1];
+        }
+        assertEquals(0, sum0 / n, 0.02);
+        assertEquals(0, sum1 / n, 0.02);
+        assertEquals(1, squares0 / n, 0.03);
+        assertEquals(1, squares1 / n, 0.03);
+        assertEquals(0, products / n, 0.02);
+    }
+
+    @Test
+    void shouldBeReproducibleForASeed() {
+        var first = new double[2];
+        var second = new double[2];
+        GaussianSampler.standardNormalPair(new DefaultRandom(42), first);
+        GaussianSampler.standardNormalPair(new DefaultRandom(42), second);
+        assertArrayEquals(first, second);
+    }
+}
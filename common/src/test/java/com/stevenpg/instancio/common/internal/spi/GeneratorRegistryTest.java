@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.common.internal.spi;
+
+import org.instancio.generator.Generator;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeneratorRegistryTest {
+
+    interface Shape {
+    }
+
+    interface Lineal extends Shape {
+    }
+
+    static class Point implements Shape, Serializable {
+    }
+
+    static class Line implements Lineal {
+    }
+
+    static class Ring extends Line {
+    }
+
+    static class Unregistered {
+    }
+
+    /** Stands in for a third-party base class such as PGobject that a registered class extends. */
+    static class ThirdPartyBase {
+    }
+
+    static class Box extends ThirdPartyBase {
+    }
+
+    private final Generator<Point> pointGenerator = random -> new Point();
+    private final Generator<Line> lineGenerator = random -> new Line();
+    private final Generator<Ring> ringGenerator = random -> new Ring();
+
+    private GeneratorRegistry registry() {
+        return GeneratorRegistry.builder()
+                .register(Point.class, pointGenerator, Shape.class)
+                .register(Line.class, lineGenerator, Lineal.class, Shape.class)
+                .register(Ring.class, ringGenerator)
+                .build();
+    }
+
+    @Test
+    void shouldResolveExactRegistration() {
+        var registry = registry();
+        assertSame(pointGenerator, registry.resolve(Point.class));
+        assertSame(lineGenerator, registry.resolve(Line.class));
+        assertSame(ringGenerator, registry.resolve(Ring.class));
+    }
+
+    @Test
+    void shouldResolveDeclaredSupertypeToFirstDeclaringRegistration() {
+        var registry = registry();
+        assertSame(pointGenerator, registry.resolve(Shape.class));
+        assertSame(lineGenerator, registry.resolve(Lineal.class));
+    }
+
+    @Test
+    void shouldFollowRegistrationOrderForSupertypes() {
+        var registry = GeneratorRegistry.builder()
+                .register(Ring.class, ringGenerator, Lineal.class)
+                .register(Line.class, lineGenerator, Lineal.class)
+                .build();
+        assertSame(ringGenerator, registry.resolve(Lineal.class));
+        assertSame(lineGenerator, registry.resolve(Line.class));
+    }
+
+    @Test
+    void shouldNotResolveUnregisteredSubclass() {
+        var registry = GeneratorRegistry.builder()
+                .register(Line.class, lineGenerator)
+                .build();
+        // A Line generator cannot produce a Ring, so the subclass must stay unresolved
+        assertNull(registry.resolve(Ring.class));
+    }
+
+    @Test
+    void shouldNotResolveUndeclaredSupertypes() {
+        var registry = GeneratorRegistry.builder()
+                .register(Box.class, random -> new Box())
+                .register(Line.class, lineGenerator)
+                .build();
+        assertNull(registry.resolve(ThirdPartyBase.class));
+        assertNull(registry.resolve(Lineal.class));
+        assertNull(registry.resolve(Shape.class));
+    }
+
+    @Test
+    void shouldRejectSupertypeThatIsNotASupertype() {
+        var builder = GeneratorRegistry.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.register(Point.class, pointGenerator, Lineal.class));
+        assertThrows(IllegalArgumentException.class, () -> builder.register(Point.class, pointGenerator, Point.class));
+    }
+
+    @Test
+    void shouldNotClaimJdkSupertypes() {
+        var registry = registry();
+        assertNull(registry.resolve(Object.class));
+        assertNull(registry.resolve(Serializable.class));
+        assertNull(registry.resolve(int.class));
+        assertNull(registry.resolve(Point[].class));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownOrNullType() {
+        var registry = registry();
+        assertNull(registry.resolve(Unregistered.class));
+        assertNull(registry.resolve(Unregistered.class));
+        assertNull(registry.resolve(null));
+    }
+
+    @Test
+    void shouldKeepRegistrationOrder() {
+        assertEquals(List.of(Point.class, Line.class, Ring.class), new ArrayList<>(registry().generators().keySet()));
+    }
+
+    @Test
+    void shouldRejectDuplicateRegistration() {
+        var builder = GeneratorRegistry.builder().register(Point.class, pointGenerator);
+        assertThrows(IllegalArgumentException.class, () -> builder.register(Point.class, pointGenerator));
+    }
+
+    @Test
+    void shouldRejectNullRegistration() {
+        var builder = GeneratorRegistry.builder();
+        assertThrows(NullPointerException.class, () -> builder.register(null, pointGenerator));
+        assertThrows(NullPointerException.class, () -> builder.register(Point.class, null));
+    }
+
+    @Test
+    void shouldResolveConsistentlyAcrossThreads() throws Exception {
+        var registry = registry();
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<Generator<?>>>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> registry.resolve(Lineal.class));
+            }
+            for (Future<Generator<?>> result : executor.invokeAll(tasks)) {
+                assertSame(lineGenerator, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -4,5 +4,6 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("com.esri.geometry:esri-geometry-api:2.2.4")
 }
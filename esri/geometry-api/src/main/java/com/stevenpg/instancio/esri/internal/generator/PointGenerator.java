@@ -17,6 +17,7 @@
 package com.stevenpg.instancio.esri.internal.generator;
 
 import com.esri.core.geometry.Point;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import com.stevenpg.instancio.esri.internal.generator.specs.NumericRangeSpec;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
@@ -32,10 +33,7 @@ import org.instancio.generator.Generator;
  */
 public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointGenerator> {
 
-    private double minX = -180;
-    private double maxX = 180;
-    private double minY = -90;
-    private double maxY = 90;
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
 
     /**
      * Default constructor.
@@ -47,16 +45,14 @@ public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointG
     /** {@inheritDoc} */
     @Override
     public PointGenerator xRange(double minX, double maxX) {
-        this.minX = minX;
-        this.maxX = maxX;
+        this.kernel = kernel.withXRange(minX, maxX);
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     public PointGenerator yRange(double minY, double maxY) {
-        this.minY = minY;
-        this.maxY = maxY;
+        this.kernel = kernel.withYRange(minY, maxY);
         return this;
     }
 
@@ -69,8 +65,8 @@ public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointG
     @Override
     public Point generate(Random random) {
         return new Point(
-                random.doubleRange(minX, maxX),
-                random.doubleRange(minY, maxY)
+                kernel.x(random),
+                kernel.y(random)
         );
     }
 }
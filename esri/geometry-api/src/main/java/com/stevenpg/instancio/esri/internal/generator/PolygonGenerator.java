@@ -17,6 +17,8 @@
 package com.stevenpg.instancio.esri.internal.generator;
 
 import com.esri.core.geometry.Polygon;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateBuffer;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import com.stevenpg.instancio.esri.internal.generator.specs.NumericRangeSpec;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
@@ -30,16 +32,14 @@ import org.instancio.generator.Generator;
  * closes the ring by connecting the last vertex back to the first.</p>
  *
  * <p>The number of vertices is randomly chosen between {@code minVertices}
- * and {@code maxVertices} (defaults: 3 to 8).</p>
+ * and {@code maxVertices} (defaults: 3 to 8). The vertices are drawn in one pass
+ * into a {@link CoordinateBuffer} and then copied into the path.</p>
  *
  * @since 1.0.0
  */
 public class PolygonGenerator implements Generator<Polygon>, NumericRangeSpec<PolygonGenerator> {
 
-    private double minX = -180;
-    private double maxX = 180;
-    private double minY = -90;
-    private double maxY = 90;
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
     private int minVertices = 3;
     private int maxVertices = 8;
 
@@ -53,16 +53,14 @@ public class PolygonGenerator implements Generator<Polygon>, NumericRangeSpec<Po
     /** {@inheritDoc} */
     @Override
     public PolygonGenerator xRange(double minX, double maxX) {
-        this.minX = minX;
-        this.maxX = maxX;
+        this.kernel = kernel.withXRange(minX, maxX);
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     public PolygonGenerator yRange(double minY, double maxY) {
-        this.minY = minY;
-        this.maxY = maxY;
+        this.kernel = kernel.withYRange(minY, maxY);
         return this;
     }
 
@@ -92,19 +90,14 @@ public class PolygonGenerator implements Generator<Polygon>, NumericRangeSpec<Po
     public Polygon generate(Random random) {
         Polygon pg = new Polygon();
         int count = random.intRange(minVertices, maxVertices);
+        CoordinateBuffer ring = kernel.fill(CoordinateBuffer.xy(count), random);
+        double[] xs = ring.x();
+        double[] ys = ring.y();
 
-        // Start the ring with the first vertex
-        pg.startPath(
-                random.doubleRange(minX, maxX),
-                random.doubleRange(minY, maxY)
-        );
-
-        // Add remaining vertices; the polygon auto-closes
+        // Start the ring with the first vertex, then add the rest; the polygon auto-closes
+        pg.startPath(xs[0], ys[0]);
         for (int i = 1; i < count; i++) {
-            pg.lineTo(
-                    random.doubleRange(minX, maxX),
-                    random.doubleRange(minY, maxY)
-            );
+            pg.lineTo(xs[i], ys[i]);
         }
 
         return pg;
@@ -17,20 +17,17 @@
 package com.stevenpg.instancio.esri.internal.spi;
 
 import com.esri.core.geometry.Envelope;
+import com.esri.core.geometry.Geometry;
+import com.esri.core.geometry.MultiPath;
 import com.esri.core.geometry.MultiPoint;
 import com.esri.core.geometry.Point;
 import com.esri.core.geometry.Polygon;
 import com.esri.core.geometry.Polyline;
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.esri.internal.generator.*;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI Provider that enables Instancio to automatically generate
  * ESRI Geometry API objects.
@@ -43,6 +40,14 @@ import java.util.Map;
  */
 public class EsriGeometryServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            .register(Point.class, new PointGenerator(), Geometry.class)
+            .register(MultiPoint.class, new MultiPointGenerator())
+            .register(Envelope.class, new EnvelopeGenerator())
+            .register(Polyline.class, new PolylineGenerator(), MultiPath.class)
+            .register(Polygon.class, new PolygonGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -57,14 +62,6 @@ public class EsriGeometryServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> generators = new HashMap<>();
-
-        generators.put(Point.class, new PointGenerator());
-        generators.put(MultiPoint.class, new MultiPointGenerator());
-        generators.put(Envelope.class, new EnvelopeGenerator());
-        generators.put(Polyline.class, new PolylineGenerator());
-        generators.put(Polygon.class, new PolygonGenerator());
-
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
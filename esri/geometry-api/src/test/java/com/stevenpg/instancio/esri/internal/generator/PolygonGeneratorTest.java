@@ -18,6 +18,8 @@ package com.stevenpg.instancio.esri.internal.generator;
 
 import com.esri.core.geometry.Point;
 import com.esri.core.geometry.Polygon;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateBuffer;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import org.instancio.Instancio;
 import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
@@ -73,4 +75,23 @@ class PolygonGeneratorTest {
                     "Vertex[" + i + "] Y coordinate should be within WGS84 latitude bounds [-90, 90], was: " + pt.getY());
         }
     }
+
+    @Test
+    void verticesMatchCoordinateKernelForSameSeed() {
+        var result = new PolygonGenerator()
+                .xRange(-50, 50)
+                .yRange(-25, 25)
+                .vertices(6, 6)
+                .generate(new DefaultRandom(42L));
+
+        var random = new DefaultRandom(42L);
+        random.intRange(6, 6);
+        var expected = CoordinateKernel.WGS84.withXRange(-50, 50).withYRange(-25, 25)
+                .fill(CoordinateBuffer.xy(6), random);
+        for (int i = 0; i < expected.size(); i++) {
+            Point pt = result.getPoint(i);
+            assertEquals(expected.x()[i], pt.getX());
+            assertEquals(expected.y()[i], pt.getY());
+        }
+    }
 }
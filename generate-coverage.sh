@@ -18,6 +18,7 @@ fi
 OUTPUT="COVERAGE.md"
 
 MODULE_NAMES=(
+    "instancio-gis-common"
     "locationtech-core"
     "locationtech-spatial4j"
     "locationtech-proj4j"
@@ -29,6 +30,7 @@ MODULE_NAMES=(
     "uber-h3"
 )
 MODULE_PATHS=(
+    "common/build/reports/jacoco/test/jacocoTestReport.xml"
     "locationtech/jts/core/build/reports/jacoco/test/jacocoTestReport.xml"
     "locationtech/spatial4j/build/reports/jacoco/test/jacocoTestReport.xml"
     "locationtech/proj4j/build/reports/jacoco/test/jacocoTestReport.xml"
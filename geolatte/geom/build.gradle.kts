@@ -4,5 +4,6 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("org.geolatte:geolatte-geom:1.10")
 }
@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.geolatte.internal.generator;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import com.stevenpg.instancio.geolatte.internal.generator.specs.NumericRangeSpec;
 import org.geolatte.geom.G2D;
 import org.geolatte.geom.Point;
@@ -35,10 +36,7 @@ import static org.geolatte.geom.crs.CoordinateReferenceSystems.WGS84;
 @SuppressWarnings("rawtypes")
 public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointGenerator> {
 
-    private double minX = -180;
-    private double maxX = 180;
-    private double minY = -90;
-    private double maxY = 90;
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
 
     /**
      * Default constructor.
@@ -49,15 +47,13 @@ public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointG
 
     @Override
     public PointGenerator xRange(final double minX, final double maxX) {
-        this.minX = minX;
-        this.maxX = maxX;
+        this.kernel = kernel.withXRange(minX, maxX);
         return this;
     }
 
     @Override
     public PointGenerator yRange(final double minY, final double maxY) {
-        this.minY = minY;
-        this.maxY = maxY;
+        this.kernel = kernel.withYRange(minY, maxY);
         return this;
     }
 
@@ -70,8 +66,8 @@ public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointG
     @Override
     @SuppressWarnings("unchecked")
     public Point generate(final Random random) {
-        double x = random.doubleRange(minX, maxX);
-        double y = random.doubleRange(minY, maxY);
+        double x = kernel.x(random);
+        double y = kernel.y(random);
         return point(WGS84, g(x, y));
     }
 }
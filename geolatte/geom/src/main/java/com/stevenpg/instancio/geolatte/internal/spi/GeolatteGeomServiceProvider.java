@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.geolatte.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.geolatte.internal.generator.GeometryCollectionGenerator;
 import com.stevenpg.instancio.geolatte.internal.generator.LineStringGenerator;
 import com.stevenpg.instancio.geolatte.internal.generator.LinearRingGenerator;
@@ -24,6 +25,7 @@ import com.stevenpg.instancio.geolatte.internal.generator.MultiPointGenerator;
 import com.stevenpg.instancio.geolatte.internal.generator.MultiPolygonGenerator;
 import com.stevenpg.instancio.geolatte.internal.generator.PointGenerator;
 import com.stevenpg.instancio.geolatte.internal.generator.PolygonGenerator;
+import org.geolatte.geom.Geometry;
 import org.geolatte.geom.GeometryCollection;
 import org.geolatte.geom.LineString;
 import org.geolatte.geom.LinearRing;
@@ -32,15 +34,9 @@ import org.geolatte.geom.MultiPoint;
 import org.geolatte.geom.MultiPolygon;
 import org.geolatte.geom.Point;
 import org.geolatte.geom.Polygon;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI Provider that enables Instancio to generate Geolatte Geom geometries.
  * Registers generators for all supported Geolatte geometry types using raw types
@@ -50,6 +46,17 @@ import java.util.Map;
  */
 public class GeolatteGeomServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            .register(Point.class, new PointGenerator(), Geometry.class)
+            .register(LineString.class, new LineStringGenerator())
+            .register(LinearRing.class, new LinearRingGenerator())
+            .register(Polygon.class, new PolygonGenerator())
+            .register(MultiPoint.class, new MultiPointGenerator())
+            .register(MultiLineString.class, new MultiLineStringGenerator())
+            .register(MultiPolygon.class, new MultiPolygonGenerator())
+            .register(GeometryCollection.class, new GeometryCollectionGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -64,17 +71,6 @@ public class GeolatteGeomServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> generators = new HashMap<>();
-
-        generators.put(Point.class, new PointGenerator());
-        generators.put(LineString.class, new LineStringGenerator());
-        generators.put(LinearRing.class, new LinearRingGenerator());
-        generators.put(Polygon.class, new PolygonGenerator());
-        generators.put(MultiPoint.class, new MultiPointGenerator());
-        generators.put(MultiLineString.class, new MultiLineStringGenerator());
-        generators.put(MultiPolygon.class, new MultiPolygonGenerator());
-        generators.put(GeometryCollection.class, new GeometryCollectionGenerator());
-
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
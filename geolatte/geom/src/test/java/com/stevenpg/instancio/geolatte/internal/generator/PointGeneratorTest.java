@@ -16,6 +16,8 @@
 
 package com.stevenpg.instancio.geolatte.internal.generator;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateBuffer;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import org.geolatte.geom.G2D;
 import org.geolatte.geom.Point;
 import org.instancio.Instancio;
@@ -23,6 +25,7 @@ import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -68,4 +71,17 @@ class PointGeneratorTest {
         assertTrue(position.getLat() >= -90 && position.getLat() <= 90,
                 "Latitude must be within [-90, 90], was: " + position.getLat());
     }
+
+    @Test
+    void sequenceMatchesCoordinateKernelForSameSeed() {
+        var generator = new PointGenerator();
+        var random = new DefaultRandom(42L);
+        var expected = CoordinateKernel.WGS84.fill(CoordinateBuffer.xy(20), new DefaultRandom(42L));
+
+        for (int i = 0; i < expected.size(); i++) {
+            var position = (G2D) generator.generate(random).getPosition();
+            assertEquals(expected.x()[i], position.getLon());
+            assertEquals(expected.y()[i], position.getLat());
+        }
+    }
 }
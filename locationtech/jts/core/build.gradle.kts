@@ -4,5 +4,6 @@ plugins {
 }
 
 dependencies {
+    api(project(":instancio-gis-common"))
     implementation("org.locationtech.jts:jts-core:1.20.0")
 }
@@ -17,7 +17,14 @@
 package com.stevenpg.instancio.locationtech.core;
 
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.*;
+import com.stevenpg.instancio.locationtech.core.internal.generator.batch.BatchGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.CoordinateArraySequenceGenerator;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.function.Supplier;
 
 /**
  * Facade for accessing LocationTech JTS geometry generators.
@@ -134,6 +141,14 @@ public class GenLocationtechJtsCore {
      * Point point = GenLocationtechJtsCore.point()
      *     .within(new Envelope(-0.15, -0.05, 51.49, 51.53))
      *     .generate(random);
+     *
+     * // Cluster points around two city centers, three quarters of them around the first
+     * Point clustered = GenLocationtechJtsCore.point()
+     *     .distribution(SpatialDistribution.gaussianMixture()
+     *         .cluster(-0.12, 51.51, 0.05, 3)
+     *         .cluster(2.35, 48.86, 0.05, 1)
+     *         .build())
+     *     .generate(random);
      * }</pre>
      *
      * @return generator spec
@@ -152,6 +167,26 @@ public class GenLocationtechJtsCore {
         return new MultiLineStringGenerator();
     }
 
+    /**
+     * Access to the Generator for road networks as org.locationtech.jts.geom.MultiLineString.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * // A connected street grid of about a thousand intersections, a third of the optional edges removed
+     * MultiLineString roads = GenLocationtechJtsCore.roadNetwork()
+     *     .nodes(1_000)
+     *     .pruning(0.3)
+     *     .within(new Envelope(-122.5, -122.3, 37.7, 37.8))
+     *     .generate(random);
+     * }</pre>
+     *
+     * @return generator
+     * @since 1.0.0
+     */
+    public static RoadNetworkGenerator roadNetwork() {
+        return new RoadNetworkGenerator();
+    }
+
     /**
      * Access to the Generator for org.locationtech.jts.geom.MultiPoint.
      * @return generator
@@ -161,6 +196,27 @@ public class GenLocationtechJtsCore {
         return new MultiPointGenerator();
     }
 
+    /**
+     * Access to the Generator for GPS trajectories as org.locationtech.jts.geom.LineString.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * // Generate a one-hertz vehicle track with timestamps in M
+     * LineString track = GenLocationtechJtsCore.trajectory()
+     *     .length(3600)
+     *     .speed(0, 35)
+     *     .timestamps(Instant.parse("2024-06-01T08:00:00Z"))
+     *     .within(new Envelope(-122.5, -122.3, 37.7, 37.8))
+     *     .generate(random);
+     * }</pre>
+     *
+     * @return generator
+     * @since 1.0.0
+     */
+    public static TrajectoryGenerator trajectory() {
+        return new TrajectoryGenerator();
+    }
+
     /**
      * Access to the Generator for org.locationtech.jts.geom.Envelope.
      *
@@ -249,6 +305,117 @@ public class GenLocationtechJtsCore {
         return new GeometryGenerator();
     }
 
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.Point values
+     * from a single default PointGenerator.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Point[] points = GenLocationtechJtsCore.points(1_000_000).generate(random);
+     * }</pre>
+     *
+     * @param count number of points to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<Point> points(int count) {
+        return points(PointGenerator::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.Point values.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Stream<Point> points = GenLocationtechJtsCore
+     *     .points(() -> GenLocationtechJtsCore.point().within(envelope), 1_000_000)
+     *     .stream(random);
+     * }</pre>
+     *
+     * @param generatorSupplier supplies the configured generator used for the batch
+     * @param count number of points to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<Point> points(Supplier<PointGenerator> generatorSupplier, int count) {
+        return new BatchGenerator<>(generatorSupplier, Point[]::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.LineString values
+     * from a single default LineStringGenerator.
+     * @param count number of line strings to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<LineString> lineStrings(int count) {
+        return lineStrings(LineStringGenerator::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.LineString values.
+     * @param generatorSupplier supplies the configured generator used for the batch
+     * @param count number of line strings to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<LineString> lineStrings(Supplier<LineStringGenerator> generatorSupplier, int count) {
+        return new BatchGenerator<>(generatorSupplier, LineString[]::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.Polygon values
+     * from a single default PolygonGenerator.
+     * @param count number of polygons to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<Polygon> polygons(int count) {
+        return polygons(PolygonGenerator::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.Polygon values.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Polygon[] polygons = new Polygon[10_000];
+     * GenLocationtechJtsCore
+     *     .polygons(() -> GenLocationtechJtsCore.polygon().vertices(16), polygons.length)
+     *     .fill(polygons, random);
+     * }</pre>
+     *
+     * @param generatorSupplier supplies the configured generator used for the batch
+     * @param count number of polygons to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<Polygon> polygons(Supplier<PolygonGenerator> generatorSupplier, int count) {
+        return new BatchGenerator<>(generatorSupplier, Polygon[]::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.Geometry values
+     * from a single default GeometryGenerator.
+     * @param count number of geometries to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<Geometry> geometries(int count) {
+        return geometries(GeometryGenerator::new, count);
+    }
+
+    /**
+     * Access to a batch Generator producing many org.locationtech.jts.geom.Geometry values.
+     * @param generatorSupplier supplies the configured generator used for the batch
+     * @param count number of geometries to generate
+     * @return batch generator
+     * @since 1.0.0
+     */
+    public static BatchGenerator<Geometry> geometries(Supplier<GeometryGenerator> generatorSupplier, int count) {
+        return new BatchGenerator<>(generatorSupplier, Geometry[]::new, count);
+    }
+
     private GenLocationtechJtsCore() {
         // private constructor to prevent instantiation
     }
@@ -16,16 +16,17 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateSpec;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 
-import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLonLatInBounds;
-
 /**
  * Generator for creating a Coordinate.
  *
@@ -35,7 +36,7 @@ public class CoordinateGenerator implements CoordinateSpec, EnvelopableGenerator
 
     private Double inputLatitude;
     private Double inputLongitude;
-    private Envelope inputEnvelope;
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
 
     /**
      * Default constructor.
@@ -58,19 +59,30 @@ public class CoordinateGenerator implements CoordinateSpec, EnvelopableGenerator
 
     @Override
     public Generator<Coordinate> within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.kernel = WithinUtility.kernel(validGenerationAreaEnvelope, kernel.distribution());
+        return this;
+    }
+
+    @Override
+    public CoordinateGenerator distribution(SpatialDistribution distribution) {
+        this.kernel = kernel.withDistribution(distribution);
         return this;
     }
 
     @Override
     public Coordinate generate(Random random) {
-        if(envelopeProvided() && !coordinateProvided()) {
-            var lonLat = randomLonLatInBounds(random, inputEnvelope);
-            return new Coordinate(lonLat.longitude(), lonLat.latitude());
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
+        if(!coordinateProvided()) {
+            var xy = new double[2];
+            kernel.xy(random, xy);
+            return new Coordinate(xy[0], xy[1]);
         } else {
             return new Coordinate(
-                    inputLongitude == null ? Instancio.gen().spatial().coordinate().lon().get() : inputLongitude,
-                    inputLatitude == null ? Instancio.gen().spatial().coordinate().lat().get() : inputLatitude
+                    inputLongitude == null ? CoordinateKernel.WGS84.x(random) : inputLongitude,
+                    inputLatitude == null ? CoordinateKernel.WGS84.y(random) : inputLatitude
             );
         }
     }
@@ -78,8 +90,4 @@ public class CoordinateGenerator implements CoordinateSpec, EnvelopableGenerator
     private boolean coordinateProvided() {
         return inputLatitude != null || inputLongitude != null;
     }
-
-    private boolean envelopeProvided() {
-        return inputEnvelope != null;
-    }
 }
@@ -36,8 +36,9 @@ import java.util.List;
 public class CoordinateListGenerator implements CoordinateListSpec, CoordinateListGeneratorSpec,
         Generator<CoordinateList>, EnvelopableGenerator<CoordinateList> {
 
+    private final CoordinateGenerator coordinateGenerator = new CoordinateGenerator();
+
     private List<Coordinate> providedCoordinates;
-    private Envelope inputEnvelope;
 
     // Default 1..10 to mirror other generators
     private int minLength = 1;
@@ -90,7 +91,7 @@ public class CoordinateListGenerator implements CoordinateListSpec, CoordinateLi
 
     @Override
     public Generator<CoordinateList> within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.coordinateGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -109,12 +110,8 @@ public class CoordinateListGenerator implements CoordinateListSpec, CoordinateLi
         }
 
         final List<Coordinate> coords = new ArrayList<>(count);
-        final CoordinateGenerator coordinateGen = new CoordinateGenerator();
-        if (inputEnvelope != null) {
-            coordinateGen.within(inputEnvelope);
-        }
         for (int i = 0; i < count; i++) {
-            coords.add(coordinateGen.generate(random));
+            coords.add(coordinateGenerator.generate(random));
         }
         return new CoordinateList(coords.toArray(new Coordinate[0]));
     }
@@ -38,13 +38,6 @@ public class CoordinateSequenceGenerator implements CoordinateSequenceSpec, Coor
             = new PackedCoordinateSequenceGenerator();
 
     private CoordinateSequence coordinateSequence;
-    private Envelope inputEnvelope;
-
-    // Default 1..10 to preserve current behavior
-    private int minLength = 1;
-    private int maxLength = 10;
-    // When set, overrides min/max
-    private Integer fixedLength;
 
     /**
      * Default constructor.
@@ -73,9 +66,8 @@ public class CoordinateSequenceGenerator implements CoordinateSequenceSpec, Coor
         if (coordinateSequence != null && coordinateSequence.toCoordinateArray().length != 0) {
             throw new IllegalArgumentException("can't specify length and coordinate sequence");
         }
-        this.fixedLength = length;
-        this.minLength = length;
-        this.maxLength = length;
+        coordinateArraySequenceGenerator.length(length);
+        packedCoordinateSequenceGenerator.length(length);
         return this;
     }
 
@@ -97,15 +89,15 @@ public class CoordinateSequenceGenerator implements CoordinateSequenceSpec, Coor
         if (coordinateSequence != null && coordinateSequence.toCoordinateArray().length != 0) {
             throw new IllegalArgumentException("can't specify length and coordinate sequence");
         }
-        this.fixedLength = null;
-        this.minLength = min;
-        this.maxLength = max;
+        coordinateArraySequenceGenerator.length(min, max);
+        packedCoordinateSequenceGenerator.length(min, max);
         return this;
     }
 
     @Override
     public Generator<CoordinateSequence> within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        coordinateArraySequenceGenerator.within(validGenerationAreaEnvelope);
+        packedCoordinateSequenceGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -116,17 +108,9 @@ public class CoordinateSequenceGenerator implements CoordinateSequenceSpec, Coor
             return coordinateSequence;
         } else {
             if (randomInteger % 2 == 0) {
-                if (fixedLength != null) {
-                    return coordinateArraySequenceGenerator.within(this.inputEnvelope).length(fixedLength).generate(random);
-                } else {
-                    return coordinateArraySequenceGenerator.within(this.inputEnvelope).length(minLength, maxLength).generate(random);
-                }
+                return coordinateArraySequenceGenerator.generate(random);
             } else {
-                if (fixedLength != null) {
-                    return packedCoordinateSequenceGenerator.within(this.inputEnvelope).length(fixedLength).generate(random);
-                } else {
-                    return packedCoordinateSequenceGenerator.within(this.inputEnvelope).length(minLength, maxLength).generate(random);
-                }
+                return packedCoordinateSequenceGenerator.generate(random);
             }
         }
     }
@@ -20,12 +20,14 @@ import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.Lat
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateXYGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateXYSpec;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.CoordinateXY;
 import org.locationtech.jts.geom.Envelope;
 
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLongitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLatitude;
 import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLonLatInBounds;
 
 /**
@@ -62,13 +64,17 @@ public class CoordinateXYGenerator extends LatLonEnvelopableBaseGenerator implem
 
     @Override
     public CoordinateXY generate(Random random) {
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
         if(envelopeProvided() && coordinateMissing()) {
             var lonLat = randomLonLatInBounds(random, getInputEnvelope());
             return new CoordinateXY(lonLat.longitude(), lonLat.latitude());
         } else {
             return new CoordinateXY(
-                    getInputLongitude() == null ? Instancio.gen().spatial().coordinate().lon().get() : getInputLongitude(),
-                    getInputLatitude() == null ? Instancio.gen().spatial().coordinate().lat().get() : getInputLatitude()
+                    getInputLongitude() == null ? randomLongitude(random) : getInputLongitude(),
+                    getInputLatitude() == null ? randomLatitude(random) : getInputLatitude()
             );
         }
     }
@@ -20,12 +20,15 @@ import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.Lat
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateXYMGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateXYMSpec;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.CoordinateXYM;
 import org.locationtech.jts.geom.Envelope;
 
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLongitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLatitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomOrdinate;
 import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLonLatInBounds;
 
 /**
@@ -70,15 +73,19 @@ public class CoordinateXYMGenerator extends LatLonEnvelopableBaseGenerator imple
 
     @Override
     public CoordinateXYM generate(Random random) {
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
         if (envelopeProvided() && coordinateMissing()) {
             var lonLat = randomLonLatInBounds(random, getInputEnvelope());
             return new CoordinateXYM(lonLat.longitude(), lonLat.latitude(),
-                    measure == null ? Instancio.gen().doubles().get() : measure);
+                    measure == null ? randomOrdinate(random) : measure);
         } else {
             return new CoordinateXYM(
-                    getInputLongitude() == null ? Instancio.gen().spatial().coordinate().lon().get() : getInputLongitude(),
-                    getInputLatitude() == null ? Instancio.gen().spatial().coordinate().lat().get() : getInputLatitude(),
-                    measure == null ? Instancio.gen().doubles().get() : measure
+                    getInputLongitude() == null ? randomLongitude(random) : getInputLongitude(),
+                    getInputLatitude() == null ? randomLatitude(random) : getInputLatitude(),
+                    measure == null ? randomOrdinate(random) : measure
             );
         }
     }
@@ -20,12 +20,15 @@ import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.Lat
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateXYZMGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.CoordinateXYZMSpec;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.CoordinateXYZM;
 import org.locationtech.jts.geom.Envelope;
 
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLongitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLatitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomOrdinate;
 import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLonLatInBounds;
 
 /**
@@ -77,17 +80,21 @@ public class CoordinateXYZMGenerator extends LatLonEnvelopableBaseGenerator impl
 
     @Override
     public CoordinateXYZM generate(Random random) {
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
         if (envelopeProvided() && coordinateMissing()) {
             var lonLat = randomLonLatInBounds(random, getInputEnvelope());
             return new CoordinateXYZM(lonLat.longitude(), lonLat.latitude(),
-                    inputAltitude == null ? Instancio.gen().doubles().get() : inputAltitude,
-                    measure == null ? Instancio.gen().doubles().get() : measure);
+                    inputAltitude == null ? randomOrdinate(random) : inputAltitude,
+                    measure == null ? randomOrdinate(random) : measure);
         } else {
             return new CoordinateXYZM(
-                    getInputLongitude() == null ? Instancio.gen().spatial().coordinate().lon().get() : getInputLongitude(),
-                    getInputLatitude() == null ? Instancio.gen().spatial().coordinate().lat().get() : getInputLatitude(),
-                    inputAltitude == null ? Instancio.gen().doubles().get() : inputAltitude,
-                    measure == null ? Instancio.gen().doubles().get() : measure
+                    getInputLongitude() == null ? randomLongitude(random) : getInputLongitude(),
+                    getInputLatitude() == null ? randomLatitude(random) : getInputLatitude(),
+                    inputAltitude == null ? randomOrdinate(random) : inputAltitude,
+                    measure == null ? randomOrdinate(random) : measure
             );
         }
     }
@@ -18,12 +18,15 @@ package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.EnvelopeGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.EnvelopeSpec;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLongitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLatitude;
+
 /**
  * Generator for creating an Envelope.
  * @since 1.0.0
@@ -99,6 +102,10 @@ public class EnvelopeGenerator implements EnvelopeSpec, EnvelopeGeneratorSpec, G
 
     @Override
     public Envelope generate(Random random) {
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
         // If a specific envelope is provided, return a copy
         if (inputEnvelope != null) {
             return new Envelope(inputEnvelope);
@@ -120,11 +127,11 @@ public class EnvelopeGenerator implements EnvelopeSpec, EnvelopeGeneratorSpec, G
         }
 
         // Default: generate random envelope
-        // Generate two random coordinates using Instancio spatial generators
-        double x1 = Instancio.gen().spatial().coordinate().lon().get();
-        double y1 = Instancio.gen().spatial().coordinate().lat().get();
-        double x2 = Instancio.gen().spatial().coordinate().lon().get();
-        double y2 = Instancio.gen().spatial().coordinate().lat().get();
+        // Generate two random coordinates from the supplied random so seeded runs are repeatable
+        double x1 = randomLongitude(random);
+        double y1 = randomLatitude(random);
+        double x2 = randomLongitude(random);
+        double y2 = randomLatitude(random);
 
         // Ensure proper min/max ordering
         return new Envelope(
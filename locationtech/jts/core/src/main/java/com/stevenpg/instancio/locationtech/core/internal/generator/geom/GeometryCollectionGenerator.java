@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.HilbertUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.GeometryCollectionGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.GeometryCollectionSpec;
@@ -38,14 +39,21 @@ public class GeometryCollectionGenerator implements GeometryCollectionSpec, Geom
 
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
 
+    private final PointGenerator pointGenerator = new PointGenerator();
+    private final LineStringGenerator lineStringGenerator = new LineStringGenerator();
+    private final PolygonGenerator polygonGenerator = new PolygonGenerator();
+    private final MultiPointGenerator multiPointGenerator = new MultiPointGenerator();
+    private final MultiLineStringGenerator multiLineStringGenerator = new MultiLineStringGenerator();
+    private final MultiPolygonGenerator multiPolygonGenerator = new MultiPolygonGenerator();
+
     private GeometryFactory inputGeometryFactory;
-    private Envelope inputEnvelope;
     private Integer inputLength;
     private List<Geometry> inputGeometries;
     private MultiPoint inputMultiPoint;
     private MultiLineString inputMultiLineString;
     private MultiPolygon inputMultiPolygon;
     private GeometryCollection inputGeometryCollection;
+    private boolean hilbertSorted;
 
     /**
      * Default constructor.
@@ -96,9 +104,21 @@ public class GeometryCollectionGenerator implements GeometryCollectionSpec, Geom
         return this;
     }
 
+    @Override
+    public GeometryCollectionGenerator hilbertSorted() {
+        this.hilbertSorted = true;
+        this.multiPointGenerator.hilbertSorted();
+        return this;
+    }
+
     @Override
     public GeometryCollectionGenerator within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        pointGenerator.within(validGenerationAreaEnvelope);
+        lineStringGenerator.within(validGenerationAreaEnvelope);
+        polygonGenerator.within(validGenerationAreaEnvelope);
+        multiPointGenerator.within(validGenerationAreaEnvelope);
+        multiLineStringGenerator.within(validGenerationAreaEnvelope);
+        multiPolygonGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -118,71 +138,59 @@ public class GeometryCollectionGenerator implements GeometryCollectionSpec, Geom
             return new GeometryCollection(inputGeometries.toArray(new Geometry[0]), gf);
         }
 
-        final boolean hasEnvelope = inputEnvelope != null;
-
         // If a length was specified, prefer generating a heterogeneous collection deterministically
         if (inputLength != null) {
-            int count = inputLength;
-            List<Geometry> members = new ArrayList<>(count);
-
-            var pointGen = new PointGenerator();
-            var lineGen = new LineStringGenerator();
-            var polyGen = new PolygonGenerator();
-
-            for (int i = 0; i < count; i++) {
-                int typeChoice = random.intRange(0, 2);
-                switch (typeChoice) {
-                    case 0 -> members.add(hasEnvelope ? pointGen.within(inputEnvelope).generate(random) : pointGen.generate(random));
-                    case 1 -> members.add(hasEnvelope ? lineGen.within(inputEnvelope).generate(random) : lineGen.generate(random));
-                    default -> members.add(hasEnvelope ? polyGen.within(inputEnvelope).generate(random) : polyGen.generate(random));
-                }
-            }
-            return new GeometryCollection(members.toArray(new Geometry[0]), gf);
+            return generateHeterogeneous(inputLength, random, gf);
         }
 
         // Choose a generation mode: 0 = heterogeneous GC, 1 = MultiPoint, 2 = MultiLineString, 3 = MultiPolygon
         int choice = random.intRange(0, 3);
 
-        switch (choice) {
-            case 1: {
-                var gen = new MultiPointGenerator();
-                return hasEnvelope ? gen.within(inputEnvelope).generate(random) : gen.generate(random);
-            }
-            case 2: {
-                var gen = new MultiLineStringGenerator();
-                return hasEnvelope ? gen.within(inputEnvelope).generate(random) : gen.generate(random);
-            }
-            case 3: {
-                var gen = new MultiPolygonGenerator();
-                return hasEnvelope ? gen.within(inputEnvelope).generate(random) : gen.generate(random);
-            }
-            default: {
-                // Heterogeneous GeometryCollection, inputLength must be null so we set a default count
-                int count = random.intRange(2, 6);
-                List<Geometry> members = new ArrayList<>(count);
-
-                var pointGen = new PointGenerator();
-                var lineGen = new LineStringGenerator();
-                var polyGen = new PolygonGenerator();
-
-                for (int i = 0; i < count; i++) {
-                    int typeChoice = random.intRange(0, 2);
-                    switch (typeChoice) {
-                        case 0: {
-                            members.add(hasEnvelope ? pointGen.within(inputEnvelope).generate(random) : pointGen.generate(random));
-                            break;
-                        }
-                        case 1: {
-                            members.add(hasEnvelope ? lineGen.within(inputEnvelope).generate(random) : lineGen.generate(random));
-                            break;
-                        }
-                        default: {
-                            members.add(hasEnvelope ? polyGen.within(inputEnvelope).generate(random) : polyGen.generate(random));
-                        }
-                    }
-                }
-                return new GeometryCollection(members.toArray(new Geometry[0]), gf);
+        return switch (choice) {
+            case 1 -> multiPointGenerator.generate(random);
+            case 2 -> sortMembers(multiLineStringGenerator.generate(random));
+            case 3 -> sortMembers(multiPolygonGenerator.generate(random));
+            // Heterogeneous GeometryCollection, inputLength must be null so we set a default count
+            default -> generateHeterogeneous(random.intRange(2, 6), random, gf);
+        };
+    }
+
+    private GeometryCollection generateHeterogeneous(int count, Random random, GeometryFactory gf) {
+        List<Geometry> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int typeChoice = random.intRange(0, 2);
+            switch (typeChoice) {
+                case 0 -> members.add(pointGenerator.generate(random));
+                case 1 -> members.add(lineStringGenerator.generate(random));
+                default -> members.add(polygonGenerator.generate(random));
             }
         }
+        var geometries = members.toArray(new Geometry[0]);
+        if (hilbertSorted) {
+            HilbertUtility.sort(geometries);
+        }
+        return new GeometryCollection(geometries, gf);
+    }
+
+    private GeometryCollection sortMembers(MultiLineString multiLineString) {
+        if (!hilbertSorted) {
+            return multiLineString;
+        }
+        var lines = new LineString[multiLineString.getNumGeometries()];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = (LineString) multiLineString.getGeometryN(i);
+        }
+        return multiLineString.getFactory().createMultiLineString(HilbertUtility.sort(lines));
+    }
+
+    private GeometryCollection sortMembers(MultiPolygon multiPolygon) {
+        if (!hilbertSorted) {
+            return multiPolygon;
+        }
+        var polygons = new Polygon[multiPolygon.getNumGeometries()];
+        for (int i = 0; i < polygons.length; i++) {
+            polygons[i] = (Polygon) multiPolygon.getGeometryN(i);
+        }
+        return multiPolygon.getFactory().createMultiPolygon(HilbertUtility.sort(polygons));
     }
 }
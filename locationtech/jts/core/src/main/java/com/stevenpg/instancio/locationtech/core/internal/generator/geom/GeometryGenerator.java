@@ -23,7 +23,6 @@ import org.instancio.Random;
 import org.instancio.generator.Generator;
 import org.locationtech.jts.geom.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,7 +34,14 @@ import java.util.List;
  */
 public class GeometryGenerator implements GeometrySpec, GeometryGeneratorSpec, EnvelopableGenerator<Geometry>, Generator<Geometry> {
 
-    private Envelope inputEnvelope;
+    private final PointGenerator pointGenerator = new PointGenerator();
+    private final LineStringGenerator lineStringGenerator = new LineStringGenerator();
+    private final LinearRingGenerator linearRingGenerator = new LinearRingGenerator();
+    private final PolygonGenerator polygonGenerator = new PolygonGenerator();
+    private final GeometryCollectionGenerator geometryCollectionGenerator = new GeometryCollectionGenerator();
+    private final List<Generator<? extends Geometry>> generators = List.of(
+            pointGenerator, lineStringGenerator, linearRingGenerator, polygonGenerator, geometryCollectionGenerator);
+
     private Point inputPoint;
     private LineString inputLineString;
     private LinearRing inputLinearRing;
@@ -50,7 +56,11 @@ public class GeometryGenerator implements GeometrySpec, GeometryGeneratorSpec, E
 
     @Override
     public GeometryGenerator within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        pointGenerator.within(validGenerationAreaEnvelope);
+        lineStringGenerator.within(validGenerationAreaEnvelope);
+        linearRingGenerator.within(validGenerationAreaEnvelope);
+        polygonGenerator.within(validGenerationAreaEnvelope);
+        geometryCollectionGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -94,26 +104,6 @@ public class GeometryGenerator implements GeometrySpec, GeometryGeneratorSpec, E
         if (inputGeometryCollection != null) return inputGeometryCollection;
 
         // Otherwise, generate a random Geometry subtype using existing generators
-        final boolean hasEnvelope = inputEnvelope != null;
-
-        final List<Generator<? extends Geometry>> generators = new ArrayList<>();
-
-        // Create all generators eagerly so code paths are always executed; only one will be invoked
-        var pointGen = new PointGenerator();
-        generators.add(hasEnvelope ? (Generator<Point>) pointGen.within(inputEnvelope) : pointGen);
-
-        var lineStringGen = new LineStringGenerator();
-        generators.add(hasEnvelope ? (Generator<LineString>) lineStringGen.within(inputEnvelope) : lineStringGen);
-
-        var linearRingGen = new LinearRingGenerator();
-        generators.add(hasEnvelope ? (Generator<LinearRing>) linearRingGen.within(inputEnvelope) : linearRingGen);
-
-        var polygonGen = new PolygonGenerator();
-        generators.add(hasEnvelope ? (Generator<Polygon>) polygonGen.within(inputEnvelope) : polygonGen);
-
-        var geometryCollectionGen = new GeometryCollectionGenerator();
-        generators.add(hasEnvelope ? (Generator<GeometryCollection>) geometryCollectionGen.within(inputEnvelope) : geometryCollectionGen);
-
         int index = random.intRange(0, generators.size() - 1);
         @SuppressWarnings("unchecked")
         var selected = (Generator<Geometry>) generators.get(index);
@@ -33,9 +33,8 @@ import java.util.Objects;
  */
 public class LineSegmentGenerator implements LineSegmentSpec, LineSegmentGeneratorSpec, EnvelopableGenerator<LineSegment> {
 
-    private static final PointGenerator pointGenerator = new PointGenerator();
+    private final PointGenerator pointGenerator = new PointGenerator();
 
-    private Envelope inputEnvelope;
     private Point p0;
     private Point p1;
 
@@ -55,7 +54,7 @@ public class LineSegmentGenerator implements LineSegmentSpec, LineSegmentGenerat
 
     @Override
     public LineSegmentGenerator within(final Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.pointGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -65,12 +64,6 @@ public class LineSegmentGenerator implements LineSegmentSpec, LineSegmentGenerat
             return new LineSegment(p0.getCoordinate(), p1.getCoordinate());
         }
 
-        if (inputEnvelope != null) {
-            final var start = pointGenerator.within(inputEnvelope).generate(random);
-            final var end = pointGenerator.within(inputEnvelope).generate(random);
-            return new LineSegment(start.getCoordinate(), end.getCoordinate());
-        }
-
         final var start = pointGenerator.generate(random);
         final var end = pointGenerator.generate(random);
         return new LineSegment(start.getCoordinate(), end.getCoordinate());
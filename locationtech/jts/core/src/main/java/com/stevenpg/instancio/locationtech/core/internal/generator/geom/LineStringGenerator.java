@@ -16,8 +16,8 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.SequenceUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
-
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.LineStringGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.LineStringSpec;
 import org.instancio.Random;
@@ -25,6 +25,7 @@ import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 /**
  * Generator for creating a LineString.
@@ -34,12 +35,20 @@ import org.locationtech.jts.geom.LineString;
 public class LineStringGenerator implements LineStringSpec, LineStringGeneratorSpec, EnvelopableGenerator<LineString> {
 
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
+    private static final GeometryFactory streamingGeometryFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE);
+
+    // Default 2..10 coordinates when no length is provided
+    private final CoordinateSequenceGenerator sequenceGenerator = new CoordinateSequenceGenerator().length(2, 10);
 
     private GeometryFactory inputGeometryFactory;
     private CoordinateSequence inputCoordinateSequence;
-    private Integer inputLength;
     private Envelope inputEnvelope;
 
+    // Tracked alongside the sequence generator for streaming line strings, which write their own vertices
+    private int minLength = 2;
+    private int maxLength = 10;
+    private boolean streaming;
+
     /**
      * Default constructor.
      */
@@ -55,7 +64,15 @@ public class LineStringGenerator implements LineStringSpec, LineStringGeneratorS
 
     @Override
     public LineStringGenerator length(int length) {
-        this.inputLength = length;
+        this.sequenceGenerator.length(length);
+        this.minLength = length;
+        this.maxLength = length;
+        return this;
+    }
+
+    @Override
+    public LineStringGenerator streaming() {
+        this.streaming = true;
         return this;
     }
 
@@ -68,25 +85,30 @@ public class LineStringGenerator implements LineStringSpec, LineStringGeneratorS
     @Override
     public LineStringGenerator within(Envelope validGenerationAreaEnvelope) {
         this.inputEnvelope = validGenerationAreaEnvelope;
+        this.sequenceGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
     @Override
     public LineString generate(Random random) {
-        var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
+        var geometryFactory = getGeometryFactory();
         if (inputCoordinateSequence != null) {
             return geometryFactory.createLineString(inputCoordinateSequence);
+        } else if (streaming) {
+            // Write every vertex once into a pre-sized sequence
+            var length = random.intRange(minLength, maxLength);
+            var sequence = geometryFactory.getCoordinateSequenceFactory().create(length, 2);
+            SequenceUtility.fillRandom(random, sequence, length, inputEnvelope);
+            return geometryFactory.createLineString(sequence);
         } else {
-            var sequenceGenerator = new CoordinateSequenceGenerator();
-            var length = random.intRange(2, 10);
-            if (inputLength != null) {
-                length = inputLength;
-            }
-            if (inputEnvelope != null) {
-                return geometryFactory.createLineString(sequenceGenerator.length(length).within(inputEnvelope).generate(random));
-            } else {
-                return geometryFactory.createLineString(sequenceGenerator.length(length).generate(random));
-            }
+            return geometryFactory.createLineString(sequenceGenerator.generate(random));
+        }
+    }
+
+    private GeometryFactory getGeometryFactory() {
+        if (inputGeometryFactory != null) {
+            return inputGeometryFactory;
         }
+        return streaming ? streamingGeometryFactory : defaultGeometryFactory;
     }
 }
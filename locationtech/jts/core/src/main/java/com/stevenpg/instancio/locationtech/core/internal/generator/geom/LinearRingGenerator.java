@@ -16,8 +16,9 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.SequenceUtility;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.SimpleRingUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
-
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.LinearRingGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.LinearRingSpec;
 import org.instancio.Random;
@@ -26,6 +27,7 @@ import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 /**
  * Generator for creating a LinearRing.
@@ -35,12 +37,22 @@ import org.locationtech.jts.geom.LinearRing;
 public class LinearRingGenerator implements LinearRingSpec, LinearRingGeneratorSpec, EnvelopableGenerator<LinearRing> {
 
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
+    private static final GeometryFactory streamingGeometryFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE);
+
+    // When generating from scratch, always generate at least 3 unique coordinates (default 3..9)
+    private final CoordinateSequenceGenerator sequenceGenerator = new CoordinateSequenceGenerator().length(3, 9);
 
     private GeometryFactory inputGeometryFactory;
     private CoordinateSequence inputCoordinateSequence;
-    private Integer inputLength;
     private Envelope inputEnvelope;
 
+    // Tracked alongside the sequence generator for simple and streaming rings, which write their own vertices
+    private int minLength = 3;
+    private int maxLength = 9;
+    private boolean simple;
+    private boolean clockwise;
+    private boolean streaming;
+
     /**
      * Default constructor.
      */
@@ -56,7 +68,47 @@ public class LinearRingGenerator implements LinearRingSpec, LinearRingGeneratorS
 
     @Override
     public LinearRingGenerator length(int length) {
-        this.inputLength = length;
+        // User requested specific number of unique coordinates - ensure minimum of 3
+        this.minLength = Math.max(3, length);
+        this.maxLength = this.minLength;
+        this.sequenceGenerator.length(this.minLength);
+        return this;
+    }
+
+    @Override
+    public LinearRingGenerator length(int min, int max) {
+        if (max < min) {
+            throw new IllegalArgumentException("max must be >= min");
+        }
+        this.minLength = Math.max(3, min);
+        this.maxLength = Math.max(3, max);
+        this.sequenceGenerator.length(this.minLength, this.maxLength);
+        return this;
+    }
+
+    @Override
+    public LinearRingGenerator simple() {
+        this.simple = true;
+        return this;
+    }
+
+    @Override
+    public LinearRingGenerator clockwise() {
+        this.simple = true;
+        this.clockwise = true;
+        return this;
+    }
+
+    @Override
+    public LinearRingGenerator counterClockwise() {
+        this.simple = true;
+        this.clockwise = false;
+        return this;
+    }
+
+    @Override
+    public LinearRingGenerator streaming() {
+        this.streaming = true;
         return this;
     }
 
@@ -69,44 +121,46 @@ public class LinearRingGenerator implements LinearRingSpec, LinearRingGeneratorS
     @Override
     public LinearRingGenerator within(Envelope validGenerationAreaEnvelope) {
         this.inputEnvelope = validGenerationAreaEnvelope;
+        this.sequenceGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
     @Override
     public LinearRing generate(Random random) {
-        var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
+        var geometryFactory = getGeometryFactory();
         if (inputCoordinateSequence != null) {
             return geometryFactory.createLinearRing(ensureClosedRing(inputCoordinateSequence, geometryFactory));
-        } else {
-            var sequenceGenerator = new CoordinateSequenceGenerator();
-            // When generating from scratch, always generate at least 3 unique coordinates
-            var uniqueCoordinateCount = random.intRange(3, 9);
-            if (inputLength != null) {
-                // User requested specific number of unique coordinates - ensure minimum of 3
-                uniqueCoordinateCount = Math.max(3, inputLength);
+        } else if (simple || streaming) {
+            // Write the unique vertices once into a pre-sized sequence and close it in place
+            var vertices = random.intRange(minLength, maxLength);
+            var sequence = geometryFactory.getCoordinateSequenceFactory().create(vertices + 1, 2);
+            if (simple) {
+                SimpleRingUtility.writeStarRing(random, vertices, sequence, inputEnvelope, clockwise);
+            } else {
+                SequenceUtility.fillRandom(random, sequence, vertices, inputEnvelope);
+                SequenceUtility.closeRing(sequence);
             }
-
+            return geometryFactory.createLinearRing(sequence);
+        } else {
             // Generate exactly the number of unique coordinates requested
             // We'll close the ring in ensureClosedRing
-            var coordinateCount = uniqueCoordinateCount;
-
-            CoordinateSequence sequence;
-            if (inputEnvelope != null) {
-                sequence = sequenceGenerator.length(coordinateCount).within(inputEnvelope).generate(random);
-            } else {
-                sequence = sequenceGenerator.length(coordinateCount).generate(random);
-            }
+            CoordinateSequence sequence = sequenceGenerator.generate(random);
 
             // Safeguard: if we accidentally generated a closed sequence with too few coordinates,
             // adjust the last coordinate to ensure it's not closed before passing to ensureClosedRing
-            if (coordinateCount >= 3 && sequence.size() >= 3) {
-                sequence = handlePotentialClosedSequence(sequence, geometryFactory);
-            }
+            sequence = handlePotentialClosedSequence(sequence, geometryFactory);
 
             return geometryFactory.createLinearRing(ensureClosedRing(sequence, geometryFactory));
         }
     }
 
+    private GeometryFactory getGeometryFactory() {
+        if (inputGeometryFactory != null) {
+            return inputGeometryFactory;
+        }
+        return streaming ? streamingGeometryFactory : defaultGeometryFactory;
+    }
+
     private static CoordinateSequence handlePotentialClosedSequence(CoordinateSequence sequence, GeometryFactory geometryFactory) {
         Coordinate first = sequence.getCoordinate(0);
         Coordinate last = sequence.getCoordinate(sequence.size() - 1);
@@ -30,11 +30,11 @@ import java.util.List;
  */
 public class MultiLineStringGenerator implements MultiLineStringSpec, MultiLineStringGeneratorSpec, EnvelopableGenerator<MultiLineString> {
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
-    private static final LineStringGenerator lineStringGenerator = new LineStringGenerator();
+
+    private final LineStringGenerator lineStringGenerator = new LineStringGenerator();
 
     private GeometryFactory inputGeometryFactory;
     private Integer inputLength;
-    private Envelope inputEnvelope;
     private List<LineString> inputLineStrings;
 
     /**
@@ -64,7 +64,7 @@ public class MultiLineStringGenerator implements MultiLineStringSpec, MultiLineS
 
     @Override
     public MultiLineStringGenerator within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.lineStringGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -78,11 +78,7 @@ public class MultiLineStringGenerator implements MultiLineStringSpec, MultiLineS
             if (inputLength != null) {
                 length = inputLength;
             }
-            if (inputEnvelope != null) {
-                return getMultiLineString(length, lineStringGenerator.within(inputEnvelope), random, geometryFactory);
-            } else {
-                return getMultiLineString(length, lineStringGenerator, random, geometryFactory);
-            }
+            return getMultiLineString(length, lineStringGenerator, random, geometryFactory);
         }
     }
 
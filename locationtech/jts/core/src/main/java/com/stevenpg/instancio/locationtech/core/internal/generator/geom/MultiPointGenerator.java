@@ -16,6 +16,9 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.HilbertUtility;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.PoissonDiskUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.MultiPointGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.MultiPointSpec;
@@ -28,17 +31,23 @@ import java.util.List;
 /**
  * Generator for creating a MultiPoint.
  *
+ * <p>In Poisson-disk mode the points are a blue-noise sample of the envelope, no two closer than
+ * the configured distance, built in linear time by {@link PoissonDiskUtility}.</p>
+ *
  * @since 1.0.0
  */
 public class MultiPointGenerator implements MultiPointSpec, MultiPointGeneratorSpec, EnvelopableGenerator<MultiPoint> {
 
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
-    private static final PointGenerator pointGenerator = new PointGenerator();
+
+    private final PointGenerator pointGenerator = new PointGenerator();
 
     private GeometryFactory inputGeometryFactory;
     private Integer inputLength;
-    private Envelope inputEnvelope;
     private List<Point> inputPoints;
+    private Envelope inputEnvelope;
+    private Double poissonDiskDistance;
+    private boolean hilbertSorted;
 
     /**
      * Default constructor.
@@ -65,9 +74,31 @@ public class MultiPointGenerator implements MultiPointSpec, MultiPointGeneratorS
         return this;
     }
 
+    @Override
+    public MultiPointGenerator poissonDisk(double minDistance) {
+        if (!(minDistance > 0) || Double.isInfinite(minDistance)) {
+            throw new IllegalArgumentException("minDistance must be finite and > 0");
+        }
+        this.poissonDiskDistance = minDistance;
+        return this;
+    }
+
+    @Override
+    public MultiPointGenerator hilbertSorted() {
+        this.hilbertSorted = true;
+        return this;
+    }
+
+    @Override
+    public MultiPointGenerator distribution(SpatialDistribution distribution) {
+        this.pointGenerator.distribution(distribution);
+        return this;
+    }
+
     @Override
     public MultiPointGenerator within(Envelope validGenerationAreaEnvelope) {
         this.inputEnvelope = validGenerationAreaEnvelope;
+        this.pointGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -76,17 +107,42 @@ public class MultiPointGenerator implements MultiPointSpec, MultiPointGeneratorS
         var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
         if (inputPoints != null) {
             return new MultiPoint(inputPoints.toArray(new Point[0]), geometryFactory);
+        } else if (poissonDiskDistance != null) {
+            return getPoissonDiskMultiPoint(random, geometryFactory);
         } else {
             var length = random.intRange(2, 10);
             if (inputLength != null) {
                 length = inputLength;
             }
-            if (inputEnvelope != null) {
-                return getMultiPoint(length, pointGenerator.within(inputEnvelope), random, geometryFactory);
-            } else {
-                return getMultiPoint(length, pointGenerator, random, geometryFactory);
+            return getMultiPoint(length, pointGenerator, random, geometryFactory);
+        }
+    }
+
+    private MultiPoint getPoissonDiskMultiPoint(Random random, GeometryFactory geometryFactory) {
+        var xy = PoissonDiskUtility.sample(random, inputEnvelope, poissonDiskDistance);
+        var available = xy.length / 2;
+        var length = inputLength == null ? available : Math.min(inputLength, available);
+        if (length < available) {
+            // Partial Fisher-Yates: a uniform subset keeps the minimum separation and the spread over the envelope
+            for (int i = 0; i < length; i++) {
+                var j = random.intRange(i, available - 1);
+                swap(xy, i, j);
             }
         }
+        var points = new Point[length];
+        for (int i = 0; i < length; i++) {
+            points[i] = geometryFactory.createPoint(new Coordinate(xy[2 * i], xy[2 * i + 1]));
+        }
+        return createMultiPoint(points, geometryFactory);
+    }
+
+    private static void swap(double[] xy, int i, int j) {
+        var x = xy[2 * i];
+        var y = xy[2 * i + 1];
+        xy[2 * i] = xy[2 * j];
+        xy[2 * i + 1] = xy[2 * j + 1];
+        xy[2 * j] = x;
+        xy[2 * j + 1] = y;
     }
 
     private MultiPoint getMultiPoint(int length, PointGenerator pointGenerator, Random random, GeometryFactory geometryFactory) {
@@ -94,6 +150,13 @@ public class MultiPointGenerator implements MultiPointSpec, MultiPointGeneratorS
         for (int i = 0; i < length; i++) {
             pointList.add(pointGenerator.generate(random));
         }
-        return new MultiPoint(pointList.toArray(new Point[0]), geometryFactory);
+        return createMultiPoint(pointList.toArray(new Point[0]), geometryFactory);
+    }
+
+    private MultiPoint createMultiPoint(Point[] points, GeometryFactory geometryFactory) {
+        if (hilbertSorted) {
+            HilbertUtility.sort(points);
+        }
+        return new MultiPoint(points, geometryFactory);
     }
 }
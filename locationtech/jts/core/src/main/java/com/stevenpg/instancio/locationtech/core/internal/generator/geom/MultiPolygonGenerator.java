@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.VoronoiCoverageUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.MultiPolygonGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.MultiPolygonSpec;
@@ -28,15 +29,22 @@ import java.util.List;
 /**
  * Generator for creating a MultiPolygon.
  *
+ * <p>In coverage mode the members are the Voronoi cells of random sites, clipped to the envelope by
+ * {@link VoronoiCoverageUtility}, so adjacent members share their edges exactly.</p>
+ *
  * @since 1.0.0
  */
 public class MultiPolygonGenerator implements MultiPolygonSpec, MultiPolygonGeneratorSpec, EnvelopableGenerator<MultiPolygon> {
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
 
+    private final PolygonGenerator polygonGenerator = new PolygonGenerator();
+
     private GeometryFactory inputGeometryFactory;
     private Integer inputLength;
-    private Envelope inputEnvelope;
     private List<Polygon> inputPolygons;
+    private Envelope inputEnvelope;
+    private Integer coverageCells;
+    private int lloydIterations;
 
     /**
      * Default constructor.
@@ -63,9 +71,28 @@ public class MultiPolygonGenerator implements MultiPolygonSpec, MultiPolygonGene
         return this;
     }
 
+    @Override
+    public MultiPolygonGenerator coverage(int cells) {
+        if (cells < 1) {
+            throw new IllegalArgumentException("cells must be >= 1");
+        }
+        this.coverageCells = cells;
+        return this;
+    }
+
+    @Override
+    public MultiPolygonGenerator lloydRelaxation(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("iterations must be >= 0");
+        }
+        this.lloydIterations = iterations;
+        return this;
+    }
+
     @Override
     public MultiPolygonGenerator within(Envelope validGenerationAreaEnvelope) {
         this.inputEnvelope = validGenerationAreaEnvelope;
+        this.polygonGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -74,16 +101,15 @@ public class MultiPolygonGenerator implements MultiPolygonSpec, MultiPolygonGene
         var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
         if (inputPolygons != null) {
             return new MultiPolygon(inputPolygons.toArray(new Polygon[0]), geometryFactory);
+        } else if (coverageCells != null) {
+            var cells = VoronoiCoverageUtility.tessellate(random, inputEnvelope, coverageCells, lloydIterations, geometryFactory);
+            return new MultiPolygon(cells, geometryFactory);
         } else {
             var length = random.intRange(1, 5);
             if (inputLength != null) {
                 length = inputLength;
             }
-            if (inputEnvelope != null) {
-                return getMultiPolygon(length, new PolygonGenerator().within(inputEnvelope), random, geometryFactory);
-            } else {
-                return getMultiPolygon(length, new PolygonGenerator(), random, geometryFactory);
-            }
+            return getMultiPolygon(length, polygonGenerator, random, geometryFactory);
         }
     }
 
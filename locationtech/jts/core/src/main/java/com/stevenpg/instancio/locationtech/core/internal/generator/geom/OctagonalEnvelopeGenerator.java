@@ -18,14 +18,17 @@ package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.OctagonalEnvelopeGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.OctagonalEnvelopeSpec;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.OctagonalEnvelope;
 
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLongitude;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomLatitude;
+
 /**
  * Generator for creating an OctagonalEnvelope.
  * @since 1.0.0
@@ -104,6 +107,10 @@ public class OctagonalEnvelopeGenerator implements OctagonalEnvelopeSpec, Octago
 
     @Override
     public OctagonalEnvelope generate(Random random) {
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
         // If a specific octagonal envelope is provided, return a copy
         if (inputOctagonalEnvelope != null) {
             return new OctagonalEnvelope(inputOctagonalEnvelope);
@@ -130,11 +137,11 @@ public class OctagonalEnvelopeGenerator implements OctagonalEnvelopeSpec, Octago
         }
 
         // Default: generate random octagonal envelope
-        // Generate two random coordinates using Instancio spatial generators
-        double x1 = Instancio.gen().spatial().coordinate().lon().get();
-        double y1 = Instancio.gen().spatial().coordinate().lat().get();
-        double x2 = Instancio.gen().spatial().coordinate().lon().get();
-        double y2 = Instancio.gen().spatial().coordinate().lat().get();
+        // Generate two random coordinates from the supplied random so seeded runs are repeatable
+        double x1 = randomLongitude(random);
+        double y1 = randomLatitude(random);
+        double x2 = randomLongitude(random);
+        double y2 = randomLatitude(random);
 
         // Ensure proper ordering so min < max for all dimensions
         double minX = Math.min(x1, x2);
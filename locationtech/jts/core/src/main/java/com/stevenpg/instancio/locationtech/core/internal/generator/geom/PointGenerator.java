@@ -16,13 +16,16 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
-import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.CoordinateArraySequenceGenerator;
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.LatLonEnvelopableBaseGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.PointGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.PointSpec;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -35,12 +38,11 @@ import org.locationtech.jts.geom.impl.CoordinateArraySequence;
  */
 public class PointGenerator extends LatLonEnvelopableBaseGenerator implements PointSpec, PointGeneratorSpec, Generator<Point>, EnvelopableGenerator<Point> {
 
-    private final GeometryFactory geometryFactory = new GeometryFactory();
+    private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
 
+    private GeometryFactory inputGeometryFactory;
     private Coordinate inputPointCoordinate;
-    private Envelope inputEnvelope;
-
-    private final CoordinateArraySequenceGenerator coordinateSequenceGenerator = new CoordinateArraySequenceGenerator();
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
 
     /**
      * Default constructor.
@@ -61,24 +63,40 @@ public class PointGenerator extends LatLonEnvelopableBaseGenerator implements Po
         return this;
     }
 
+    @Override
+    public PointGenerator geometryFactory(GeometryFactory geometryFactory) {
+        this.inputGeometryFactory = geometryFactory;
+        return this;
+    }
+
     @Override
     public PointGenerator within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.kernel = WithinUtility.kernel(validGenerationAreaEnvelope, kernel.distribution());
+        return this;
+    }
+
+    @Override
+    public PointGenerator distribution(SpatialDistribution distribution) {
+        this.kernel = kernel.withDistribution(distribution);
         return this;
     }
 
     @Override
     public Point generate(Random random) {
-        CoordinateArraySequence singularCoordinateSequence;
+        if (random == null) {
+            random = new DefaultRandom();
+        }
+
+        var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
+        Coordinate coordinate;
         if(inputPointCoordinate != null) {
-            singularCoordinateSequence = new CoordinateArraySequence(new Coordinate[]{inputPointCoordinate});
+            coordinate = inputPointCoordinate;
         } else {
-            if(this.inputEnvelope != null) {
-                singularCoordinateSequence = coordinateSequenceGenerator.within(this.inputEnvelope).length(1).generate(random);
-            } else {
-                singularCoordinateSequence = coordinateSequenceGenerator.length(1).generate(random);
-            }
+            // Draw the single coordinate directly rather than through a one-element sequence generator
+            var xy = new double[2];
+            kernel.xy(random, xy);
+            coordinate = new Coordinate(xy[0], xy[1]);
         }
-        return new Point(singularCoordinateSequence, geometryFactory);
+        return new Point(new CoordinateArraySequence(new Coordinate[]{coordinate}), geometryFactory);
     }
 }
@@ -16,6 +16,8 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.HolePlacementUtility;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.SimpleRingUtility;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.PolygonGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.PolygonSpec;
@@ -24,6 +26,7 @@ import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 /**
  * Generator for creating a Polygon.
@@ -33,14 +36,24 @@ import org.locationtech.jts.geom.Polygon;
 public class PolygonGenerator implements PolygonSpec, PolygonGeneratorSpec, EnvelopableGenerator<Polygon> {
 
     private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
+    private static final GeometryFactory streamingGeometryFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE);
+
+    // Default 3..8 exterior vertices when none are provided
+    private final LinearRingGenerator ringGenerator = new LinearRingGenerator().length(3, 8);
 
     private GeometryFactory inputGeometryFactory;
     private LinearRing inputExteriorRing;
     private LinearRing[] inputHoles;
-    private Integer inputVertices;
     private Integer inputHolesCount;
     private Envelope inputEnvelope;
 
+    // Tracked alongside the ring generator for simple polygons, which draw their own vertices
+    private int minVertices = 3;
+    private int maxVertices = 8;
+    private boolean simple;
+    private boolean clockwise;
+    private boolean streaming;
+
     /**
      * Default constructor.
      */
@@ -63,7 +76,29 @@ public class PolygonGenerator implements PolygonSpec, PolygonGeneratorSpec, Enve
 
     @Override
     public PolygonGenerator vertices(int vertices) {
-        this.inputVertices = vertices;
+        this.minVertices = Math.max(3, vertices);
+        this.maxVertices = this.minVertices;
+        this.ringGenerator.length(this.minVertices);
+        return this;
+    }
+
+    @Override
+    public PolygonGenerator simple() {
+        this.simple = true;
+        return this;
+    }
+
+    @Override
+    public PolygonGenerator clockwise() {
+        this.simple = true;
+        this.clockwise = true;
+        return this;
+    }
+
+    @Override
+    public PolygonGenerator counterClockwise() {
+        this.simple = true;
+        this.clockwise = false;
         return this;
     }
 
@@ -73,36 +108,38 @@ public class PolygonGenerator implements PolygonSpec, PolygonGeneratorSpec, Enve
         return this;
     }
 
+    @Override
+    public PolygonGenerator streaming() {
+        this.streaming = true;
+        this.ringGenerator.streaming();
+        return this;
+    }
+
     @Override
     public PolygonGenerator geometryFactory(GeometryFactory geometryFactory) {
         this.inputGeometryFactory = geometryFactory;
+        this.ringGenerator.geometryFactory(geometryFactory);
         return this;
     }
 
     @Override
     public PolygonGenerator within(Envelope validGenerationAreaEnvelope) {
         this.inputEnvelope = validGenerationAreaEnvelope;
+        this.ringGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
     @Override
     public Polygon generate(Random random) {
-        var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
+        var geometryFactory = getGeometryFactory();
 
         if (inputExteriorRing != null) {
             return getWellDefinedPolygon(geometryFactory);
+        } else if (simple) {
+            return generateSimplePolygon(random, geometryFactory);
         } else {
             // Generate polygon from scratch
-            var ringGenerator = new LinearRingGenerator();
-
-            // Determine number of vertices for exterior ring
-            var vertices = random.intRange(3, 8);
-            if (inputVertices != null) {
-                vertices = Math.max(3, inputVertices);
-            }
-
-            // Generate exterior ring
-            LinearRing exteriorRing = getLinearRing(random, ringGenerator, vertices);
+            LinearRing exteriorRing = ringGenerator.generate(random);
 
             // Generate holes if specified
             if (inputHolesCount != null && inputHolesCount > 0) {
@@ -114,26 +151,46 @@ public class PolygonGenerator implements PolygonSpec, PolygonGeneratorSpec, Enve
     }
 
     private Polygon generatePolygonWithSpecifiedHoles(Random random, LinearRing exteriorRing, GeometryFactory geometryFactory) {
-        LinearRing[] holes = new LinearRing[inputHolesCount];
-        var exteriorEnvelope = exteriorRing.getEnvelopeInternal();
+        return geometryFactory.createPolygon(exteriorRing, createHoles(random, exteriorRing, geometryFactory));
+    }
 
-        // Create smaller envelopes for holes within the exterior ring
-        for (int i = 0; i < inputHolesCount; i++) {
-            var holeEnvelope = createHoleEnvelope(random, exteriorEnvelope, i, inputHolesCount);
+    /**
+     * Builds a valid polygon from a star-shaped shell. Holes run opposite to the shell.
+     */
+    private Polygon generateSimplePolygon(Random random, GeometryFactory geometryFactory) {
+        var vertices = random.intRange(minVertices, maxVertices);
+        var shell = geometryFactory.getCoordinateSequenceFactory().create(vertices + 1, 2);
+        SimpleRingUtility.writeStarRing(random, vertices, shell, inputEnvelope, clockwise);
+        var exteriorRing = geometryFactory.createLinearRing(shell);
+        return geometryFactory.createPolygon(exteriorRing, createHoles(random, exteriorRing, geometryFactory));
+    }
+
+    /**
+     * Places holes as disjoint disks strictly inside the shell and fills each disk with a
+     * star-shaped ring. The requested count is an upper bound: if the shell leaves too little
+     * room, only the holes that fit are returned, so the polygon stays valid.
+     */
+    private LinearRing[] createHoles(Random random, LinearRing exteriorRing, GeometryFactory geometryFactory) {
+        var holeCount = inputHolesCount != null ? Math.max(0, inputHolesCount) : 0;
+        var disks = HolePlacementUtility.placeHoleDisks(random, exteriorRing, holeCount);
+        var holes = new LinearRing[disks.length / 3];
+        for (int i = 0; i < holes.length; i++) {
+            var x = disks[3 * i];
+            var y = disks[3 * i + 1];
+            var r = disks[3 * i + 2];
             var holeVertices = random.intRange(3, 6);
-            holes[i] = new LinearRingGenerator().length(holeVertices).within(holeEnvelope).generate(random);
+            var hole = geometryFactory.getCoordinateSequenceFactory().create(holeVertices + 1, 2);
+            SimpleRingUtility.writeStarRing(random, holeVertices, hole, new Envelope(x - r, x + r, y - r, y + r), !clockwise);
+            holes[i] = geometryFactory.createLinearRing(hole);
         }
-        return geometryFactory.createPolygon(exteriorRing, holes);
+        return holes;
     }
 
-    private LinearRing getLinearRing(Random random, LinearRingGenerator ringGenerator, int vertices) {
-        LinearRing exteriorRing;
-        if (inputEnvelope != null) {
-            exteriorRing = ringGenerator.length(vertices).within(inputEnvelope).generate(random);
-        } else {
-            exteriorRing = ringGenerator.length(vertices).generate(random);
+    private GeometryFactory getGeometryFactory() {
+        if (inputGeometryFactory != null) {
+            return inputGeometryFactory;
         }
-        return exteriorRing;
+        return streaming ? streamingGeometryFactory : defaultGeometryFactory;
     }
 
     private Polygon getWellDefinedPolygon(GeometryFactory geometryFactory) {
@@ -144,37 +201,4 @@ public class PolygonGenerator implements PolygonSpec, PolygonGeneratorSpec, Enve
             return geometryFactory.createPolygon(inputExteriorRing);
         }
     }
-
-    /**
-     * Creates a smaller envelope within the exterior envelope for generating holes.
-     */
-    private Envelope createHoleEnvelope(Random random, Envelope exteriorEnvelope, int holeIndex, int totalHoles) {
-        // Calculate a smaller envelope within the exterior for the hole
-        var width = exteriorEnvelope.getWidth();
-        var height = exteriorEnvelope.getHeight();
-
-        // Make holes 20-40% of the exterior size
-        // Use holeIndex and totalHoles to vary hole sizes for multiple holes
-        var baseScale = 0.2;
-        var variationScale = 0.2;
-        if (totalHoles > 1) {
-            // Vary hole sizes based on index
-            variationScale *= (1.0 + (holeIndex * 0.3 / totalHoles));
-        }
-        var scaleFactor = baseScale + (variationScale * random.doubleRange(0, 1));
-        var holeWidth = width * scaleFactor;
-        var holeHeight = height * scaleFactor;
-
-        // Position holes to avoid overlapping too much
-        // Use holeIndex to distribute holes across the envelope
-        var xOffset = (holeIndex % 2) * 0.3;
-        var yOffset = (((double) holeIndex / 2) % 2) * 0.3;
-        var offsetX = (width - holeWidth) * (0.1 + xOffset + 0.3 * random.doubleRange(0, 1));
-        var offsetY = (height - holeHeight) * (0.1 + yOffset + 0.3 * random.doubleRange(0, 1));
-
-        var minX = exteriorEnvelope.getMinX() + offsetX;
-        var minY = exteriorEnvelope.getMinY() + offsetY;
-
-        return new Envelope(minX, minX + holeWidth, minY, minY + holeHeight);
-    }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
+
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility;
+import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.RoadNetworkGeneratorSpec;
+import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.RoadNetworkSpec;
+import org.instancio.Random;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Generator for creating a MultiLineString shaped like a road network.
+ *
+ * <p>The network is a planar graph: a jittered grid, or a Delaunay triangulation of uniform nodes.
+ * Grid nodes are addressed by row and column and triangulation nodes are located by JTS's
+ * incremental triangulator, so construction stays near linear up to millions of edges. Edges are
+ * then pruned in random order while a union-find keeps a spanning tree, so the network remains a
+ * single connected component. Every edge is a two-point LineString and edges meeting at a node
+ * carry exactly the same coordinate, ready for graph building, noding and routing.</p>
+ *
+ * @since 1.0.0
+ */
+public class RoadNetworkGenerator implements RoadNetworkSpec, RoadNetworkGeneratorSpec, EnvelopableGenerator<MultiLineString> {
+
+    private static final GeometryFactory defaultGeometryFactory = new GeometryFactory();
+
+    private GeometryFactory inputGeometryFactory;
+    private Envelope inputEnvelope;
+    private int nodes = 100;
+    private boolean delaunay;
+    private double jitter = 0.35;
+    private double pruning = 0.2;
+
+    /**
+     * Default constructor.
+     */
+    public RoadNetworkGenerator() {
+        // No custom instantiations needed
+    }
+
+    @Override
+    public RoadNetworkGenerator nodes(int count) {
+        if (count < 4) {
+            throw new IllegalArgumentException("count must be >= 4");
+        }
+        this.nodes = count;
+        return this;
+    }
+
+    @Override
+    public RoadNetworkGenerator grid() {
+        this.delaunay = false;
+        return this;
+    }
+
+    @Override
+    public RoadNetworkGenerator delaunay() {
+        this.delaunay = true;
+        return this;
+    }
+
+    @Override
+    public RoadNetworkGenerator jitter(double fraction) {
+        if (!(fraction >= 0 && fraction < 0.5)) {
+            throw new IllegalArgumentException("fraction must be >= 0 and < 0.5");
+        }
+        this.jitter = fraction;
+        return this;
+    }
+
+    @Override
+    public RoadNetworkGenerator pruning(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("fraction must be between 0 and 1");
+        }
+        this.pruning = fraction;
+        return this;
+    }
+
+    @Override
+    public RoadNetworkGenerator geometryFactory(GeometryFactory geometryFactory) {
+        this.inputGeometryFactory = geometryFactory;
+        return this;
+    }
+
+    @Override
+    public RoadNetworkGenerator within(Envelope validGenerationAreaEnvelope) {
+        this.inputEnvelope = validGenerationAreaEnvelope;
+        return this;
+    }
+
+    @Override
+    public MultiLineString generate(Random random) {
+        var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
+        var envelope = inputEnvelope != null ? inputEnvelope : new Envelope(
+                WithinUtility.MIN_LONGITUDE, WithinUtility.MAX_LONGITUDE,
+                WithinUtility.MIN_LATITUDE, WithinUtility.MAX_LATITUDE);
+        var graph = delaunay ? delaunayGraph(envelope, random) : gridGraph(envelope, random);
+        var kept = prune(graph, random);
+
+        var lineStrings = new LineString[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+            var edge = kept[i];
+            lineStrings[i] = geometryFactory.createLineString(new Coordinate[]{
+                    graph.node(graph.from[edge]), graph.node(graph.to[edge])});
+        }
+        return geometryFactory.createMultiLineString(lineStrings);
+    }
+
+    private Graph gridGraph(Envelope envelope, Random random) {
+        var width = envelope.getWidth();
+        var height = envelope.getHeight();
+        var aspect = width > 0 && height > 0 ? width / height : 1;
+        var columns = (int) Math.max(2, Math.min(nodes / 2, Math.round(Math.sqrt(nodes * aspect))));
+        var rows = (int) Math.max(2, Math.round((double) nodes / columns));
+        var cellWidth = width / columns;
+        var cellHeight = height / rows;
+
+        // Nodes sit at jittered cell centres; with less than half a cell of jitter no two edges cross
+        var xy = new double[2 * rows * columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                var node = row * columns + column;
+                xy[2 * node] = envelope.getMinX() + (column + 0.5 + random.doubleRange(-jitter, jitter)) * cellWidth;
+                xy[2 * node + 1] = envelope.getMinY() + (row + 0.5 + random.doubleRange(-jitter, jitter)) * cellHeight;
+            }
+        }
+
+        var edgeCount = rows * (columns - 1) + (rows - 1) * columns;
+        var graph = new Graph(xy, edgeCount);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                var node = row * columns + column;
+                if (column + 1 < columns) {
+                    graph.add(node, node + 1);
+                }
+                if (row + 1 < rows) {
+                    graph.add(node, node + columns);
+                }
+            }
+        }
+        return graph;
+    }
+
+    private Graph delaunayGraph(Envelope envelope, Random random) {
+        var sites = new ArrayList<Coordinate>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            sites.add(new Coordinate(
+                    random.doubleRange(envelope.getMinX(), envelope.getMaxX()),
+                    random.doubleRange(envelope.getMinY(), envelope.getMaxY())));
+        }
+        var builder = new DelaunayTriangulationBuilder();
+        builder.setSites(sites);
+        var edges = builder.getSubdivision().getPrimaryEdges(false);
+
+        var indices = new HashMap<Coordinate, Integer>(2 * nodes);
+        var xy = new double[2 * nodes];
+        var from = new int[edges.size()];
+        var to = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            var edge = edges.get(i);
+            from[i] = nodeIndex(edge.orig().getCoordinate(), indices, xy);
+            to[i] = nodeIndex(edge.dest().getCoordinate(), indices, xy);
+        }
+        var graph = new Graph(xy, edges.size());
+        for (int i = 0; i < from.length; i++) {
+            graph.add(from[i], to[i]);
+        }
+        return graph;
+    }
+
+    private static int nodeIndex(Coordinate coordinate, HashMap<Coordinate, Integer> indices, double[] xy) {
+        var index = indices.get(coordinate);
+        if (index == null) {
+            index = indices.size();
+            indices.put(coordinate, index);
+            xy[2 * index] = coordinate.getX();
+            xy[2 * index + 1] = coordinate.getY();
+        }
+        return index;
+    }
+
+    /**
+     * Randomised Kruskal: edges visited in shuffled order join the spanning tree when they connect two
+     * components, and every other edge is dropped with the pruning probability.
+     *
+     * @return the kept edge indices, in construction order
+     */
+    private int[] prune(Graph graph, Random random) {
+        var order = new int[graph.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = 0; i < order.length - 1; i++) {
+            var j = random.intRange(i, order.length - 1);
+            var swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        var parent = new int[graph.xy.length / 2];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        var keep = new boolean[graph.size];
+        var keptCount = 0;
+        for (var edge : order) {
+            var a = find(parent, graph.from[edge]);
+            var b = find(parent, graph.to[edge]);
+            if (a != b) {
+                parent[a] = b;
+                keep[edge] = true;
+            } else {
+                keep[edge] = pruning == 0 || random.doubleRange(0, 1) >= pruning;
+            }
+            if (keep[edge]) {
+                keptCount++;
+            }
+        }
+
+        var kept = new int[keptCount];
+        var next = 0;
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                kept[next++] = i;
+            }
+        }
+        return kept;
+    }
+
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            // Path halving keeps the trees shallow without recursion
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * Edge list over nodes stored as interleaved x/y pairs.
+     */
+    private static final class Graph {
+        private final double[] xy;
+        private final int[] from;
+        private final int[] to;
+        private int size;
+
+        private Graph(double[] xy, int capacity) {
+            this.xy = xy;
+            this.from = new int[capacity];
+            this.to = new int[capacity];
+        }
+
+        private void add(int a, int b) {
+            from[size] = a;
+            to[size] = b;
+            size++;
+        }
+
+        private Coordinate node(int index) {
+            return new Coordinate(xy[2 * index], xy[2 * index + 1]);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
+
+import com.stevenpg.instancio.common.internal.coordinate.GaussianSampler;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility;
+import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.TrajectoryGeneratorSpec;
+import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.TrajectorySpec;
+import org.instancio.Random;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import java.time.Instant;
+
+/**
+ * Generator for creating a LineString that follows a moving vehicle, as a GPS receiver would record it.
+ *
+ * <p>Each step draws a sampling interval, lets the speed drift with random acceleration, lets the turn
+ * rate wander and decay back towards straight travel, and advances the position along the new heading.
+ * The track reflects off the edges of the envelope so it never leaves it. Fixes are written straight
+ * into a {@link PackedCoordinateSequence} as they are simulated, so tracks of millions of points never
+ * hold intermediate coordinate objects.</p>
+ *
+ * @since 1.0.0
+ */
+public class TrajectoryGenerator implements TrajectorySpec, TrajectoryGeneratorSpec, EnvelopableGenerator<LineString> {
+
+    private static final GeometryFactory defaultGeometryFactory =
+            new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE);
+
+    /**
+     * Metres per degree of latitude, and of longitude at the equator.
+     */
+    private static final double METRES_PER_DEGREE = 111_320;
+
+    /**
+     * Floor on cos(latitude) so longitude steps stay finite near the poles.
+     */
+    private static final double MIN_COS_LATITUDE = 0.01;
+
+    /**
+     * Half the width of the EPSG:3857 extent, used as the planar bounds when no envelope is given.
+     */
+    private static final double PLANAR_EXTENT = 20_037_508.34;
+
+    /**
+     * Fraction of the turn rate kept from one fix to the next.
+     */
+    private static final double TURN_DECAY = 0.9;
+
+    private static final long MIN_START_EPOCH_SECOND = Instant.parse("2020-01-01T00:00:00Z").getEpochSecond();
+    private static final long MAX_START_EPOCH_SECOND = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+
+    private GeometryFactory inputGeometryFactory;
+    private Envelope inputEnvelope;
+    private int minLength = 10;
+    private int maxLength = 100;
+    private double minSpeed = 5;
+    private double maxSpeed = 30;
+    private double accelerationSigma = 0.5;
+    private double maxTurnRate = Math.toRadians(15);
+    private double minInterval = 1;
+    private double maxInterval = 1;
+    private boolean timestamps;
+    private Instant start;
+    private boolean planar;
+
+    /**
+     * Default constructor.
+     */
+    public TrajectoryGenerator() {
+        // No custom instantiations needed
+    }
+
+    @Override
+    public TrajectoryGenerator length(int length) {
+        if (length < 2) {
+            throw new IllegalArgumentException("length must be >= 2");
+        }
+        this.minLength = length;
+        this.maxLength = length;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator length(int min, int max) {
+        if (min < 2) {
+            throw new IllegalArgumentException("min must be >= 2");
+        }
+        if (max < min) {
+            throw new IllegalArgumentException("max must be >= min");
+        }
+        this.minLength = min;
+        this.maxLength = max;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator speed(double min, double max) {
+        if (!(min >= 0) || Double.isInfinite(min)) {
+            throw new IllegalArgumentException("min must be finite and >= 0");
+        }
+        if (!(max >= min) || Double.isInfinite(max)) {
+            throw new IllegalArgumentException("max must be finite and >= min");
+        }
+        this.minSpeed = min;
+        this.maxSpeed = max;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator acceleration(double sigma) {
+        if (!(sigma >= 0) || Double.isInfinite(sigma)) {
+            throw new IllegalArgumentException("sigma must be finite and >= 0");
+        }
+        this.accelerationSigma = sigma;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator turnRate(double maxDegreesPerSecond) {
+        if (!(maxDegreesPerSecond >= 0) || Double.isInfinite(maxDegreesPerSecond)) {
+            throw new IllegalArgumentException("maxDegreesPerSecond must be finite and >= 0");
+        }
+        this.maxTurnRate = Math.toRadians(maxDegreesPerSecond);
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator interval(double seconds) {
+        if (!(seconds > 0) || Double.isInfinite(seconds)) {
+            throw new IllegalArgumentException("seconds must be finite and > 0");
+        }
+        this.minInterval = seconds;
+        this.maxInterval = seconds;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator interval(double minSeconds, double maxSeconds) {
+        if (!(minSeconds > 0) || Double.isInfinite(minSeconds)) {
+            throw new IllegalArgumentException("minSeconds must be finite and > 0");
+        }
+        if (!(maxSeconds >= minSeconds) || Double.isInfinite(maxSeconds)) {
+            throw new IllegalArgumentException("maxSeconds must be finite and >= minSeconds");
+        }
+        this.minInterval = minSeconds;
+        this.maxInterval = maxSeconds;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator timestamps() {
+        this.timestamps = true;
+        this.start = null;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator timestamps(Instant start) {
+        if (start == null) {
+            throw new IllegalArgumentException("start must not be null");
+        }
+        this.timestamps = true;
+        this.start = start;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator planar() {
+        this.planar = true;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator geometryFactory(GeometryFactory geometryFactory) {
+        this.inputGeometryFactory = geometryFactory;
+        return this;
+    }
+
+    @Override
+    public TrajectoryGenerator within(Envelope validGenerationAreaEnvelope) {
+        this.inputEnvelope = validGenerationAreaEnvelope;
+        return this;
+    }
+
+    @Override
+    public LineString generate(Random random) {
+        var geometryFactory = inputGeometryFactory != null ? inputGeometryFactory : defaultGeometryFactory;
+        var length = random.intRange(minLength, maxLength);
+        var measures = timestamps ? 1 : 0;
+        var sequence = new PackedCoordinateSequence.Double(length, 2 + measures, measures);
+        fill(sequence, random);
+        return geometryFactory.createLineString(sequence);
+    }
+
+    /**
+     * Simulates one track with as many fixes as the target sequence holds and writes it into the
+     * sequence in place. When the sequence carries a measure, the timestamp of each fix in epoch
+     * seconds is written to the first measure ordinate. Other ordinates are left untouched.
+     *
+     * @param target the sequence to write the track into
+     * @param random the random instance to use
+     * @return the target sequence
+     */
+    public CoordinateSequence fill(CoordinateSequence target, Random random) {
+        var size = target.size();
+        if (size == 0) {
+            return target;
+        }
+        var mIndex = target.hasM() ? target.getDimension() - target.getMeasures() : -1;
+
+        double minX;
+        double maxX;
+        double minY;
+        double maxY;
+        if (inputEnvelope != null) {
+            var bounds = WithinUtility.getBounds(inputEnvelope);
+            minX = bounds.minLon();
+            maxX = bounds.maxLon();
+            minY = bounds.minLat();
+            maxY = bounds.maxLat();
+        } else if (planar) {
+            minX = -PLANAR_EXTENT;
+            maxX = PLANAR_EXTENT;
+            minY = -PLANAR_EXTENT;
+            maxY = PLANAR_EXTENT;
+        } else {
+            minX = WithinUtility.MIN_LONGITUDE;
+            maxX = WithinUtility.MAX_LONGITUDE;
+            minY = WithinUtility.MIN_LATITUDE;
+            maxY = WithinUtility.MAX_LATITUDE;
+        }
+
+        var x = random.doubleRange(minX, maxX);
+        var y = random.doubleRange(minY, maxY);
+        var heading = random.doubleRange(0, 2 * Math.PI);
+        var speed = random.doubleRange(minSpeed, maxSpeed);
+        var turnRate = 0.0;
+        var time = 0.0;
+        var noise = new double[2];
+        if (mIndex >= 0) {
+            time = start != null
+                    ? start.getEpochSecond() + start.getNano() / 1e9
+                    : random.longRange(MIN_START_EPOCH_SECOND, MAX_START_EPOCH_SECOND);
+        }
+
+        for (int i = 0; ; i++) {
+            target.setOrdinate(i, CoordinateSequence.X, x);
+            target.setOrdinate(i, CoordinateSequence.Y, y);
+            if (mIndex >= 0) {
+                target.setOrdinate(i, mIndex, time);
+            }
+            if (i == size - 1) {
+                return target;
+            }
+
+            var dt = minInterval == maxInterval ? minInterval : random.doubleRange(minInterval, maxInterval);
+            // One Box-Muller pair drives both the acceleration and the turn-rate noise
+            GaussianSampler.standardNormalPair(random, noise);
+            speed = clamp(speed + noise[0] * accelerationSigma * dt, minSpeed, maxSpeed);
+            turnRate = clamp(TURN_DECAY * turnRate + noise[1] * maxTurnRate / 3, -maxTurnRate, maxTurnRate);
+            heading += turnRate * dt;
+
+            // Heading is measured counter-clockwise from east, so cos is the x (east) component
+            var distance = speed * dt;
+            var dx = distance * Math.cos(heading);
+            var dy = distance * Math.sin(heading);
+            if (!planar) {
+                dy /= METRES_PER_DEGREE;
+                dx /= METRES_PER_DEGREE * Math.max(Math.cos(Math.toRadians(y)), MIN_COS_LATITUDE);
+            }
+            x += dx;
+            y += dy;
+
+            // Bounce off the envelope edges, turning the heading as a mirror would
+            if (x < minX || x > maxX) {
+                x = clamp(x < minX ? 2 * minX - x : 2 * maxX - x, minX, maxX);
+                heading = Math.PI - heading;
+            }
+            if (y < minY || y > maxY) {
+                y = clamp(y < minY ? 2 * minY - y : 2 * maxY - y, minY, maxY);
+                heading = -heading;
+            }
+            time += dt;
+        }
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
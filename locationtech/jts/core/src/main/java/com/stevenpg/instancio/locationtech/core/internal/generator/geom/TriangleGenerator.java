@@ -31,9 +31,8 @@ import java.util.Objects;
  */
 public class TriangleGenerator implements TriangleSpec, TriangleGeneratorSpec, EnvelopableGenerator<Triangle> {
 
-    private static final PointGenerator pointGenerator = new PointGenerator();
+    private final PointGenerator pointGenerator = new PointGenerator();
 
-    private Envelope inputEnvelope;
     private Point input0;
     private Point input1;
     private Point input2;
@@ -55,7 +54,7 @@ public class TriangleGenerator implements TriangleSpec, TriangleGeneratorSpec, E
 
     @Override
     public TriangleGenerator within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.pointGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -67,17 +66,10 @@ public class TriangleGenerator implements TriangleSpec, TriangleGeneratorSpec, E
                     input1.getCoordinate(),
                     input2.getCoordinate());
         } else {
-            if (inputEnvelope != null) {
-                var point0 = pointGenerator.within(inputEnvelope).generate(random);
-                var point1 = pointGenerator.within(inputEnvelope).generate(random);
-                var point2 = pointGenerator.within(inputEnvelope).generate(random);
-                return new Triangle(point0.getCoordinate(), point1.getCoordinate(), point2.getCoordinate());
-            } else {
-                var point0 = pointGenerator.generate(random);
-                var point1 = pointGenerator.generate(random);
-                var point2 = pointGenerator.generate(random);
-                return new Triangle(point0.getCoordinate(), point1.getCoordinate(), point2.getCoordinate());
-            }
+            var point0 = pointGenerator.generate(random);
+            var point1 = pointGenerator.generate(random);
+            var point2 = pointGenerator.generate(random);
+            return new Triangle(point0.getCoordinate(), point1.getCoordinate(), point2.getCoordinate());
         }
     }
 }
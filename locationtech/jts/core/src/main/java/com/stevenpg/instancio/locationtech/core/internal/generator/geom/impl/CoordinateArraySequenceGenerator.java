@@ -48,7 +48,6 @@ public class CoordinateArraySequenceGenerator
     private int maxLength = 10;
     // When set, overrides min/max
     private Integer fixedLength;
-    private Envelope inputEnvelope;
 
     /**
      * Default constructor.
@@ -109,7 +108,7 @@ public class CoordinateArraySequenceGenerator
 
     @Override
     public CoordinateArraySequenceGenerator within(Envelope validGenerationAreaEnvelope) {
-        this.inputEnvelope = validGenerationAreaEnvelope;
+        this.coordinateGenerator.within(validGenerationAreaEnvelope);
         return this;
     }
 
@@ -125,11 +124,7 @@ public class CoordinateArraySequenceGenerator
                     : random.intRange(minLength, maxLength);
             var coordinates = new ArrayList<Coordinate>();
             for (int i = 0; i < totalCoordinates; i++) {
-                if (this.inputEnvelope != null) {
-                    coordinates.add(coordinateGenerator.within(this.inputEnvelope).generate(random));
-                } else {
-                    coordinates.add(coordinateGenerator.generate(random));
-                }
+                coordinates.add(coordinateGenerator.generate(random));
             }
 
             var factory = CoordinateArraySequenceFactory.instance();
@@ -16,7 +16,7 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl;
 
-import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.BoundsRecord;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.EnvelopableGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.impl.PackedCoordinateSequenceGeneratorSpec;
 import com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom.impl.PackedCoordinateSequenceSpec;
@@ -30,18 +30,31 @@ import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import java.util.ArrayList;
 import java.util.List;
 
-/**
- * Generator for creating a CoordinateArraySequence, with 1,10 coordinates randomly
- * generated in the array sequence.
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.MAX_LATITUDE;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.MAX_LONGITUDE;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.MIN_LATITUDE;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.MIN_LONGITUDE;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.getBounds;
+import static com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility.randomOrdinate;
 
+/**
+ * Generator for creating a PackedCoordinateSequence, with 1,10 coordinates randomly
+ * generated in the packed sequence.
+ * <p>
+ * Ordinates are drawn straight into the backing {@code double[]} or {@code float[]} of
+ * the packed sequence, so no intermediate {@link Coordinate} instances are allocated.
+ *
  * @since 1.0.0
  */
 public class PackedCoordinateSequenceGenerator
         implements PackedCoordinateSequenceSpec, PackedCoordinateSequenceGeneratorSpec,
         EnvelopableGenerator<PackedCoordinateSequence> {
 
-    private final CoordinateGenerator coordinateGenerator =
-            new CoordinateGenerator();
+    private static final BoundsRecord WORLD_BOUNDS =
+            new BoundsRecord(MIN_LONGITUDE, MAX_LONGITUDE, MIN_LATITUDE, MAX_LATITUDE);
+
+    // Matches the dimension PackedCoordinateSequenceFactory infers for a plain Coordinate
+    private static final int DEFAULT_DIMENSION = 3;
 
     private final List<Coordinate> overriddenCoordinateSequence = new ArrayList<>();
 
@@ -51,6 +64,10 @@ public class PackedCoordinateSequenceGenerator
     // When set, overrides min/max
     private Integer fixedLength;
     private Envelope inputEnvelope;
+    // When null, generates XY coordinates with an unset (NaN) z ordinate
+    private Integer dimension;
+    private int measures;
+    private int type = PackedCoordinateSequenceFactory.DOUBLE;
 
     /**
      * Default constructor.
@@ -107,6 +124,41 @@ public class PackedCoordinateSequenceGenerator
         return this;
     }
 
+    /**
+     * Sets the number of ordinates per coordinate and how many of them are measures.
+     * Any z and m ordinates are filled with random values.
+     * @param dimension total ordinates per coordinate, between 2 and 4
+     * @param measures number of measure ordinates, 0 or 1
+     * @return this generator
+     */
+    @Override
+    public PackedCoordinateSequenceGenerator dimension(int dimension, int measures) {
+        if (measures < 0 || measures > 1) {
+            throw new IllegalArgumentException("measures must be 0 or 1");
+        }
+        int spatial = dimension - measures;
+        if (spatial < 2 || spatial > 3) {
+            throw new IllegalArgumentException("dimension minus measures must be 2 or 3");
+        }
+        this.dimension = dimension;
+        this.measures = measures;
+        return this;
+    }
+
+    /**
+     * Sets the storage type of the generated sequence.
+     * @param type {@link PackedCoordinateSequenceFactory#DOUBLE} or {@link PackedCoordinateSequenceFactory#FLOAT}
+     * @return this generator
+     */
+    @Override
+    public PackedCoordinateSequenceGenerator type(int type) {
+        if (type != PackedCoordinateSequenceFactory.DOUBLE && type != PackedCoordinateSequenceFactory.FLOAT) {
+            throw new IllegalArgumentException("type must be PackedCoordinateSequenceFactory.DOUBLE or FLOAT");
+        }
+        this.type = type;
+        return this;
+    }
+
     @Override
     public PackedCoordinateSequenceGenerator within(Envelope validGenerationAreaEnvelope) {
         this.inputEnvelope = validGenerationAreaEnvelope;
@@ -115,24 +167,44 @@ public class PackedCoordinateSequenceGenerator
 
     @Override
     public PackedCoordinateSequence generate(Random random) {
-        if(overriddenCoordinateSequence.isEmpty()) {
-            int totalCoordinates = (fixedLength != null)
-                    ? fixedLength
-                    : random.intRange(minLength, maxLength);
-            var coordinates = new ArrayList<Coordinate>();
-            for (int i = 0; i < totalCoordinates; i++) {
-                if(this.inputEnvelope != null) {
-                    coordinates.add(coordinateGenerator.within(this.inputEnvelope).generate(random));
-                } else {
-                    coordinates.add(coordinateGenerator.generate(random));
-                }
-            }
-            var factory = new PackedCoordinateSequenceFactory();
-            return (PackedCoordinateSequence) factory.create(coordinates.toArray(Coordinate[]::new));
-        } else {
-            return (PackedCoordinateSequence) new PackedCoordinateSequenceFactory(PackedCoordinateSequenceFactory.DOUBLE).create(
+        if(!overriddenCoordinateSequence.isEmpty()) {
+            return (PackedCoordinateSequence) new PackedCoordinateSequenceFactory(type).create(
                     overriddenCoordinateSequence.toArray(Coordinate[]::new)
             );
         }
+
+        int totalCoordinates = (fixedLength != null)
+                ? fixedLength
+                : random.intRange(minLength, maxLength);
+        int ordinates = dimension == null ? DEFAULT_DIMENSION : dimension;
+        var bounds = inputEnvelope == null ? WORLD_BOUNDS : getBounds(inputEnvelope);
+
+        if (type == PackedCoordinateSequenceFactory.FLOAT) {
+            var packed = new float[totalCoordinates * ordinates];
+            for (int offset = 0; offset < packed.length; offset += ordinates) {
+                packed[offset] = (float) random.doubleRange(bounds.minLon(), bounds.maxLon());
+                packed[offset + 1] = (float) random.doubleRange(bounds.minLat(), bounds.maxLat());
+                for (int ordinate = 2; ordinate < ordinates; ordinate++) {
+                    packed[offset + ordinate] = (float) extraOrdinate(random);
+                }
+            }
+            return new PackedCoordinateSequence.Float(packed, ordinates, measures);
+        }
+
+        var packed = new double[totalCoordinates * ordinates];
+        for (int offset = 0; offset < packed.length; offset += ordinates) {
+            packed[offset] = random.doubleRange(bounds.minLon(), bounds.maxLon());
+            packed[offset + 1] = random.doubleRange(bounds.minLat(), bounds.maxLat());
+            for (int ordinate = 2; ordinate < ordinates; ordinate++) {
+                packed[offset + ordinate] = extraOrdinate(random);
+            }
+        }
+        return new PackedCoordinateSequence.Double(packed, ordinates, measures);
+    }
+
+    private double extraOrdinate(Random random) {
+        return dimension == null
+                ? Coordinate.NULLORDINATE
+                : randomOrdinate(random);
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.Arrays;
+
+/**
+ * Orders geometries along a Hilbert curve through the centres of their envelopes, so that
+ * geometries close in the output are close in space.
+ *
+ * <p>Centres are quantized onto a {@code 2^}{@value #ORDER} grid spanning their own extent,
+ * giving each geometry a 32-bit curve index. The indexes are packed with the original
+ * positions into {@code long} keys and ordered by an LSD radix sort over the index bytes,
+ * which is linear in the number of geometries and stable for equal indexes.</p>
+ */
+public class HilbertUtility {
+
+    /**
+     * Bits per axis of the quantization grid.
+     */
+    public static final int ORDER = 16;
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HilbertUtility() {
+    }
+
+    /**
+     * Returns the distance along the Hilbert curve of the given cell on a {@code 2^order} square grid.
+     *
+     * @param x - cell column, between 0 and {@code 2^order - 1}
+     * @param y - cell row, between 0 and {@code 2^order - 1}
+     * @param order - bits per axis, between 1 and 30
+     * @return - the curve index, between 0 and {@code 4^order - 1}
+     */
+    public static long index(int x, int y, int order) {
+        if (order < 1 || order > 30) {
+            throw new IllegalArgumentException("order must be between 1 and 30");
+        }
+        var n = 1 << order;
+        long d = 0;
+        for (int s = n >>> 1; s > 0; s >>>= 1) {
+            var rx = (x & s) != 0 ? 1 : 0;
+            var ry = (y & s) != 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            // Rotate the quadrant so the sub-curve is visited in the canonical orientation
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = n - 1 - x;
+                    y = n - 1 - y;
+                }
+                var t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Sorts the array in place by the Hilbert index of each geometry's envelope centre. Null and
+     * empty geometries have no centre and keep their relative order at the end of the array.
+     *
+     * @param geometries - the geometries to sort
+     * @param <T> - the geometry type
+     * @return - the same array
+     */
+    public static <T extends Geometry> T[] sort(T[] geometries) {
+        var n = geometries.length;
+        if (n < 2) {
+            return geometries;
+        }
+        var centreX = new double[n];
+        var centreY = new double[n];
+        var positions = new int[n];
+        var valid = 0;
+        var minX = Double.POSITIVE_INFINITY;
+        var maxX = Double.NEGATIVE_INFINITY;
+        var minY = Double.POSITIVE_INFINITY;
+        var maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            var geometry = geometries[i];
+            if (geometry == null || geometry.isEmpty()) {
+                continue;
+            }
+            var envelope = geometry.getEnvelopeInternal();
+            var x = (envelope.getMinX() + envelope.getMaxX()) / 2;
+            var y = (envelope.getMinY() + envelope.getMaxY()) / 2;
+            centreX[valid] = x;
+            centreY[valid] = y;
+            positions[valid] = i;
+            valid++;
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+
+        var cells = (1 << ORDER) - 1;
+        var scaleX = maxX > minX ? cells / (maxX - minX) : 0;
+        var scaleY = maxY > minY ? cells / (maxY - minY) : 0;
+        var keys = new long[valid];
+        for (int i = 0; i < valid; i++) {
+            var qx = (int) Math.round((centreX[i] - minX) * scaleX);
+            var qy = (int) Math.round((centreY[i] - minY) * scaleY);
+            // Curve index in the high 32 bits, source position in the low 32 bits
+            keys[i] = (index(qx, qy, ORDER) << 32) | positions[i];
+        }
+        radixSortHigh32(keys);
+
+        var source = geometries.clone();
+        var next = 0;
+        for (long key : keys) {
+            geometries[next++] = source[(int) key];
+        }
+        for (int i = 0; i < n; i++) {
+            var geometry = source[i];
+            if (geometry == null || geometry.isEmpty()) {
+                geometries[next++] = geometry;
+            }
+        }
+        return geometries;
+    }
+
+    /**
+     * Stable LSD radix sort of the keys by their high 32 bits, treated as unsigned.
+     */
+    private static void radixSortHigh32(long[] keys) {
+        if (keys.length < 2) {
+            return;
+        }
+        var buffer = new long[keys.length];
+        var counts = new int[BUCKETS];
+        var from = keys;
+        var to = buffer;
+        for (int shift = 32; shift < 64; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (long key : from) {
+                counts[(int) (key >>> shift) & (BUCKETS - 1)]++;
+            }
+            // Every key shares this byte, so the pass would not move anything
+            if (counts[(int) (from[0] >>> shift) & (BUCKETS - 1)] == from.length) {
+                continue;
+            }
+            var offset = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                var c = counts[b];
+                counts[b] = offset;
+                offset += c;
+            }
+            for (long key : from) {
+                to[counts[(int) (key >>> shift) & (BUCKETS - 1)]++] = key;
+            }
+            var swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != keys) {
+            System.arraycopy(from, 0, keys, 0, keys.length);
+        }
+    }
+}
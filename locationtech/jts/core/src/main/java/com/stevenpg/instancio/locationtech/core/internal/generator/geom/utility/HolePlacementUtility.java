@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
+
+import java.util.Arrays;
+
+/**
+ * Places non-overlapping hole disks inside a polygon shell by rejection sampling.
+ *
+ * <p>Candidate disks are drawn uniformly over the shell's envelope. A candidate is kept only
+ * if its centre lies inside the shell and the shell boundary is clear of the whole disk.
+ * Candidates are then checked against each other in rounds. Each round bulk-loads an
+ * {@link STRtree} with the disks already accepted plus the round's candidates, and accepts
+ * candidates greedily in draw order, so an overlap check costs one index query instead of a
+ * scan over every hole. Each unsuccessful round shrinks the disk radius, which lets
+ * thousands of holes fit.</p>
+ */
+public class HolePlacementUtility {
+
+    // Disks keep this much extra clearance, relative to their radius, from each other and the shell
+    private static final double CLEARANCE = 1.05;
+
+    // Holes start out covering at most this share of the shell's area
+    private static final double TARGET_COVERAGE = 0.25;
+
+    private static final double RADIUS_DECAY = 0.7;
+    private static final int MAX_ROUNDS = 48;
+    private static final int MIN_BATCH = 64;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HolePlacementUtility() {
+    }
+
+    /**
+     * Places up to {@code holes} disjoint disks strictly inside the shell. Fewer are returned only
+     * if the round budget runs out, which needs a shell with almost no interior area.
+     *
+     * @param random - the random instance to use
+     * @param shell - the exterior ring the disks must lie inside
+     * @param holes - the number of disks to place
+     * @return - {@code [x0, y0, r0, x1, y1, r1, ...]}, one centre and radius per placed disk
+     */
+    public static double[] placeHoleDisks(Random random, LinearRing shell, int holes) {
+        if (holes <= 0) {
+            return new double[0];
+        }
+        var shellPolygon = shell.getFactory().createPolygon(shell);
+        var area = shellPolygon.getArea();
+        var bounds = shell.getEnvelopeInternal();
+        if (area <= 0 || bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
+            return new double[0];
+        }
+        var locator = new IndexedPointInAreaLocator(shellPolygon);
+        var boundaryDistance = new IndexedFacetDistance(shell);
+
+        var accepted = new double[holes * 3];
+        var placed = 0;
+        var radius = Math.sqrt(TARGET_COVERAGE * area / (Math.PI * holes));
+        for (int round = 0; round < MAX_ROUNDS && placed < holes; round++) {
+            var remaining = holes - placed;
+            var candidates = drawCandidates(random, Math.max(MIN_BATCH, 4 * remaining), radius, bounds,
+                    locator, boundaryDistance, shell);
+            placed = acceptNonOverlapping(accepted, placed, holes, candidates);
+            radius *= RADIUS_DECAY;
+        }
+        return placed == holes ? accepted : Arrays.copyOf(accepted, placed * 3);
+    }
+
+    private static double[] drawCandidates(Random random, int count, double radius, Envelope bounds,
+                                           IndexedPointInAreaLocator locator, IndexedFacetDistance boundaryDistance,
+                                           LinearRing shell) {
+        var candidates = new double[count * 3];
+        var kept = 0;
+        for (int i = 0; i < count; i++) {
+            var x = random.doubleRange(bounds.getMinX(), bounds.getMaxX());
+            var y = random.doubleRange(bounds.getMinY(), bounds.getMaxY());
+            var r = radius * random.doubleRange(0.5, 1);
+            var centre = new Coordinate(x, y);
+            if (locator.locate(centre) != Location.INTERIOR) {
+                continue;
+            }
+            if (boundaryDistance.distance(shell.getFactory().createPoint(centre)) <= r * CLEARANCE) {
+                continue;
+            }
+            candidates[3 * kept] = x;
+            candidates[3 * kept + 1] = y;
+            candidates[3 * kept + 2] = r;
+            kept++;
+        }
+        return Arrays.copyOf(candidates, kept * 3);
+    }
+
+    /**
+     * Bulk-loads the accepted disks and the candidates into one STRtree, then walks the
+     * candidates in order and accepts each one that clears every disk accepted so far.
+     */
+    private static int acceptNonOverlapping(double[] accepted, int placed, int holes, double[] candidates) {
+        var candidateCount = candidates.length / 3;
+        if (candidateCount == 0) {
+            return placed;
+        }
+        var tree = new STRtree();
+        // Items are encoded as indices: accepted disks first, then candidates offset by the accepted count
+        for (int i = 0; i < placed; i++) {
+            tree.insert(clearanceEnvelope(accepted, i), i);
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            tree.insert(clearanceEnvelope(candidates, i), placed + i);
+        }
+
+        var acceptedCandidate = new boolean[candidateCount];
+        var acceptedBefore = placed;
+        for (int i = 0; i < candidateCount && placed < holes; i++) {
+            var fits = true;
+            for (Object item : tree.query(clearanceEnvelope(candidates, i))) {
+                int index = (Integer) item;
+                if (index < acceptedBefore) {
+                    fits = !overlaps(candidates, i, accepted, index);
+                } else if (acceptedCandidate[index - acceptedBefore]) {
+                    fits = !overlaps(candidates, i, candidates, index - acceptedBefore);
+                }
+                if (!fits) {
+                    break;
+                }
+            }
+            if (fits) {
+                acceptedCandidate[i] = true;
+                System.arraycopy(candidates, 3 * i, accepted, 3 * placed, 3);
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    private static Envelope clearanceEnvelope(double[] disks, int i) {
+        var x = disks[3 * i];
+        var y = disks[3 * i + 1];
+        var reach = disks[3 * i + 2] * CLEARANCE;
+        return new Envelope(x - reach, x + reach, y - reach, y + reach);
+    }
+
+    private static boolean overlaps(double[] disks, int i, double[] others, int j) {
+        var dx = disks[3 * i] - others[3 * j];
+        var dy = disks[3 * i + 1] - others[3 * j + 1];
+        var reach = (disks[3 * i + 2] + others[3 * j + 2]) * CLEARANCE;
+        return dx * dx + dy * dy <= reach * reach;
+    }
+}
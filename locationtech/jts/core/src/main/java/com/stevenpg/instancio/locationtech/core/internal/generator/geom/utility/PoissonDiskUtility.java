@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.Arrays;
+
+/**
+ * Poisson-disk (blue-noise) point sampling using Bridson's algorithm.
+ *
+ * <p>A background grid with cells of side {@code minDistance / sqrt(2)} holds at most one point
+ * per cell, so checking a candidate against its neighbours reads a fixed 5x5 block of cells.
+ * Starting from one uniform seed, each step picks a random active point and tries up to
+ * {@value #ATTEMPTS} candidates in the annulus between {@code minDistance} and
+ * {@code 2 * minDistance} around it; a point whose candidates all fail is retired. Every point
+ * is activated and retired once, so a maximal set of {@code n} points costs O(n).</p>
+ */
+public class PoissonDiskUtility {
+
+    /**
+     * Candidates tried around an active point before it is retired.
+     */
+    public static final int ATTEMPTS = 30;
+
+    /**
+     * Largest background grid allocated, in cells. Each cell takes one {@code int}, so the grid
+     * stays within 64 MB and a default test JVM fails fast instead of running out of memory.
+     */
+    public static final long MAX_GRID_CELLS = 1L << 24;
+
+    private static final int EMPTY = -1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PoissonDiskUtility() {
+    }
+
+    /**
+     * Fills the envelope with points no closer than {@code minDistance} to each other, until no
+     * further point fits. A null envelope means the whole world.
+     *
+     * @param random - the random instance to use
+     * @param envelope - envelope to generate points within, may be null
+     * @param minDistance - minimum distance between any two points
+     * @return - {@code [x0, y0, x1, y1, ...]}, one pair per point, in generation order
+     */
+    public static double[] sample(Random random, Envelope envelope, double minDistance) {
+        if (!(minDistance > 0) || Double.isInfinite(minDistance)) {
+            throw new IllegalArgumentException("minDistance must be finite and > 0");
+        }
+        var minX = envelope != null ? envelope.getMinX() : WithinUtility.MIN_LONGITUDE;
+        var maxX = envelope != null ? envelope.getMaxX() : WithinUtility.MAX_LONGITUDE;
+        var minY = envelope != null ? envelope.getMinY() : WithinUtility.MIN_LATITUDE;
+        var maxY = envelope != null ? envelope.getMaxY() : WithinUtility.MAX_LATITUDE;
+        var width = maxX - minX;
+        var height = maxY - minY;
+
+        var cellSize = minDistance / Math.sqrt(2);
+        var columns = Math.max(1, (int) Math.min(Integer.MAX_VALUE, Math.ceil(width / cellSize)));
+        var rows = Math.max(1, (int) Math.min(Integer.MAX_VALUE, Math.ceil(height / cellSize)));
+        if ((long) columns * rows > MAX_GRID_CELLS) {
+            throw new IllegalArgumentException("minDistance " + minDistance + " is too small for the envelope ["
+                    + minX + ", " + maxX + "] x [" + minY + ", " + maxY + "]: the grid would need "
+                    + ((long) columns * rows) + " cells, more than " + MAX_GRID_CELLS);
+        }
+        var grid = new int[columns * rows];
+        Arrays.fill(grid, EMPTY);
+
+        var points = new double[64];
+        var active = new int[32];
+        var minDistanceSquared = minDistance * minDistance;
+
+        points[0] = random.doubleRange(minX, maxX);
+        points[1] = random.doubleRange(minY, maxY);
+        grid[cellIndex(points[0], points[1], minX, minY, cellSize, columns, rows)] = 0;
+        active[0] = 0;
+        var activeCount = 1;
+        var count = 1;
+
+        while (activeCount > 0) {
+            var slot = random.intRange(0, activeCount - 1);
+            var parent = active[slot];
+            var px = points[2 * parent];
+            var py = points[2 * parent + 1];
+            var placed = false;
+
+            for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                // Uniform by area over the annulus between minDistance and 2 * minDistance
+                var radius = minDistance * Math.sqrt(1 + 3 * random.doubleRange(0, 1));
+                var angle = 2 * Math.PI * random.doubleRange(0, 1);
+                var x = px + radius * Math.cos(angle);
+                var y = py + radius * Math.sin(angle);
+                if (x < minX || x > maxX || y < minY || y > maxY) {
+                    continue;
+                }
+                var column = Math.min(columns - 1, (int) ((x - minX) / cellSize));
+                var row = Math.min(rows - 1, (int) ((y - minY) / cellSize));
+                if (grid[row * columns + column] != EMPTY
+                        || hasNeighbourWithin(points, grid, columns, rows, column, row, x, y, minDistanceSquared)) {
+                    continue;
+                }
+
+                if (2 * count == points.length) {
+                    points = Arrays.copyOf(points, points.length * 2);
+                }
+                points[2 * count] = x;
+                points[2 * count + 1] = y;
+                grid[row * columns + column] = count;
+                if (activeCount == active.length) {
+                    active = Arrays.copyOf(active, active.length * 2);
+                }
+                active[activeCount++] = count;
+                count++;
+                placed = true;
+                break;
+            }
+
+            if (!placed) {
+                active[slot] = active[--activeCount];
+            }
+        }
+        return Arrays.copyOf(points, 2 * count);
+    }
+
+    private static int cellIndex(double x, double y, double minX, double minY,
+                                 double cellSize, int columns, int rows) {
+        var column = Math.min(columns - 1, (int) ((x - minX) / cellSize));
+        var row = Math.min(rows - 1, (int) ((y - minY) / cellSize));
+        return row * columns + column;
+    }
+
+    private static boolean hasNeighbourWithin(double[] points, int[] grid, int columns, int rows,
+                                              int column, int row, double x, double y,
+                                              double minDistanceSquared) {
+        // Cells are minDistance / sqrt(2) wide, so any point closer than minDistance is at most two cells away
+        var fromRow = Math.max(0, row - 2);
+        var toRow = Math.min(rows - 1, row + 2);
+        var fromColumn = Math.max(0, column - 2);
+        var toColumn = Math.min(columns - 1, column + 2);
+        for (int r = fromRow; r <= toRow; r++) {
+            var offset = r * columns;
+            for (int c = fromColumn; c <= toColumn; c++) {
+                var index = grid[offset + c];
+                if (index != EMPTY) {
+                    var dx = points[2 * index] - x;
+                    var dy = points[2 * index + 1] - y;
+                    if (dx * dx + dy * dy < minDistanceSquared) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
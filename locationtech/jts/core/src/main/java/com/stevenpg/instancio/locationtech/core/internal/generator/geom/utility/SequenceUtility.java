@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Helpers that write generated coordinates straight into a pre-sized {@link CoordinateSequence},
+ * so large geometries are built without intermediate coordinate lists or copies.
+ */
+public class SequenceUtility {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SequenceUtility() {
+    }
+
+    /**
+     * Writes random coordinates within the envelope into the first {@code count} positions
+     * of the sequence. A null envelope means the whole world.
+     *
+     * @param random - the random instance to use
+     * @param target - the sequence to write into, at least {@code count} long
+     * @param count - the number of coordinates to write
+     * @param envelope - envelope to generate coordinates within, may be null
+     */
+    public static void fillRandom(Random random, CoordinateSequence target, int count, Envelope envelope) {
+        var minX = envelope != null ? envelope.getMinX() : WithinUtility.MIN_LONGITUDE;
+        var maxX = envelope != null ? envelope.getMaxX() : WithinUtility.MAX_LONGITUDE;
+        var minY = envelope != null ? envelope.getMinY() : WithinUtility.MIN_LATITUDE;
+        var maxY = envelope != null ? envelope.getMaxY() : WithinUtility.MAX_LATITUDE;
+        for (int i = 0; i < count; i++) {
+            target.setOrdinate(i, CoordinateSequence.X, random.doubleRange(minX, maxX));
+            target.setOrdinate(i, CoordinateSequence.Y, random.doubleRange(minY, maxY));
+        }
+    }
+
+    /**
+     * Closes a ring in place by copying the first coordinate's ordinates into the last position.
+     *
+     * @param ring - the sequence to close, whose last position is reserved for the closing coordinate
+     */
+    public static void closeRing(CoordinateSequence ring) {
+        var last = ring.size() - 1;
+        for (int dim = 0; dim < ring.getDimension(); dim++) {
+            ring.setOrdinate(last, dim, ring.getOrdinate(0, dim));
+        }
+    }
+}
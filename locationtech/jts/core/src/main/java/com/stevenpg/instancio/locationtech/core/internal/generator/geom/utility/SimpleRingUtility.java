@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.Arrays;
+
+/**
+ * Builds rings that are simple by construction.
+ *
+ * <p>Rings are star-shaped: vertex angles around a centre are drawn at random and sorted,
+ * and each vertex gets a random radius. Consecutive angles are less than half a turn apart,
+ * so the centre sees every edge and no two edges can cross. The unit disk is mapped onto the
+ * ellipse inscribed in the generation envelope; that mapping is affine, so rings stay simple.
+ * Vertices are written once, straight into the target sequence, and the ring is closed in place.</p>
+ */
+public class SimpleRingUtility {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    // Keeps vertices away from the centre so rings do not degenerate into slivers
+    private static final double MIN_RADIUS = 0.35;
+
+    // Retries before falling back to evenly spaced angles; only three or four vertex rings ever retry
+    private static final int MAX_ATTEMPTS = 32;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SimpleRingUtility() {
+    }
+
+    /**
+     * Writes a star-shaped ring into the target sequence. Its vertices lie inside the ellipse
+     * inscribed in the envelope, and the envelope's centre lies inside the ring.
+     *
+     * @param random - the random instance to use
+     * @param vertices - the number of unique vertices, must be >= 3
+     * @param target - the sequence to write into, exactly {@code vertices + 1} long
+     * @param envelope - envelope to generate the ring within, may be null for the whole world
+     * @param clockwise - whether to write the ring in clockwise order
+     */
+    public static void writeStarRing(Random random, int vertices, CoordinateSequence target,
+                                     Envelope envelope, boolean clockwise) {
+        if (vertices < 3) {
+            throw new IllegalArgumentException("vertices must be >= 3");
+        }
+        var minX = envelope != null ? envelope.getMinX() : WithinUtility.MIN_LONGITUDE;
+        var maxX = envelope != null ? envelope.getMaxX() : WithinUtility.MAX_LONGITUDE;
+        var minY = envelope != null ? envelope.getMinY() : WithinUtility.MIN_LATITUDE;
+        var maxY = envelope != null ? envelope.getMaxY() : WithinUtility.MAX_LATITUDE;
+        var centreX = (minX + maxX) / 2;
+        var centreY = (minY + maxY) / 2;
+        var scaleX = (maxX - minX) / 2;
+        var scaleY = (maxY - minY) / 2;
+
+        var angles = randomSortedAngles(random, vertices);
+        for (int i = 0; i < vertices; i++) {
+            var vertexRadius = random.doubleRange(MIN_RADIUS, 1);
+            var index = clockwise ? vertices - 1 - i : i;
+            target.setOrdinate(index, CoordinateSequence.X, centreX + scaleX * vertexRadius * Math.cos(angles[i]));
+            target.setOrdinate(index, CoordinateSequence.Y, centreY + scaleY * vertexRadius * Math.sin(angles[i]));
+        }
+        SequenceUtility.closeRing(target);
+    }
+
+    private static double[] randomSortedAngles(Random random, int vertices) {
+        var angles = new double[vertices];
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            for (int i = 0; i < vertices; i++) {
+                angles[i] = random.doubleRange(0, TWO_PI);
+            }
+            Arrays.sort(angles);
+            if (surroundsOrigin(angles)) {
+                return angles;
+            }
+        }
+        var offset = random.doubleRange(0, TWO_PI / vertices);
+        for (int i = 0; i < vertices; i++) {
+            angles[i] = offset + TWO_PI * i / vertices;
+        }
+        return angles;
+    }
+
+    // Every gap, including the wrap-around, must be positive and below half a turn
+    private static boolean surroundsOrigin(double[] sortedAngles) {
+        var last = sortedAngles.length - 1;
+        var wrapGap = sortedAngles[0] + TWO_PI - sortedAngles[last];
+        if (wrapGap <= 0 || wrapGap >= Math.PI) {
+            return false;
+        }
+        for (int i = 1; i <= last; i++) {
+            var gap = sortedAngles[i] - sortedAngles[i - 1];
+            if (gap <= 0 || gap >= Math.PI) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
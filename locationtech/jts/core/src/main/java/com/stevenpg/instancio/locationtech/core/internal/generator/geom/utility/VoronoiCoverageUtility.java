@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.IncrementalDelaunayTriangulator;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Voronoi tessellation of an envelope into a polygonal coverage.
+ *
+ * <p>Sites are triangulated in a {@link QuadEdgeSubdivision} whose frame is sized from the envelope
+ * rather than from the sites, so no frame vertex can claim part of the envelope however the sites
+ * fall. Each cell is convex and is clipped to the envelope with Sutherland-Hodgman instead of a
+ * general overlay. Neighbouring cells share the same circumcentre vertices, and every clip point is
+ * computed from the segment's endpoints in a fixed order, so cells meeting along an edge carry
+ * bit-identical vertices and together cover the envelope exactly, without gaps or overlaps.</p>
+ *
+ * <p>Lloyd relaxation moves every site to the centroid of its clipped cell and rebuilds the
+ * diagram, evening out cell sizes towards a centroidal Voronoi tessellation.</p>
+ */
+public class VoronoiCoverageUtility {
+
+    private static final GeometryFactory workingGeometryFactory = new GeometryFactory();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private VoronoiCoverageUtility() {
+    }
+
+    /**
+     * Tessellates the envelope into Voronoi cells around uniformly placed sites. A null envelope
+     * means the whole world.
+     *
+     * @param random - the random instance to use
+     * @param envelope - envelope to cover, may be null
+     * @param cells - the number of sites
+     * @param relaxations - the number of Lloyd relaxation passes
+     * @param geometryFactory - the geometry factory used to create the cells
+     * @return - the cells, adjacent ones sharing their edges exactly
+     */
+    public static Polygon[] tessellate(Random random, Envelope envelope, int cells, int relaxations,
+                                       GeometryFactory geometryFactory) {
+        if (cells < 1) {
+            throw new IllegalArgumentException("cells must be >= 1");
+        }
+        if (relaxations < 0) {
+            throw new IllegalArgumentException("relaxations must be >= 0");
+        }
+        var bounds = envelope != null ? envelope : new Envelope(
+                WithinUtility.MIN_LONGITUDE, WithinUtility.MAX_LONGITUDE,
+                WithinUtility.MIN_LATITUDE, WithinUtility.MAX_LATITUDE);
+        if (!(bounds.getWidth() > 0 && bounds.getHeight() > 0)) {
+            throw new IllegalArgumentException("envelope must have a positive width and height");
+        }
+
+        var sites = new ArrayList<Coordinate>(cells);
+        for (int i = 0; i < cells; i++) {
+            sites.add(new Coordinate(
+                    random.doubleRange(bounds.getMinX(), bounds.getMaxX()),
+                    random.doubleRange(bounds.getMinY(), bounds.getMaxY())));
+        }
+
+        var rings = clippedCells(sites, bounds);
+        for (int pass = 0; pass < relaxations; pass++) {
+            sites = new ArrayList<>(rings.size());
+            for (var ring : rings) {
+                sites.add(centroid(ring));
+            }
+            rings = clippedCells(sites, bounds);
+        }
+
+        var polygons = new Polygon[rings.size()];
+        for (int i = 0; i < polygons.length; i++) {
+            var ring = rings.get(i);
+            var points = ring.length / 2;
+            var coordinates = new Coordinate[points + 1];
+            for (int j = 0; j < points; j++) {
+                coordinates[j] = new Coordinate(ring[2 * j], ring[2 * j + 1]);
+            }
+            coordinates[points] = coordinates[0].copy();
+            polygons[i] = geometryFactory.createPolygon(coordinates);
+        }
+        return polygons;
+    }
+
+    /**
+     * Builds the Voronoi diagram of the sites and clips each cell to the envelope.
+     *
+     * @return open rings as interleaved x/y pairs, one per non-degenerate cell
+     */
+    private static List<double[]> clippedCells(List<Coordinate> sites, Envelope bounds) {
+        var unique = DelaunayTriangulationBuilder.unique(sites.toArray(new Coordinate[0]));
+        var subdivision = new QuadEdgeSubdivision(bounds, 0);
+        new IncrementalDelaunayTriangulator(subdivision).insertSites(DelaunayTriangulationBuilder.toVertices(unique));
+
+        var rings = new ArrayList<double[]>(unique.size());
+        for (var cell : subdivision.getVoronoiCellPolygons(workingGeometryFactory)) {
+            var ring = clip(((Polygon) cell).getExteriorRing().getCoordinates(), bounds);
+            if (ring != null) {
+                rings.add(ring);
+            }
+        }
+        return rings;
+    }
+
+    /**
+     * Sutherland-Hodgman clipping of a closed convex ring against the four sides of the envelope.
+     *
+     * @return the clipped open ring, or null when fewer than three distinct vertices remain
+     */
+    private static double[] clip(Coordinate[] closedRing, Envelope bounds) {
+        var count = closedRing.length - 1;
+        var ring = new double[2 * count];
+        for (int i = 0; i < count; i++) {
+            ring[2 * i] = closedRing[i].getX();
+            ring[2 * i + 1] = closedRing[i].getY();
+        }
+        var clipped = clipSide(ring, count, true, bounds.getMinX(), true);
+        clipped = clipSide(clipped, clipped.length / 2, true, bounds.getMaxX(), false);
+        clipped = clipSide(clipped, clipped.length / 2, false, bounds.getMinY(), true);
+        clipped = clipSide(clipped, clipped.length / 2, false, bounds.getMaxY(), false);
+        return removeRepeatedPoints(clipped);
+    }
+
+    private static double[] clipSide(double[] ring, int count, boolean vertical, double bound, boolean keepAbove) {
+        var out = new double[4 * count + 4];
+        var size = 0;
+        for (int i = 0; i < count; i++) {
+            var previous = (i + count - 1) % count;
+            var sx = ring[2 * previous];
+            var sy = ring[2 * previous + 1];
+            var ex = ring[2 * i];
+            var ey = ring[2 * i + 1];
+            var startInside = inside(vertical ? sx : sy, bound, keepAbove);
+            var endInside = inside(vertical ? ex : ey, bound, keepAbove);
+            if (startInside != endInside) {
+                size = addIntersection(out, size, sx, sy, ex, ey, vertical, bound);
+            }
+            if (endInside) {
+                out[size++] = ex;
+                out[size++] = ey;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static boolean inside(double value, double bound, boolean keepAbove) {
+        return keepAbove ? value >= bound : value <= bound;
+    }
+
+    private static int addIntersection(double[] out, int size, double sx, double sy, double ex, double ey,
+                                       boolean vertical, double bound) {
+        // Both cells sharing an edge must compute the same point, so always interpolate from the smaller endpoint
+        if (sx > ex || (sx == ex && sy > ey)) {
+            var x = sx;
+            var y = sy;
+            sx = ex;
+            sy = ey;
+            ex = x;
+            ey = y;
+        }
+        if (vertical) {
+            out[size++] = bound;
+            out[size++] = sy + (bound - sx) * (ey - sy) / (ex - sx);
+        } else {
+            out[size++] = sx + (bound - sy) * (ex - sx) / (ey - sy);
+            out[size++] = bound;
+        }
+        return size;
+    }
+
+    private static double[] removeRepeatedPoints(double[] ring) {
+        var count = ring.length / 2;
+        var out = new double[ring.length];
+        var size = 0;
+        for (int i = 0; i < count; i++) {
+            var x = ring[2 * i];
+            var y = ring[2 * i + 1];
+            if (size == 0 || x != out[size - 2] || y != out[size - 1]) {
+                out[size++] = x;
+                out[size++] = y;
+            }
+        }
+        while (size >= 4 && out[0] == out[size - 2] && out[1] == out[size - 1]) {
+            size -= 2;
+        }
+        return size >= 6 ? Arrays.copyOf(out, size) : null;
+    }
+
+    private static Coordinate centroid(double[] ring) {
+        var count = ring.length / 2;
+        // Relative to the first vertex to limit cancellation in the cross products
+        var originX = ring[0];
+        var originY = ring[1];
+        var area = 0.0;
+        var cx = 0.0;
+        var cy = 0.0;
+        for (int i = 0; i < count; i++) {
+            var next = (i + 1) % count;
+            var x0 = ring[2 * i] - originX;
+            var y0 = ring[2 * i + 1] - originY;
+            var x1 = ring[2 * next] - originX;
+            var y1 = ring[2 * next + 1] - originY;
+            var cross = x0 * y1 - x1 * y0;
+            area += cross;
+            cx += (x0 + x1) * cross;
+            cy += (y0 + y1) * cross;
+        }
+        if (area == 0) {
+            return new Coordinate(originX, originY);
+        }
+        return new Coordinate(originX + cx / (3 * area), originY + cy / (3 * area));
+    }
+}
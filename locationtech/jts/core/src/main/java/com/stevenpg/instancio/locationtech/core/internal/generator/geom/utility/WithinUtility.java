@@ -16,6 +16,8 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import org.instancio.Random;
 import org.locationtech.jts.geom.Envelope;
 
@@ -24,6 +26,26 @@ import org.locationtech.jts.geom.Envelope;
  */
 public class WithinUtility {
 
+    /**
+     * Minimum longitude generated when no envelope is provided.
+     */
+    public static final double MIN_LONGITUDE = -180;
+
+    /**
+     * Maximum longitude generated when no envelope is provided.
+     */
+    public static final double MAX_LONGITUDE = 180;
+
+    /**
+     * Minimum latitude generated when no envelope is provided.
+     */
+    public static final double MIN_LATITUDE = -90;
+
+    /**
+     * Maximum latitude generated when no envelope is provided.
+     */
+    public static final double MAX_LATITUDE = 90;
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -40,6 +62,23 @@ public class WithinUtility {
         return new BoundsRecord(envelope.getMinX(), envelope.getMaxX(), envelope.getMinY(), envelope.getMaxY());
     }
 
+    /**
+     * Returns a coordinate kernel covering the envelope, or the whole world when it is null,
+     * that places x/y pairs with the given distribution.
+     *
+     * @param envelope - envelope to generate coordinates within, may be null
+     * @param distribution - the distribution to use, or null for uniform
+     * @return - a kernel for the envelope
+     */
+    public static CoordinateKernel kernel(final Envelope envelope, final SpatialDistribution distribution) {
+        var kernel = CoordinateKernel.WGS84;
+        if (envelope != null) {
+            kernel = kernel.withXRange(envelope.getMinX(), envelope.getMaxX())
+                    .withYRange(envelope.getMinY(), envelope.getMaxY());
+        }
+        return kernel.withDistribution(distribution);
+    }
+
     /**
      * Returns a random longitude and latitude within the specified envelope.
      *
@@ -47,11 +86,41 @@ public class WithinUtility {
      * @return - a LonLatRecord containing the generated longitude and latitude
      */
     public static LonLatRecord randomLonLatInBounds(Random random) {
-        double longitude = random.doubleRange(-180, 180);
-        double latitude = random.doubleRange(-90, 90);
+        double longitude = randomLongitude(random);
+        double latitude = randomLatitude(random);
         return new LonLatRecord(longitude, latitude);
     }
 
+    /**
+     * Returns a random longitude drawn from the supplied random, so seeded runs are repeatable.
+     *
+     * @param random - the random instance to use
+     * @return - a longitude between -180 and 180
+     */
+    public static double randomLongitude(Random random) {
+        return CoordinateKernel.WGS84.x(random);
+    }
+
+    /**
+     * Returns a random latitude drawn from the supplied random, so seeded runs are repeatable.
+     *
+     * @param random - the random instance to use
+     * @return - a latitude between -90 and 90
+     */
+    public static double randomLatitude(Random random) {
+        return CoordinateKernel.WGS84.y(random);
+    }
+
+    /**
+     * Returns a random z or m ordinate drawn from the supplied random.
+     *
+     * @param random - the random instance to use
+     * @return - a value between 1 and 10,000
+     */
+    public static double randomOrdinate(Random random) {
+        return CoordinateKernel.WGS84.z(random);
+    }
+
     /**
      * Returns a random longitude and latitude within the specified envelope.
      *
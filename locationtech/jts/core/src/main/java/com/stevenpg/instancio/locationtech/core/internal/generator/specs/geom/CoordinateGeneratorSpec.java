@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import org.instancio.generator.GeneratorSpec;
 import org.locationtech.jts.geom.Coordinate;
 
@@ -44,4 +45,15 @@ public interface CoordinateGeneratorSpec extends GeneratorSpec<Coordinate> {
      */
     CoordinateGeneratorSpec longitude(double longitude);
 
+    /**
+     * Places generated coordinates with the given distribution instead of uniformly. The distribution
+     * is applied within the envelope passed to {@code within}, or the whole world without one, and is
+     * ignored when a latitude or longitude is fixed.
+     *
+     * @param distribution the distribution to use, for example a Gaussian mixture or a density grid
+     * @return spec builder
+     * @since 1.0.0
+     */
+    CoordinateGeneratorSpec distribution(SpatialDistribution distribution);
+
 }
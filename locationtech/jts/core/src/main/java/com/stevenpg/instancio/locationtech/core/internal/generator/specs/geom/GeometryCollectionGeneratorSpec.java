@@ -79,4 +79,12 @@ public interface GeometryCollectionGeneratorSpec extends GeneratorSpec<GeometryC
      * @return spec builder
      */
     GeometryCollectionGenerator geometryCollection(GeometryCollection geometryCollection);
+
+    /**
+     * Emit the members of generated collections in Hilbert-curve order of their envelope centres
+     * instead of generation order. Applies to heterogeneous collections and to generated Multi*
+     * subtypes; explicitly provided geometries and collections keep their order.
+     * @return spec builder
+     */
+    GeometryCollectionGenerator hilbertSorted();
 }
@@ -50,4 +50,12 @@ public interface LineStringGeneratorSpec extends GeneratorSpec<LineString> {
      */
     LineStringGenerator length(int length);
 
+    /**
+     * Write each LineString straight into a single pre-sized coordinate sequence, so memory grows
+     * linearly with the vertex count. Intended for LineStrings with 10^5 vertices or more.
+     * Unless a GeometryFactory is provided, LineStrings use a packed double sequence.
+     * @return spec builder
+     */
+    LineStringGenerator streaming();
+
 }
@@ -52,4 +52,42 @@ public interface LinearRingGeneratorSpec extends GeneratorSpec<LinearRing> {
      */
     LinearRingGenerator length(int length);
 
+    /**
+     * Set a range for the number of unique coordinates in the generated LinearRing. Values
+     * less than 3 are raised to the minimum of 3 unique coordinates.
+     * @param min the minimum number of unique coordinates
+     * @param max the maximum number of unique coordinates, must be >= min
+     * @return spec builder
+     */
+    LinearRingGenerator length(int min, int max);
+
+    /**
+     * Generate simple rings by construction. Vertices are sorted by angle around the centre
+     * of the generation area, so edges never cross and the ring passes
+     * {@code isValid()} without repair. Simple rings are counter-clockwise unless
+     * {@link #clockwise()} is requested.
+     * @return spec builder
+     */
+    LinearRingGenerator simple();
+
+    /**
+     * Generate simple rings with clockwise orientation. Implies {@link #simple()}.
+     * @return spec builder
+     */
+    LinearRingGenerator clockwise();
+
+    /**
+     * Generate simple rings with counter-clockwise orientation. Implies {@link #simple()}.
+     * @return spec builder
+     */
+    LinearRingGenerator counterClockwise();
+
+    /**
+     * Write each ring straight into a single pre-sized coordinate sequence and close it in place,
+     * so memory grows linearly with the vertex count. Intended for rings with 10^5 vertices or more.
+     * Unless a GeometryFactory is provided, rings use a packed double sequence.
+     * @return spec builder
+     */
+    LinearRingGenerator streaming();
+
 }
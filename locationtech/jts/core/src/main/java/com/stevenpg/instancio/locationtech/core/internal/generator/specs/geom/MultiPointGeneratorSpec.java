@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiPointGenerator;
 import org.instancio.generator.GeneratorSpec;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -45,9 +46,38 @@ public interface MultiPointGeneratorSpec extends GeneratorSpec<MultiPoint> {
     MultiPointGenerator geometryFactory(GeometryFactory geometryFactory);
 
     /**
-     * Set the length of the generated MultiPoint.
+     * Set the length of the generated MultiPoint. With {@code poissonDisk} the length picks a subset
+     * of the full sample, which is still built over the whole envelope so the subset stays spread
+     * across it; the cost follows the envelope area over {@code minDistance} squared, not the length.
      * @param length the number of coordinates must be >= 2
      * @return spec builder
      */
     MultiPointGenerator length(int length);
+
+    /**
+     * Places the generated points with the given distribution instead of uniformly, within the
+     * envelope passed to {@code within} or the whole world without one.
+     * @param distribution the distribution to use, for example a Gaussian mixture or a density grid
+     * @return spec builder
+     */
+    MultiPointGenerator distribution(SpatialDistribution distribution);
+
+    /**
+     * Generate a Poisson-disk (blue-noise) sample: points no closer than {@code minDistance} to each
+     * other, filling the envelope passed to {@code within} (or the whole world) until no further
+     * point fits. If a length is also set, a uniform random subset of that many points is returned,
+     * at the cost of the full sample. Runs in time linear in the number of points in the full
+     * sample, so millions of points are practical.
+     * @param minDistance the minimum distance between any two points, in coordinate units, must be > 0
+     * @return spec builder
+     */
+    MultiPointGenerator poissonDisk(double minDistance);
+
+    /**
+     * Emit the generated points in Hilbert-curve order instead of generation order, so neighbouring
+     * points are stored next to each other. Useful as input for R-tree bulk loading and columnar
+     * compression benchmarks. Points provided through {@code points(List)} keep their order.
+     * @return spec builder
+     */
+    MultiPointGenerator hilbertSorted();
 }
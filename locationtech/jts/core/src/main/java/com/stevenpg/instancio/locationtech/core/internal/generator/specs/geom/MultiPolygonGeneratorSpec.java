@@ -52,4 +52,25 @@ public interface MultiPolygonGeneratorSpec extends GeneratorSpec<MultiPolygon> {
      * @return spec builder
      */
     MultiPolygonGeneratorSpec length(int length);
+
+    /**
+     * Generate a coverage instead of independent polygons: the envelope is tessellated into Voronoi
+     * cells around random sites, and adjacent cells share their edges exactly, without gaps or
+     * overlaps. Because neighbouring members share edges the result is a polygonal coverage rather
+     * than a valid OGC MultiPolygon; use its members with coverage operations such as
+     * {@code CoverageUnion} and {@code CoverageValidator}.
+     * @param cells the number of cells, must be >= 1
+     * @return spec builder
+     * @since 1.0.0
+     */
+    MultiPolygonGeneratorSpec coverage(int cells);
+
+    /**
+     * Set the number of Lloyd relaxation passes applied to a coverage. Each pass moves every site to
+     * the centroid of its cell, making cells more even in size and shape. Defaults to 0.
+     * @param iterations the number of passes, must be >= 0
+     * @return spec builder
+     * @since 1.0.0
+     */
+    MultiPolygonGeneratorSpec lloydRelaxation(int iterations);
 }
@@ -16,7 +16,9 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import org.instancio.generator.GeneratorSpec;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 
 /**
@@ -34,4 +36,22 @@ public interface PointGeneratorSpec extends GeneratorSpec<Point> {
      */
     PointGeneratorSpec coordinate(double longitude, double latitude);
 
+    /**
+     * Provide an optional GeometryFactory to use to generate the Point.
+     * @param geometryFactory the geometry factory to use
+     * @return spec builder
+     */
+    PointGeneratorSpec geometryFactory(GeometryFactory geometryFactory);
+
+    /**
+     * Places generated points with the given distribution instead of uniformly, within the envelope
+     * passed to {@code within} or the whole world without one. Clustered distributions reproduce the
+     * skew of real data, such as points concentrated around cities.
+     *
+     * @param distribution the distribution to use, for example a Gaussian mixture or a density grid
+     * @return spec builder
+     * @since 1.0.0
+     */
+    PointGeneratorSpec distribution(SpatialDistribution distribution);
+
 }
@@ -59,10 +59,44 @@ public interface PolygonGeneratorSpec extends GeneratorSpec<Polygon> {
     PolygonGeneratorSpec vertices(int vertices);
 
     /**
-     * Set the number of holes (interior rings) to generate in the Polygon.
-     * @param holes the number of holes to generate
+     * Set the number of holes (interior rings) to generate in the Polygon. The count is an upper
+     * bound: holes are placed as disjoint disks strictly inside the shell, and a shell too small
+     * to fit them all gets only the holes that fit.
+     * @param holes the maximum number of holes to generate
      * @return spec builder
      */
     PolygonGeneratorSpec holes(int holes);
 
+    /**
+     * Generate valid polygons by construction. The exterior ring is star-shaped, so it never
+     * self-intersects, and holes are placed in disjoint disks strictly inside it. Generated
+     * polygons pass {@code isValid()} without repair. The shell is counter-clockwise and the
+     * holes clockwise unless {@link #clockwise()} is requested.
+     * @return spec builder
+     */
+    PolygonGeneratorSpec simple();
+
+    /**
+     * Generate valid polygons with a clockwise shell and counter-clockwise holes.
+     * Implies {@link #simple()}.
+     * @return spec builder
+     */
+    PolygonGeneratorSpec clockwise();
+
+    /**
+     * Generate valid polygons with a counter-clockwise shell and clockwise holes.
+     * Implies {@link #simple()}.
+     * @return spec builder
+     */
+    PolygonGeneratorSpec counterClockwise();
+
+    /**
+     * Write the exterior ring straight into a single pre-sized coordinate sequence and close it
+     * in place, so memory grows linearly with the vertex count. Intended for polygons with 10^5
+     * vertices or more, and combines with {@link #simple()} for large valid polygons. Unless a
+     * GeometryFactory is provided, rings use a packed double sequence.
+     * @return spec builder
+     */
+    PolygonGeneratorSpec streaming();
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom;
+
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.RoadNetworkGenerator;
+import org.instancio.generator.GeneratorSpec;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiLineString;
+
+/**
+ * Spec for generating a road-network MultiLineString: a connected planar graph whose two-point edges
+ * share exact node coordinates.
+ *
+ * @since 1.0.0
+ */
+public interface RoadNetworkGeneratorSpec extends GeneratorSpec<MultiLineString> {
+
+    /**
+     * Set the approximate number of nodes (intersections) in the network. A grid network has about
+     * two edges per node and a Delaunay network about three, before pruning.
+     * @param count the number of nodes, must be >= 4
+     * @return spec builder
+     */
+    RoadNetworkGenerator nodes(int count);
+
+    /**
+     * Build the network from a jittered grid, like a planned street layout. This is the default.
+     * @return spec builder
+     */
+    RoadNetworkGenerator grid();
+
+    /**
+     * Build the network from a Delaunay triangulation of uniformly placed nodes, like an organically
+     * grown road layout.
+     * @return spec builder
+     */
+    RoadNetworkGenerator delaunay();
+
+    /**
+     * Set how far grid nodes are moved from their cell centres, as a fraction of the cell size.
+     * Values below one half keep the grid planar.
+     * @param fraction the jitter, must be >= 0 and &lt; 0.5
+     * @return spec builder
+     */
+    RoadNetworkGenerator jitter(double fraction);
+
+    /**
+     * Set the fraction of edges removed from the full grid or triangulation. Only edges whose removal
+     * keeps the network connected are candidates, so the result is always a single connected component.
+     * @param fraction the fraction of candidate edges to remove, must be between 0 and 1
+     * @return spec builder
+     */
+    RoadNetworkGenerator pruning(double fraction);
+
+    /**
+     * Provide an optional GeometryFactory to use to create the MultiLineString and its edges.
+     * @param geometryFactory the geometry factory to use
+     * @return spec builder
+     */
+    RoadNetworkGenerator geometryFactory(GeometryFactory geometryFactory);
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.specs.geom;
+
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.TrajectoryGenerator;
+import org.instancio.generator.GeneratorSpec;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import java.time.Instant;
+
+/**
+ * Spec for generating a trajectory LineString that follows a moving vehicle.
+ *
+ * @since 1.0.0
+ */
+public interface TrajectoryGeneratorSpec extends GeneratorSpec<LineString> {
+
+    /**
+     * Set the number of fixes in each track.
+     * @param length the number of coordinates, must be >= 2
+     * @return spec builder
+     */
+    TrajectoryGenerator length(int length);
+
+    /**
+     * Set the range the number of fixes in each track is drawn from.
+     * @param min the minimum number of coordinates, must be >= 2
+     * @param max the maximum number of coordinates, must be >= min
+     * @return spec builder
+     */
+    TrajectoryGenerator length(int min, int max);
+
+    /**
+     * Set the speed range in metres per second. The speed starts at a random value in the range
+     * and then drifts with random acceleration, never leaving the range.
+     * @param min the minimum speed, must be >= 0
+     * @param max the maximum speed, must be >= min
+     * @return spec builder
+     */
+    TrajectoryGenerator speed(double min, double max);
+
+    /**
+     * Set the standard deviation of the random acceleration, in metres per second squared.
+     * @param sigma the acceleration noise, must be >= 0
+     * @return spec builder
+     */
+    TrajectoryGenerator acceleration(double sigma);
+
+    /**
+     * Set the maximum turn rate in degrees per second. The turn rate wanders within
+     * {@code [-max, max]} and decays back towards straight-ahead travel.
+     * @param maxDegreesPerSecond the maximum turn rate, must be >= 0
+     * @return spec builder
+     */
+    TrajectoryGenerator turnRate(double maxDegreesPerSecond);
+
+    /**
+     * Set a fixed sampling interval between fixes.
+     * @param seconds the interval, must be > 0
+     * @return spec builder
+     */
+    TrajectoryGenerator interval(double seconds);
+
+    /**
+     * Set the range each sampling interval is drawn from, to model GPS receivers with jitter.
+     * @param minSeconds the minimum interval, must be > 0
+     * @param maxSeconds the maximum interval, must be >= minSeconds
+     * @return spec builder
+     */
+    TrajectoryGenerator interval(double minSeconds, double maxSeconds);
+
+    /**
+     * Produce XYM sequences with the timestamp of each fix, in epoch seconds, in M. The start time
+     * is drawn between 2020-01-01 and 2025-01-01.
+     * @return spec builder
+     */
+    TrajectoryGenerator timestamps();
+
+    /**
+     * Produce XYM sequences with the timestamp of each fix, in epoch seconds, in M.
+     * @param start the time of the first fix
+     * @return spec builder
+     */
+    TrajectoryGenerator timestamps(Instant start);
+
+    /**
+     * Treat coordinates as planar metres instead of WGS84 longitude and latitude. Use this with an
+     * envelope in a projected coordinate system.
+     * @return spec builder
+     */
+    TrajectoryGenerator planar();
+
+    /**
+     * Provide an optional GeometryFactory to use to create the LineString. Tracks are always written
+     * into a packed double coordinate sequence.
+     * @param geometryFactory the geometry factory to use
+     * @return spec builder
+     */
+    TrajectoryGenerator geometryFactory(GeometryFactory geometryFactory);
+}
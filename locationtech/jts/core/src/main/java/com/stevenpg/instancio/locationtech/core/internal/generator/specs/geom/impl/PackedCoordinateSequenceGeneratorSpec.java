@@ -54,4 +54,19 @@ public interface PackedCoordinateSequenceGeneratorSpec extends GeneratorSpec<Pac
      */
     PackedCoordinateSequenceGenerator length(int min, int max);
 
+    /**
+     * Set the number of ordinates per coordinate and how many of them are measures.
+     * @param dimension total ordinates per coordinate, between 2 and 4
+     * @param measures number of measure ordinates, 0 or 1
+     * @return spec builder
+     */
+    PackedCoordinateSequenceGenerator dimension(int dimension, int measures);
+
+    /**
+     * Set the storage type of the generated sequence.
+     * @param type PackedCoordinateSequenceFactory.DOUBLE or PackedCoordinateSequenceFactory.FLOAT
+     * @return spec builder
+     */
+    PackedCoordinateSequenceGenerator type(int type);
+
 }
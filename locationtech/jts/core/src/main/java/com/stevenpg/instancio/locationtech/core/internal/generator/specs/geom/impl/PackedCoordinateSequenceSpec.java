@@ -36,4 +36,10 @@ public interface PackedCoordinateSequenceSpec extends PackedCoordinateSequenceGe
 
     @Override
     PackedCoordinateSequenceGenerator length(int min, int max);
+
+    @Override
+    PackedCoordinateSequenceGenerator dimension(int dimension, int measures);
+
+    @Override
+    PackedCoordinateSequenceGenerator type(int type);
 }
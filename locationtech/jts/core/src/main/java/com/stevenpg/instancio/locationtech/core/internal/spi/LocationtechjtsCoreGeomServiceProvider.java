@@ -16,26 +16,52 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.*;
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.CoordinateArraySequenceGenerator;
 import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.PackedCoordinateSequenceGenerator;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 import org.locationtech.jts.geom.*;
 import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI Provider that enables Instancio to generate JTS Geometries.
  */
 public class LocationtechjtsCoreGeomServiceProvider implements InstancioServiceProvider {
 
+    // Shared by every Instancio call on every thread. Generators only read their
+    // configuration in generate(), so sharing them without locking is safe.
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            // Base Geoms
+            .register(Coordinate.class, new CoordinateGenerator())
+            .register(CoordinateSequence.class, new CoordinateSequenceGenerator())
+            .register(CoordinateList.class, new CoordinateListGenerator())
+            .register(CoordinateXY.class, new CoordinateXYGenerator())
+            .register(CoordinateXYM.class, new CoordinateXYMGenerator())
+            .register(CoordinateXYZM.class, new CoordinateXYZMGenerator())
+            .register(Envelope.class, new EnvelopeGenerator())
+            // Geometries; the interface targets Puntal, Lineal and Polygonal
+            // resolve to Point, LineString and Polygon
+            .register(Geometry.class, new GeometryGenerator())
+            .register(Point.class, new PointGenerator(), Puntal.class)
+            .register(LineString.class, new LineStringGenerator(), Lineal.class)
+            .register(LinearRing.class, new LinearRingGenerator())
+            .register(Polygon.class, new PolygonGenerator(), Polygonal.class)
+            .register(MultiPoint.class, new MultiPointGenerator())
+            .register(MultiLineString.class, new MultiLineStringGenerator())
+            .register(MultiPolygon.class, new MultiPolygonGenerator())
+            .register(GeometryCollection.class, new GeometryCollectionGenerator())
+            // Geometry helpers
+            .register(LineSegment.class, new LineSegmentGenerator())
+            .register(OctagonalEnvelope.class, new OctagonalEnvelopeGenerator())
+            .register(Triangle.class, new TriangleGenerator())
+            // Impls
+            .register(CoordinateArraySequence.class, new CoordinateArraySequenceGenerator())
+            .register(PackedCoordinateSequence.class, new PackedCoordinateSequenceGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -50,36 +76,6 @@ public class LocationtechjtsCoreGeomServiceProvider implements InstancioServiceP
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> generators = new HashMap<>();
-
-        // Base Geoms
-        generators.put(Coordinate.class, new CoordinateGenerator());
-        generators.put(CoordinateSequence.class, new CoordinateSequenceGenerator());
-        generators.put(CoordinateList.class, new CoordinateListGenerator());
-
-        generators.put(CoordinateXY.class, new CoordinateXYGenerator());
-        generators.put(CoordinateXYM.class, new CoordinateXYMGenerator());
-        generators.put(CoordinateXYZM.class, new CoordinateXYZMGenerator());
-        generators.put(Envelope.class, new EnvelopeGenerator());
-
-        generators.put(Geometry.class, new GeometryGenerator());
-        generators.put(GeometryCollection.class, new GeometryCollectionGenerator());
-
-        generators.put(LineSegment.class, new LineSegmentGenerator());
-        generators.put(LineString.class, new LineStringGenerator());
-        generators.put(LinearRing.class, new LinearRingGenerator());
-        generators.put(MultiLineString.class, new MultiLineStringGenerator());
-        generators.put(MultiPoint.class, new MultiPointGenerator());
-        generators.put(MultiPolygon.class, new MultiPolygonGenerator());
-        generators.put(OctagonalEnvelope.class, new OctagonalEnvelopeGenerator());
-        generators.put(Point.class, new PointGenerator());
-        generators.put(Polygon.class, new PolygonGenerator());
-        generators.put(Triangle.class, new TriangleGenerator());
-
-        // Impls
-        generators.put(CoordinateArraySequence.class, new CoordinateArraySequenceGenerator());
-        generators.put(PackedCoordinateSequence.class, new PackedCoordinateSequenceGenerator());
-
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
@@ -215,4 +215,49 @@ class GenLocationtechJtsCoreTest {
         assertNotNull(result);
         assertInstanceOf(org.locationtech.jts.geom.Geometry.class, result);
     }
-}
\ No newline at end of file
+
+    @RepeatedTest(5)
+    void points() {
+        var result = GenLocationtechJtsCore.points(100).generate(new DefaultRandom());
+        assertEquals(100, result.length);
+    }
+
+    @RepeatedTest(5)
+    void pointsWithin() {
+        var envelope = new org.locationtech.jts.geom.Envelope(0, 1, 0, 1);
+        var result = GenLocationtechJtsCore.points(() -> GenLocationtechJtsCore.point().within(envelope), 100)
+                .generate(new DefaultRandom());
+
+        for (var point : result) {
+            assertTrue(envelope.contains(point.getCoordinate()));
+        }
+    }
+
+    @RepeatedTest(5)
+    void lineStrings() {
+        var result = GenLocationtechJtsCore.lineStrings(() -> GenLocationtechJtsCore.lineString().length(5), 20)
+                .generate(new DefaultRandom());
+
+        assertEquals(20, result.length);
+        for (var lineString : result) {
+            assertEquals(5, lineString.getNumPoints());
+        }
+    }
+
+    @RepeatedTest(5)
+    void polygons() {
+        var result = GenLocationtechJtsCore.polygons(() -> GenLocationtechJtsCore.polygon().vertices(6), 20)
+                .generate(new DefaultRandom());
+
+        assertEquals(20, result.length);
+        for (var polygon : result) {
+            assertNotNull(polygon);
+        }
+    }
+
+    @RepeatedTest(5)
+    void geometries() {
+        var result = GenLocationtechJtsCore.geometries(10).stream(new DefaultRandom()).count();
+        assertEquals(10, result);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.batch;
+
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PointGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PolygonGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.HilbertUtility;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchGeneratorTest {
+
+    @RepeatedTest(5)
+    void generate() {
+        var points = new BatchGenerator<>(PointGenerator::new, Point[]::new, 100).generate(new DefaultRandom());
+
+        assertEquals(100, points.length);
+        for (var point : points) {
+            assertNotNull(point);
+        }
+    }
+
+    @Test
+    void generateEmpty() {
+        var points = new BatchGenerator<>(PointGenerator::new, Point[]::new, 0).generate(new DefaultRandom());
+        assertEquals(0, points.length);
+    }
+
+    @Test
+    void countLessThanZero() {
+        var result = assertThrows(IllegalArgumentException.class, () ->
+                new BatchGenerator<>(PointGenerator::new, Point[]::new, -1));
+        assertEquals("count must be >= 0", result.getMessage());
+    }
+
+    @RepeatedTest(5)
+    void fill() {
+        var envelope = new Envelope(0, 10, 0, 10);
+        var target = new Polygon[25];
+
+        var result = new BatchGenerator<>(() -> new PolygonGenerator().within(envelope), Polygon[]::new, 0)
+                .fill(target, new DefaultRandom());
+
+        assertSame(target, result);
+        for (var polygon : target) {
+            assertNotNull(polygon);
+        }
+    }
+
+    @RepeatedTest(5)
+    void stream() {
+        var points = new BatchGenerator<>(PointGenerator::new, Point[]::new, 50)
+                .stream(new DefaultRandom())
+                .collect(Collectors.toList());
+
+        assertEquals(50, points.size());
+    }
+
+    @Test
+    void generatorCreatedOncePerBatch() {
+        var created = new AtomicInteger();
+        var batch = new BatchGenerator<>(() -> {
+            created.incrementAndGet();
+            return new PointGenerator();
+        }, Point[]::new, 1_000);
+
+        batch.generate(new DefaultRandom());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void sharedGeometryFactory() {
+        var geometryFactory = new GeometryFactory();
+        var points = new BatchGenerator<>(() -> new PointGenerator().geometryFactory(geometryFactory), Point[]::new, 10)
+                .generate(new DefaultRandom());
+
+        for (var point : points) {
+            assertSame(geometryFactory, point.getFactory());
+        }
+    }
+
+    @Test
+    void seededGenerationIsRepeatable() {
+        var first = new BatchGenerator<>(PointGenerator::new, Point[]::new, 100).generate(new DefaultRandom(7L));
+        var second = new BatchGenerator<>(PointGenerator::new, Point[]::new, 100).generate(new DefaultRandom(7L));
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void parallelOutputIndependentOfThreadCount() {
+        var sequential = new BatchGenerator<>(PolygonGenerator::new, Polygon[]::new, 1_000)
+                .chunkSize(64)
+                .seed(99L)
+                .parallel(Runnable::run)
+                .generate(new DefaultRandom());
+
+        var pool = new ForkJoinPool(4);
+        try {
+            var parallel = new BatchGenerator<>(PolygonGenerator::new, Polygon[]::new, 1_000)
+                    .chunkSize(64)
+                    .seed(99L)
+                    .parallel(pool)
+                    .generate(new DefaultRandom());
+
+            assertArrayEquals(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+
+        var executor = Executors.newFixedThreadPool(3);
+        try {
+            var parallel = new BatchGenerator<>(PolygonGenerator::new, Polygon[]::new, 1_000)
+                    .chunkSize(64)
+                    .seed(99L)
+                    .parallel(executor)
+                    .generate(new DefaultRandom());
+
+            assertArrayEquals(sequential, parallel);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @RepeatedTest(5)
+    void parallelCommonPool() {
+        var points = new BatchGenerator<>(PointGenerator::new, Point[]::new, 10_000)
+                .chunkSize(500)
+                .parallel()
+                .generate(new DefaultRandom());
+
+        assertEquals(10_000, points.length);
+        for (var point : points) {
+            assertNotNull(point);
+        }
+    }
+
+    @Test
+    void parallelSeedDrawnFromRandom() {
+        var first = new BatchGenerator<>(PointGenerator::new, Point[]::new, 2_000)
+                .chunkSize(100)
+                .parallel()
+                .generate(new DefaultRandom(5L));
+        var second = new BatchGenerator<>(PointGenerator::new, Point[]::new, 2_000)
+                .chunkSize(100)
+                .parallel()
+                .generate(new DefaultRandom(5L));
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void parallelStream() {
+        var count = new BatchGenerator<>(PointGenerator::new, Point[]::new, 300)
+                .chunkSize(7)
+                .parallel()
+                .stream(new DefaultRandom())
+                .count();
+
+        assertEquals(300, count);
+    }
+
+    @Test
+    void parallelWithHugeChunkSizeUsesOneChunk() {
+        var sequential = new BatchGenerator<>(PointGenerator::new, Point[]::new, 100)
+                .chunkSize(100)
+                .seed(3L)
+                .parallel(Runnable::run)
+                .generate(new DefaultRandom());
+        var huge = new BatchGenerator<>(PointGenerator::new, Point[]::new, 100)
+                .chunkSize(Integer.MAX_VALUE)
+                .seed(3L)
+                .parallel()
+                .generate(new DefaultRandom());
+
+        assertArrayEquals(sequential, huge);
+    }
+
+    @Test
+    void parallelPropagatesGeneratorFailure() {
+        var batch = new BatchGenerator<Point>(() -> random -> {
+            throw new IllegalStateException("boom");
+        }, Point[]::new, 10).parallel();
+
+        var result = assertThrows(IllegalStateException.class, () -> batch.generate(new DefaultRandom()));
+        assertEquals("boom", result.getMessage());
+    }
+
+    @Test
+    void chunkSizeLessThanOne() {
+        var batch = new BatchGenerator<>(PointGenerator::new, Point[]::new, 10);
+        var result = assertThrows(IllegalArgumentException.class, () -> batch.chunkSize(0));
+        assertEquals("chunkSize must be >= 1", result.getMessage());
+    }
+
+    @Test
+    void hilbertSortedBatchIsSpatiallyOrdered() {
+        var random = new DefaultRandom(13L);
+        var sorted = new BatchGenerator<>(PointGenerator::new, Point[]::new, 10_000).hilbertSorted().generate(random);
+        var unsorted = new BatchGenerator<>(PointGenerator::new, Point[]::new, 10_000).generate(new DefaultRandom(13L));
+
+        assertEquals(10_000, sorted.length);
+        assertEquals(Arrays.stream(unsorted).map(Point::getCoordinate).collect(Collectors.toSet()),
+                Arrays.stream(sorted).map(Point::getCoordinate).collect(Collectors.toSet()));
+        assertTrue(pathLength(sorted) < pathLength(unsorted) / 10);
+    }
+
+    @Test
+    void hilbertSortedParallelMatchesSequentialSort() {
+        var parallel = new BatchGenerator<>(PointGenerator::new, Point[]::new, 20_000)
+                .seed(5L).parallel().hilbertSorted().generate(new DefaultRandom());
+        var resorted = new BatchGenerator<>(PointGenerator::new, Point[]::new, 20_000)
+                .seed(5L).parallel().generate(new DefaultRandom());
+        HilbertUtility.sort(resorted);
+
+        assertArrayEquals(resorted, parallel);
+    }
+
+    @Test
+    void hilbertSortedStreamIsOrdered() {
+        var streamed = new BatchGenerator<>(PointGenerator::new, Point[]::new, 1_000)
+                .hilbertSorted()
+                .stream(new DefaultRandom(3L))
+                .toArray(Point[]::new);
+        var copy = streamed.clone();
+        HilbertUtility.sort(copy);
+        assertArrayEquals(copy, streamed);
+    }
+
+    @Test
+    void hilbertSortedRejectsNonGeometryBatches() {
+        var batch = new BatchGenerator<>(CoordinateGenerator::new, Coordinate[]::new, 10).hilbertSorted();
+        assertThrows(IllegalStateException.class, () -> batch.generate(new DefaultRandom()));
+    }
+
+    private static double pathLength(Point[] points) {
+        var length = 0d;
+        for (int i = 1; i < points.length; i++) {
+            length += points[i - 1].distance(points[i]);
+        }
+        return length;
+    }
+}
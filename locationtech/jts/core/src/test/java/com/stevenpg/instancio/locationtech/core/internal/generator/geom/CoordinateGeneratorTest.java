@@ -16,10 +16,13 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 
@@ -76,4 +79,38 @@ class CoordinateGeneratorTest {
         assertTrue(coordinate.y > -90 && coordinate.y < 90);
         assertTrue(Double.isNaN(coordinate.z));
     }
-}
\ No newline at end of file
+
+    @RepeatedTest(5)
+    void seededGenerationIsRepeatable() {
+        var seed = new DefaultRandom().getSeed();
+        var first = new CoordinateGenerator().generate(new DefaultRandom(seed));
+        var second = new CoordinateGenerator().generate(new DefaultRandom(seed));
+
+        assertEquals(first, second);
+        assertTrue(first.getX() >= -180 && first.getX() <= 180);
+        assertTrue(first.getY() >= -90 && first.getY() <= 90);
+    }
+
+    @Test
+    void withinMatchesCoordinateKernelForSameSeed() {
+        var generator = new CoordinateGenerator().within(new Envelope(10, 20, 30, 40));
+        var kernel = CoordinateKernel.WGS84.withXRange(10, 20).withYRange(30, 40);
+        var expected = new DefaultRandom(42L);
+        var actual = new DefaultRandom(42L);
+
+        for (int i = 0; i < 20; i++) {
+            var coordinate = generator.generate(actual);
+            assertEquals(kernel.x(expected), coordinate.x);
+            assertEquals(kernel.y(expected), coordinate.y);
+        }
+    }
+
+    @Test
+    void distributionIsUsedWithoutEnvelope() {
+        var generator = new CoordinateGenerator()
+                .distribution(SpatialDistribution.gaussianMixture().cluster(-74, 40.7, 0, 1).build());
+        var coordinate = generator.generate(random);
+        assertEquals(-74, coordinate.x);
+        assertEquals(40.7, coordinate.y);
+    }
+}
@@ -103,4 +103,14 @@ class CoordinateXYZMGeneratorTest {
         assertTrue(coordinate.getM() >= 0);
 
     }
-}
\ No newline at end of file
+
+    @RepeatedTest(5)
+    void seededGenerationIsRepeatable() {
+        var seed = new DefaultRandom().getSeed();
+        var first = new CoordinateXYZMGenerator().generate(new DefaultRandom(seed));
+        var second = new CoordinateXYZMGenerator().generate(new DefaultRandom(seed));
+
+        assertTrue(first.equals3D(second));
+        assertEquals(first.getM(), second.getM());
+    }
+}
@@ -201,4 +201,13 @@ class EnvelopeGeneratorTest {
         assertTrue(result.getMinX() <= result.getMaxX());
         assertTrue(result.getMinY() <= result.getMaxY());
     }
+
+    @RepeatedTest(5)
+    void seededGenerationIsRepeatable() {
+        var seed = new DefaultRandom().getSeed();
+        var first = new EnvelopeGenerator().generate(new DefaultRandom(seed));
+        var second = new EnvelopeGenerator().generate(new DefaultRandom(seed));
+
+        assertEquals(first, second);
+    }
 }
@@ -22,7 +22,10 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -106,4 +109,54 @@ class GeometryCollectionGeneratorTest {
         var result = new GeometryCollectionGenerator().geometryCollection(provided).generate(rand);
         assertSame(provided, result);
     }
+
+    @Test
+    void sharedInstanceIsThreadSafe() throws Exception {
+        var generator = new GeometryCollectionGenerator().within(new Envelope(-10, 10, -10, 10));
+        var expected = new ArrayList<GeometryCollection>();
+        for (long seed = 0; seed < 32; seed++) {
+            expected.add(generator.generate(new DefaultRandom(seed)));
+        }
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<GeometryCollection>>();
+            for (long seed = 0; seed < 32; seed++) {
+                final long taskSeed = seed;
+                tasks.add(() -> generator.generate(new DefaultRandom(taskSeed)));
+            }
+            var results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                assertTrue(expected.get(i).equalsExact(results.get(i).get()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void hilbertSortedOrdersHeterogeneousMembers() {
+        var sorted = new GeometryCollectionGenerator().length(500).hilbertSorted().generate(new DefaultRandom(4L));
+        var unsorted = new GeometryCollectionGenerator().length(500).generate(new DefaultRandom(4L));
+
+        assertEquals(unsorted.getNumGeometries(), sorted.getNumGeometries());
+        assertTrue(centrePathLength(sorted) < centrePathLength(unsorted) / 3);
+    }
+
+    @RepeatedTest(5)
+    void hilbertSortedKeepsGeneratedSubtype() {
+        var collection = new GeometryCollectionGenerator().hilbertSorted().generate(new DefaultRandom());
+        assertNotNull(collection);
+        assertTrue(collection.getNumGeometries() >= 1);
+    }
+
+    private static double centrePathLength(GeometryCollection collection) {
+        var length = 0d;
+        for (int i = 1; i < collection.getNumGeometries(); i++) {
+            var a = collection.getGeometryN(i - 1).getEnvelopeInternal().centre();
+            var b = collection.getGeometryN(i).getEnvelopeInternal().centre();
+            length += a.distance(b);
+        }
+        return length;
+    }
 }
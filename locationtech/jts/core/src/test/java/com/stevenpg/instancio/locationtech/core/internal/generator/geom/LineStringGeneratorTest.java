@@ -21,6 +21,7 @@ import org.instancio.support.DefaultRandom;
 
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,4 +86,29 @@ class LineStringGeneratorTest {
         assertThrows(IllegalArgumentException.class, () ->
                 generator.generate(random));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStreamHighVertexLineStringIntoPackedSequence() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var lineString = new LineStringGenerator().length(250_000).streaming().within(envelope).generate(random);
+
+        assertEquals(250_000, lineString.getNumPoints());
+        assertInstanceOf(PackedCoordinateSequence.Double.class, lineString.getCoordinateSequence());
+        assertTrue(envelope.contains(lineString.getEnvelopeInternal()));
+    }
+
+    @Test
+    void shouldStreamIntoProvidedGeometryFactory() {
+        var geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        var lineString = new LineStringGenerator().length(10).streaming().geometryFactory(geometryFactory).generate(random);
+
+        assertEquals(10, lineString.getNumPoints());
+        assertEquals(4326, lineString.getSRID());
+    }
+
+    @Test
+    void shouldStreamDefaultLength() {
+        var lineString = new LineStringGenerator().streaming().generate(random);
+        assertTrue(lineString.getNumPoints() >= 2 && lineString.getNumPoints() <= 10);
+    }
+}
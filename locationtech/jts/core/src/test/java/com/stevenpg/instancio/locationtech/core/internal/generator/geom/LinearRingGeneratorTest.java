@@ -19,8 +19,11 @@ package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 import org.instancio.Random;
 import org.instancio.support.DefaultRandom;
 
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -203,4 +206,60 @@ class LinearRingGeneratorTest {
             assertTrue(coord.y >= -90 && coord.y <= 90);
         }
     }
+
+    @RepeatedTest(5)
+    void shouldGenerateSimpleRingsWithManyVertices() {
+        var generator = new LinearRingGenerator().length(50, 200).simple();
+        for (int i = 0; i < 20; i++) {
+            var ring = generator.generate(random);
+            assertTrue(ring.isValid());
+            assertTrue(ring.isSimple());
+            assertTrue(ring.isClosed());
+            var unique = ring.getNumPoints() - 1;
+            assertTrue(unique >= 50 && unique <= 200);
+        }
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateSimpleTriangleRings() {
+        var ring = new LinearRingGenerator().length(3).simple().generate(random);
+        assertTrue(ring.isValid());
+        assertEquals(4, ring.getNumPoints());
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateSimpleRingsWithRequestedOrientation() {
+        var counterClockwise = new LinearRingGenerator().length(20).counterClockwise().generate(random);
+        assertTrue(Orientation.isCCW(counterClockwise.getCoordinateSequence()));
+
+        var clockwise = new LinearRingGenerator().length(20).clockwise().generate(random);
+        assertFalse(Orientation.isCCW(clockwise.getCoordinateSequence()));
+        assertTrue(clockwise.isSimple());
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateSimpleRingsWithinEnvelope() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var ring = new LinearRingGenerator().length(100).simple().within(envelope).generate(random);
+        assertTrue(ring.isSimple());
+        assertTrue(envelope.contains(ring.getEnvelopeInternal()));
+    }
+
+    @Test
+    void shouldStreamHighVertexRingClosedInPlace() {
+        var ring = new LinearRingGenerator().length(250_000).streaming().generate(random);
+
+        assertEquals(250_001, ring.getNumPoints());
+        assertTrue(ring.isClosed());
+        assertInstanceOf(PackedCoordinateSequence.Double.class, ring.getCoordinateSequence());
+    }
+
+    @Test
+    void shouldStreamHighVertexSimpleRing() {
+        var ring = new LinearRingGenerator().length(100_000).streaming().clockwise().generate(random);
+
+        assertEquals(100_001, ring.getNumPoints());
+        assertTrue(ring.isSimple());
+        assertFalse(Orientation.isCCW(ring.getCoordinateSequence()));
+    }
 }
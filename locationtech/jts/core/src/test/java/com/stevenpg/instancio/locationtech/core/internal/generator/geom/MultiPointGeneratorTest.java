@@ -16,14 +16,19 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import org.instancio.Instancio;
 import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -99,4 +104,136 @@ class MultiPointGeneratorTest {
         assertTrue(result.getNumGeometries() >= 2);
         assertTrue(result.getNumGeometries() <= 10);
     }
-}
\ No newline at end of file
+
+    @Test
+    void withinDoesNotLeakBetweenInstances() {
+        var envelope = new Envelope(0, 0.001, 0, 0.001);
+        new MultiPointGenerator().within(envelope).generate(new DefaultRandom());
+
+        var unbounded = new MultiPointGenerator().length(50).generate(new DefaultRandom());
+        var outside = Arrays.stream(unbounded.getCoordinates()).filter(c -> !envelope.contains(c)).count();
+        assertTrue(outside > 0);
+    }
+
+    @Test
+    void sharedInstanceIsThreadSafe() throws Exception {
+        var envelope = new Envelope(10, 20, 30, 40);
+        var generator = new MultiPointGenerator().length(25).within(envelope);
+        var expected = generator.generate(new DefaultRandom(11L));
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<MultiPoint>>();
+            for (int t = 0; t < 64; t++) {
+                tasks.add(() -> generator.generate(new DefaultRandom(11L)));
+            }
+            for (var result : executor.invokeAll(tasks)) {
+                assertTrue(expected.equalsExact(result.get()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void distributionAppliesToEveryPoint() {
+        var hotspots = SpatialDistribution.zipfHotspots(1.2, 0.01,
+                new double[]{-0.12, 51.51}, new double[]{2.35, 48.86}, new double[]{13.40, 52.52});
+        var multiPoint = new MultiPointGenerator()
+                .length(300)
+                .distribution(hotspots)
+                .generate(new DefaultRandom());
+
+        assertEquals(300, multiPoint.getNumGeometries());
+        for (int i = 0; i < multiPoint.getNumGeometries(); i++) {
+            var c = multiPoint.getGeometryN(i).getCoordinate();
+            double nearest = Math.min(Math.hypot(c.x + 0.12, c.y - 51.51),
+                    Math.min(Math.hypot(c.x - 2.35, c.y - 48.86), Math.hypot(c.x - 13.40, c.y - 52.52)));
+            assertTrue(nearest < 0.1, "point far from every hotspot: " + c);
+        }
+    }
+
+    @Test
+    void poissonDiskKeepsMinimumDistanceWithinEnvelope() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var multiPoint = new MultiPointGenerator()
+                .within(envelope)
+                .poissonDisk(0.005)
+                .generate(new DefaultRandom());
+
+        var count = multiPoint.getNumGeometries();
+        assertTrue(count > 100, "expected a dense sample, had " + count);
+        var coordinates = multiPoint.getCoordinates();
+        for (int i = 0; i < count; i++) {
+            assertTrue(envelope.contains(coordinates[i]));
+            for (int j = i + 1; j < count; j++) {
+                assertTrue(coordinates[i].distance(coordinates[j]) >= 0.005);
+            }
+        }
+    }
+
+    @Test
+    void poissonDiskWithLengthReturnsSubset() {
+        var multiPoint = new MultiPointGenerator()
+                .within(new Envelope(0, 100, 0, 100))
+                .poissonDisk(2)
+                .length(50)
+                .generate(new DefaultRandom());
+
+        assertEquals(50, multiPoint.getNumGeometries());
+        var coordinates = multiPoint.getCoordinates();
+        for (int i = 0; i < coordinates.length; i++) {
+            for (int j = i + 1; j < coordinates.length; j++) {
+                assertTrue(coordinates[i].distance(coordinates[j]) >= 2);
+            }
+        }
+    }
+
+    @Test
+    void poissonDiskLengthIsCappedByAvailablePoints() {
+        var multiPoint = new MultiPointGenerator()
+                .within(new Envelope(0, 1, 0, 1))
+                .poissonDisk(10)
+                .length(5)
+                .generate(new DefaultRandom());
+
+        assertEquals(1, multiPoint.getNumGeometries());
+    }
+
+    @Test
+    void poissonDiskRejectsInvalidDistance() {
+        var generator = new MultiPointGenerator();
+        var ex = assertThrows(IllegalArgumentException.class, () -> generator.poissonDisk(-1));
+        assertEquals("minDistance must be finite and > 0", ex.getMessage());
+    }
+
+    @Test
+    void hilbertSortedKeepsPointsAndShortensPath() {
+        var sorted = new MultiPointGenerator().length(2_000).hilbertSorted().generate(new DefaultRandom(21L));
+        var unsorted = new MultiPointGenerator().length(2_000).generate(new DefaultRandom(21L));
+
+        assertEquals(new HashSet<>(Arrays.asList(unsorted.getCoordinates())),
+                new HashSet<>(Arrays.asList(sorted.getCoordinates())));
+        assertTrue(pathLength(sorted) < pathLength(unsorted) / 5);
+    }
+
+    @Test
+    void hilbertSortedAppliesToPoissonDisk() {
+        var multiPoint = new MultiPointGenerator()
+                .within(new Envelope(0, 100, 0, 100))
+                .poissonDisk(2)
+                .hilbertSorted()
+                .generate(new DefaultRandom());
+        var spacing = pathLength(multiPoint) / (multiPoint.getNumGeometries() - 1);
+        assertTrue(spacing < 5, "mean step between consecutive points: " + spacing);
+    }
+
+    private static double pathLength(MultiPoint multiPoint) {
+        var coordinates = multiPoint.getCoordinates();
+        var length = 0d;
+        for (int i = 1; i < coordinates.length; i++) {
+            length += coordinates[i - 1].distance(coordinates[i]);
+        }
+        return length;
+    }
+}
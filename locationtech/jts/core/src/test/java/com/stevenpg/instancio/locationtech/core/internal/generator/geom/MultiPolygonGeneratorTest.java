@@ -206,4 +206,42 @@ class MultiPolygonGeneratorTest {
         assertNotNull(result);
         assertEquals(1, result.getNumGeometries());
     }
+
+    @RepeatedTest(5)
+    void coverage() {
+        var envelope = new Envelope(0, 10, 0, 10);
+        var result = new MultiPolygonGenerator()
+                .coverage(100)
+                .within(envelope)
+                .generate(new DefaultRandom());
+
+        assertEquals(100, result.getNumGeometries());
+        var area = 0.0;
+        for (int i = 0; i < result.getNumGeometries(); i++) {
+            var cell = result.getGeometryN(i);
+            assertTrue(envelope.contains(cell.getEnvelopeInternal()));
+            area += cell.getArea();
+        }
+        assertEquals(100, area, 1e-9);
+    }
+
+    @Test
+    void coverageWithLloydRelaxation() {
+        var geometryFactory = new GeometryFactory();
+        var result = new MultiPolygonGenerator()
+                .coverage(50)
+                .lloydRelaxation(3)
+                .geometryFactory(geometryFactory)
+                .generate(new DefaultRandom());
+
+        assertEquals(50, result.getNumGeometries());
+        assertSame(geometryFactory, result.getFactory());
+    }
+
+    @Test
+    void coverageInvalidArguments() {
+        var generator = new MultiPolygonGenerator();
+        assertThrows(IllegalArgumentException.class, () -> generator.coverage(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.lloydRelaxation(-1));
+    }
 }
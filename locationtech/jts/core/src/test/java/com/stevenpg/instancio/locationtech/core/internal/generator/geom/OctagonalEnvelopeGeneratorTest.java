@@ -330,4 +330,16 @@ class OctagonalEnvelopeGeneratorTest {
         assertTrue(result.getMinX() <= result.getMaxX());
         assertTrue(result.getMinY() <= result.getMaxY());
     }
+
+    @RepeatedTest(5)
+    void seededGenerationIsRepeatable() {
+        var seed = new DefaultRandom().getSeed();
+        var first = new OctagonalEnvelopeGenerator().generate(new DefaultRandom(seed));
+        var second = new OctagonalEnvelopeGenerator().generate(new DefaultRandom(seed));
+
+        assertEquals(first.getMinX(), second.getMinX());
+        assertEquals(first.getMaxX(), second.getMaxX());
+        assertEquals(first.getMinY(), second.getMinY());
+        assertEquals(first.getMaxY(), second.getMaxY());
+    }
 }
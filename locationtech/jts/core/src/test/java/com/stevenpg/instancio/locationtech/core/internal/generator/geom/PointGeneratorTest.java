@@ -16,11 +16,13 @@
 
 package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
+import com.stevenpg.instancio.common.internal.coordinate.SpatialDistribution;
 import org.instancio.Instancio;
 import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -61,4 +63,64 @@ class PointGeneratorTest {
 
         assertNotNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void geometryFactory() {
+        var geometryFactory = new GeometryFactory();
+        var result = new PointGenerator()
+                .geometryFactory(geometryFactory)
+                .generate(new DefaultRandom());
+
+        assertSame(geometryFactory, result.getFactory());
+    }
+
+    @Test
+    void generateWithNullRandom() {
+        var result = new PointGenerator().generate(null);
+
+        assertNotNull(result);
+        assertTrue(result.getX() >= -180 && result.getX() <= 180);
+        assertTrue(result.getY() >= -90 && result.getY() <= 90);
+    }
+
+    @Test
+    void distributionClustersPointsWithinEnvelope() {
+        var envelope = new Envelope(-10, 10, -10, 10);
+        var generator = new PointGenerator()
+                .within(envelope)
+                .distribution(SpatialDistribution.gaussianMixture().cluster(5, 5, 0.5, 1).build());
+        var random = new DefaultRandom();
+
+        int near = 0;
+        for (int i = 0; i < 1_000; i++) {
+            var point = generator.generate(random);
+            assertTrue(envelope.contains(point.getCoordinate()));
+            if (Math.hypot(point.getX() - 5, point.getY() - 5) <= 2) {
+                near++;
+            }
+        }
+        assertTrue(near > 990, "points near the cluster center: " + near);
+    }
+
+    @Test
+    void distributionSurvivesLaterWithin() {
+        var generator = new PointGenerator()
+                .distribution(SpatialDistribution.densityGrid(new double[][]{{1, 0}}))
+                .within(new Envelope(0, 10, 0, 10));
+        var random = new DefaultRandom();
+        for (int i = 0; i < 500; i++) {
+            var point = generator.generate(random);
+            assertTrue(point.getX() >= 0 && point.getX() <= 5, "x outside the weighted cell: " + point.getX());
+            assertTrue(point.getY() >= 0 && point.getY() <= 10);
+        }
+    }
+
+    @Test
+    void uniformDistributionKeepsSeededOutput() {
+        var plain = new PointGenerator().generate(new DefaultRandom(42L));
+        var uniform = new PointGenerator()
+                .distribution(SpatialDistribution.uniform())
+                .generate(new DefaultRandom(42L));
+        assertEquals(plain.getCoordinate(), uniform.getCoordinate());
+    }
+}
@@ -18,8 +18,11 @@ package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
 
 import org.instancio.Random;
 import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -246,4 +249,106 @@ class PolygonGeneratorTest {
         // Hole should be contained within exterior
         assertTrue(exteriorEnv.contains(holeEnv) || exteriorEnv.intersects(holeEnv));
     }
+
+    @RepeatedTest(5)
+    void shouldGenerateValidSimplePolygons() {
+        var generator = new PolygonGenerator().vertices(64).simple();
+        for (int i = 0; i < 20; i++) {
+            var polygon = generator.generate(random);
+            assertTrue(polygon.isValid());
+            assertEquals(65, polygon.getExteriorRing().getNumPoints());
+        }
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateValidSimplePolygonsWithHoles() {
+        var generator = new PolygonGenerator().vertices(32).holes(8).simple();
+        for (int i = 0; i < 20; i++) {
+            var polygon = generator.generate(random);
+            assertTrue(polygon.isValid());
+            assertEquals(8, polygon.getNumInteriorRing());
+            var shell = geometryFactory.createPolygon(polygon.getExteriorRing());
+            for (int h = 0; h < polygon.getNumInteriorRing(); h++) {
+                assertTrue(shell.contains(polygon.getInteriorRingN(h)));
+            }
+        }
+    }
+
+    @RepeatedTest(5)
+    void shouldOrientHolesOppositeToShell() {
+        var counterClockwise = new PolygonGenerator().vertices(12).holes(3).counterClockwise().generate(random);
+        assertTrue(Orientation.isCCW(counterClockwise.getExteriorRing().getCoordinateSequence()));
+        for (int h = 0; h < counterClockwise.getNumInteriorRing(); h++) {
+            assertFalse(Orientation.isCCW(counterClockwise.getInteriorRingN(h).getCoordinateSequence()));
+        }
+
+        var clockwise = new PolygonGenerator().vertices(12).holes(3).clockwise().generate(random);
+        assertFalse(Orientation.isCCW(clockwise.getExteriorRing().getCoordinateSequence()));
+        for (int h = 0; h < clockwise.getNumInteriorRing(); h++) {
+            assertTrue(Orientation.isCCW(clockwise.getInteriorRingN(h).getCoordinateSequence()));
+        }
+        assertTrue(clockwise.isValid());
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateSimplePolygonsWithinEnvelope() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var polygon = new PolygonGenerator().vertices(16).holes(2).simple().within(envelope).generate(random);
+        assertTrue(polygon.isValid());
+        assertTrue(envelope.contains(polygon.getEnvelopeInternal()));
+    }
+
+    @Test
+    void shouldStreamHighVertexValidPolygon() {
+        var polygon = new PolygonGenerator().vertices(100_000).holes(4).simple().streaming().generate(random);
+
+        assertEquals(100_001, polygon.getExteriorRing().getNumPoints());
+        assertEquals(4, polygon.getNumInteriorRing());
+        assertInstanceOf(PackedCoordinateSequence.Double.class, polygon.getExteriorRing().getCoordinateSequence());
+        assertTrue(polygon.isValid());
+    }
+
+    @Test
+    void shouldStreamHighVertexRandomPolygon() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var polygon = new PolygonGenerator().vertices(100_000).streaming().within(envelope).generate(random);
+
+        assertEquals(100_001, polygon.getExteriorRing().getNumPoints());
+        assertTrue(polygon.getExteriorRing().isClosed());
+        assertTrue(envelope.contains(polygon.getEnvelopeInternal()));
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateValidPolygonWithHundredsOfHoles() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var polygon = new PolygonGenerator().vertices(256).holes(500).simple().within(envelope).generate(random);
+
+        assertEquals(500, polygon.getNumInteriorRing());
+        assertTrue(polygon.isValid());
+    }
+
+    @Test
+    void shouldGenerateValidPolygonWithThousandsOfHoles() {
+        var polygon = new PolygonGenerator().vertices(1024).holes(3000).simple().generate(random);
+
+        assertEquals(3000, polygon.getNumInteriorRing());
+        assertTrue(polygon.isValid());
+    }
+
+    @RepeatedTest(5)
+    void shouldPlaceNonOverlappingHolesInsideTriangleShell() {
+        var polygon = new PolygonGenerator().vertices(3).holes(20).simple().generate(random);
+
+        assertEquals(20, polygon.getNumInteriorRing());
+        assertTrue(polygon.isValid());
+    }
+
+    @Test
+    void shouldReturnOnlyTheHolesThatFitInsteadOfOverlappingOnes() {
+        // A shell with no interior area cannot hold any hole disk
+        var flat = new Envelope(-74.05, -73.90, 40.75, 40.75);
+        var polygon = new PolygonGenerator().vertices(8).holes(10).simple().within(flat).generate(random);
+
+        assertEquals(0, polygon.getNumInteriorRing());
+    }
 }
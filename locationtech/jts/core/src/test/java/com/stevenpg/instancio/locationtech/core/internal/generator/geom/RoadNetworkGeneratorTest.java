@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoadNetworkGeneratorTest {
+
+    @RepeatedTest(5)
+    void generate() {
+        var result = new RoadNetworkGenerator().generate(new DefaultRandom());
+
+        assertNotNull(result);
+        assertTrue(result.getNumGeometries() >= 99);
+        assertConnected(result);
+    }
+
+    @Test
+    void fullGrid() {
+        var result = new RoadNetworkGenerator()
+                .nodes(100)
+                .pruning(0)
+                .within(new Envelope(0, 10, 0, 10))
+                .generate(new DefaultRandom());
+
+        assertEquals(180, result.getNumGeometries());
+        assertEquals(100, adjacency(result).size());
+    }
+
+    @Test
+    void fullyPrunedGridIsASpanningTree() {
+        var result = new RoadNetworkGenerator()
+                .nodes(100)
+                .pruning(1)
+                .within(new Envelope(0, 10, 0, 10))
+                .generate(new DefaultRandom());
+
+        assertEquals(99, result.getNumGeometries());
+        assertConnected(result);
+    }
+
+    @RepeatedTest(5)
+    void gridIsPlanarAndWithinEnvelope() {
+        var envelope = new Envelope(-122.5, -122.3, 37.7, 37.8);
+        var result = new RoadNetworkGenerator()
+                .nodes(200)
+                .jitter(0.49)
+                .within(envelope)
+                .generate(new DefaultRandom());
+
+        assertTrue(envelope.contains(result.getEnvelopeInternal()));
+        assertPlanar(result);
+        assertConnected(result);
+    }
+
+    @RepeatedTest(5)
+    void delaunay() {
+        var envelope = new Envelope(0, 1_000, 0, 1_000);
+        var result = new RoadNetworkGenerator()
+                .delaunay()
+                .nodes(200)
+                .pruning(0.5)
+                .within(envelope)
+                .generate(new DefaultRandom());
+
+        assertTrue(envelope.contains(result.getEnvelopeInternal()));
+        assertTrue(result.getNumGeometries() >= 199);
+        assertEquals(200, adjacency(result).size());
+        assertPlanar(result);
+        assertConnected(result);
+    }
+
+    @Test
+    void edgesAreTwoPointLines() {
+        var result = new RoadNetworkGenerator().delaunay().generate(new DefaultRandom());
+
+        for (int i = 0; i < result.getNumGeometries(); i++) {
+            assertEquals(2, result.getGeometryN(i).getNumPoints());
+        }
+    }
+
+    @Test
+    void millionEdges() {
+        var result = new RoadNetworkGenerator()
+                .nodes(500_000)
+                .pruning(0)
+                .generate(new DefaultRandom());
+
+        assertTrue(result.getNumGeometries() > 990_000);
+    }
+
+    @Test
+    void sameSeedSameNetwork() {
+        var first = new RoadNetworkGenerator().delaunay().generate(new DefaultRandom(7));
+        var second = new RoadNetworkGenerator().delaunay().generate(new DefaultRandom(7));
+
+        assertTrue(first.equalsExact(second));
+    }
+
+    @Test
+    void geometryFactory() {
+        var geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        var result = new RoadNetworkGenerator().geometryFactory(geometryFactory).generate(new DefaultRandom());
+
+        assertSame(geometryFactory, result.getFactory());
+        assertEquals(4326, result.getGeometryN(0).getSRID());
+    }
+
+    @Test
+    void invalidArguments() {
+        var generator = new RoadNetworkGenerator();
+        assertThrows(IllegalArgumentException.class, () -> generator.nodes(3));
+        assertThrows(IllegalArgumentException.class, () -> generator.jitter(0.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.jitter(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> generator.pruning(1.1));
+        assertThrows(IllegalArgumentException.class, () -> generator.pruning(Double.NaN));
+    }
+
+    private static Map<Coordinate, List<Coordinate>> adjacency(MultiLineString network) {
+        var adjacency = new HashMap<Coordinate, List<Coordinate>>();
+        for (int i = 0; i < network.getNumGeometries(); i++) {
+            var coordinates = network.getGeometryN(i).getCoordinates();
+            adjacency.computeIfAbsent(coordinates[0], k -> new ArrayList<>()).add(coordinates[1]);
+            adjacency.computeIfAbsent(coordinates[1], k -> new ArrayList<>()).add(coordinates[0]);
+        }
+        return adjacency;
+    }
+
+    private static void assertConnected(MultiLineString network) {
+        var adjacency = adjacency(network);
+        var start = adjacency.keySet().iterator().next();
+        var visited = new HashSet<Coordinate>();
+        var queue = new ArrayDeque<Coordinate>();
+        visited.add(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            for (var next : adjacency.get(queue.poll())) {
+                if (visited.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        assertEquals(adjacency.size(), visited.size());
+    }
+
+    private static void assertPlanar(MultiLineString network) {
+        var intersector = new RobustLineIntersector();
+        for (int i = 0; i < network.getNumGeometries(); i++) {
+            var first = network.getGeometryN(i);
+            var a = first.getCoordinates();
+            for (int j = i + 1; j < network.getNumGeometries(); j++) {
+                var second = network.getGeometryN(j);
+                var b = second.getCoordinates();
+                intersector.computeIntersection(a[0], a[1], b[0], b[1]);
+                assertFalse(intersector.hasIntersection() && intersector.isInteriorIntersection(),
+                        () -> "edges cross: " + first + " " + second);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom;
+
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrajectoryGeneratorTest {
+
+    @RepeatedTest(5)
+    void generate() {
+        var result = new TrajectoryGenerator().generate(new DefaultRandom());
+
+        assertNotNull(result);
+        assertTrue(result.getNumPoints() >= 10);
+        assertTrue(result.getNumPoints() <= 100);
+        assertInstanceOf(PackedCoordinateSequence.Double.class, result.getCoordinateSequence());
+        assertFalse(result.getCoordinateSequence().hasM());
+    }
+
+    @Test
+    void length() {
+        var result = new TrajectoryGenerator().length(250).generate(new DefaultRandom());
+
+        assertEquals(250, result.getNumPoints());
+    }
+
+    @RepeatedTest(5)
+    void lengthRange() {
+        var result = new TrajectoryGenerator().length(20, 30).generate(new DefaultRandom());
+
+        assertTrue(result.getNumPoints() >= 20);
+        assertTrue(result.getNumPoints() <= 30);
+    }
+
+    @RepeatedTest(5)
+    void within() {
+        var envelope = new Envelope(-122.5, -122.499, 37.7, 37.701);
+        var result = new TrajectoryGenerator()
+                .length(1_000)
+                .within(envelope)
+                .generate(new DefaultRandom());
+
+        for (var coordinate : result.getCoordinates()) {
+            assertTrue(envelope.contains(coordinate), coordinate::toString);
+        }
+    }
+
+    @RepeatedTest(5)
+    void stepsAreBoundedBySpeedAndInterval() {
+        var result = new TrajectoryGenerator()
+                .planar()
+                .length(500)
+                .speed(10, 20)
+                .interval(0.5, 2)
+                .within(new Envelope(0, 10_000, 0, 10_000))
+                .generate(new DefaultRandom());
+
+        var sequence = result.getCoordinateSequence();
+        for (int i = 1; i < sequence.size(); i++) {
+            var step = sequence.getCoordinate(i - 1).distance(sequence.getCoordinate(i));
+            assertTrue(step <= 20 * 2 + 1e-9, () -> "step " + step);
+        }
+    }
+
+    @Test
+    void constantSpeedWithoutTurningIsAStraightLine() {
+        var result = new TrajectoryGenerator()
+                .planar()
+                .length(5)
+                .speed(10, 10)
+                .acceleration(0)
+                .turnRate(0)
+                .interval(2)
+                .within(new Envelope(-1e6, 1e6, -1e6, 1e6))
+                .generate(new DefaultRandom());
+
+        var sequence = result.getCoordinateSequence();
+        for (int i = 1; i < sequence.size(); i++) {
+            assertEquals(20, sequence.getCoordinate(i - 1).distance(sequence.getCoordinate(i)), 1e-6);
+        }
+        assertEquals(80, sequence.getCoordinate(0).distance(sequence.getCoordinate(4)), 1e-6);
+    }
+
+    @Test
+    void timestamps() {
+        var start = Instant.parse("2024-06-01T08:00:00Z");
+        var result = new TrajectoryGenerator()
+                .length(100)
+                .interval(5)
+                .timestamps(start)
+                .generate(new DefaultRandom());
+
+        var sequence = result.getCoordinateSequence();
+        assertTrue(sequence.hasM());
+        assertEquals(3, sequence.getDimension());
+        for (int i = 0; i < sequence.size(); i++) {
+            assertEquals(start.getEpochSecond() + 5.0 * i, sequence.getM(i));
+        }
+    }
+
+    @RepeatedTest(5)
+    void randomTimestamps() {
+        var result = new TrajectoryGenerator()
+                .interval(1, 3)
+                .timestamps()
+                .generate(new DefaultRandom());
+
+        var sequence = result.getCoordinateSequence();
+        assertTrue(sequence.getM(0) >= Instant.parse("2020-01-01T00:00:00Z").getEpochSecond());
+        assertTrue(sequence.getM(0) <= Instant.parse("2025-01-01T00:00:00Z").getEpochSecond());
+        for (int i = 1; i < sequence.size(); i++) {
+            var dt = sequence.getM(i) - sequence.getM(i - 1);
+            assertTrue(dt >= 1 - 1e-6 && dt <= 3 + 1e-6, () -> "dt " + dt);
+        }
+    }
+
+    @Test
+    void fillStreamsIntoLargeSequence() {
+        var sequence = new PackedCoordinateSequence.Double(1_000_000, 3, 1);
+        var envelope = new Envelope(10, 11, 50, 51);
+        var result = new TrajectoryGenerator()
+                .within(envelope)
+                .timestamps(Instant.EPOCH)
+                .fill(sequence, new DefaultRandom());
+
+        assertSame(sequence, result);
+        assertTrue(envelope.contains(sequence.getX(999_999), sequence.getY(999_999)));
+        assertEquals(999_999, sequence.getM(999_999));
+    }
+
+    @Test
+    void fillLeavesMeasureAbsentWhenSequenceHasNone() {
+        CoordinateSequence sequence = new PackedCoordinateSequence.Double(10, 2, 0);
+        new TrajectoryGenerator().timestamps().fill(sequence, new DefaultRandom());
+
+        assertFalse(sequence.hasM());
+        assertFalse(Double.isNaN(sequence.getX(9)));
+    }
+
+    @Test
+    void sameSeedSameTrack() {
+        var first = new TrajectoryGenerator().timestamps().generate(new DefaultRandom(42));
+        var second = new TrajectoryGenerator().timestamps().generate(new DefaultRandom(42));
+
+        assertTrue(first.equalsExact(second));
+        assertEquals(first.getCoordinateSequence().getM(0), second.getCoordinateSequence().getM(0));
+    }
+
+    @Test
+    void geometryFactory() {
+        var geometryFactory = new GeometryFactory();
+        var result = new TrajectoryGenerator().geometryFactory(geometryFactory).generate(new DefaultRandom());
+
+        assertSame(geometryFactory, result.getFactory());
+    }
+
+    @Test
+    void invalidArguments() {
+        var generator = new TrajectoryGenerator();
+        assertThrows(IllegalArgumentException.class, () -> generator.length(1));
+        assertThrows(IllegalArgumentException.class, () -> generator.length(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> generator.length(5, 4));
+        assertThrows(IllegalArgumentException.class, () -> generator.speed(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> generator.speed(5, 4));
+        assertThrows(IllegalArgumentException.class, () -> generator.acceleration(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> generator.turnRate(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.interval(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.interval(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.timestamps(null));
+    }
+}
@@ -22,7 +22,9 @@ import org.instancio.Instancio;
 import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import java.util.List;
 
@@ -106,4 +108,97 @@ class PackedCoordinateSequenceGeneratorTest {
         // Default values are min:1 max:10
         assertTrue(coordinateSequence.size() >= 1 && coordinateSequence.size() <= 10);
     }
-}
\ No newline at end of file
+
+    @RepeatedTest(5)
+    void generateDefaultsToXyWithoutZ() {
+        var coordinateSequence = new PackedCoordinateSequenceGenerator().length(25).generate(new DefaultRandom());
+
+        assertInstanceOf(PackedCoordinateSequence.Double.class, coordinateSequence);
+        assertEquals(3, coordinateSequence.getDimension());
+        assertEquals(0, coordinateSequence.getMeasures());
+        for (int i = 0; i < coordinateSequence.size(); i++) {
+            assertTrue(coordinateSequence.getX(i) >= -180 && coordinateSequence.getX(i) <= 180);
+            assertTrue(coordinateSequence.getY(i) >= -90 && coordinateSequence.getY(i) <= 90);
+            assertTrue(Double.isNaN(coordinateSequence.getZ(i)));
+        }
+    }
+
+    @RepeatedTest(5)
+    void within() {
+        var envelope = new Envelope(10, 20, 30, 40);
+        var coordinateSequence = new PackedCoordinateSequenceGenerator()
+                .length(50)
+                .within(envelope)
+                .generate(new DefaultRandom());
+
+        assertEquals(50, coordinateSequence.size());
+        for (int i = 0; i < coordinateSequence.size(); i++) {
+            assertTrue(envelope.contains(coordinateSequence.getCoordinate(i)));
+        }
+    }
+
+    @RepeatedTest(5)
+    void dimensionXyzm() {
+        var coordinateSequence = new PackedCoordinateSequenceGenerator()
+                .length(10)
+                .dimension(4, 1)
+                .generate(new DefaultRandom());
+
+        assertEquals(4, coordinateSequence.getDimension());
+        assertEquals(1, coordinateSequence.getMeasures());
+        for (int i = 0; i < coordinateSequence.size(); i++) {
+            assertFalse(Double.isNaN(coordinateSequence.getZ(i)));
+            assertFalse(Double.isNaN(coordinateSequence.getM(i)));
+        }
+    }
+
+    @RepeatedTest(5)
+    void dimensionXy() {
+        var coordinateSequence = new PackedCoordinateSequenceGenerator()
+                .length(10)
+                .dimension(2, 0)
+                .generate(new DefaultRandom());
+
+        assertEquals(2, coordinateSequence.getDimension());
+        assertEquals(0, coordinateSequence.getMeasures());
+        assertEquals(20, ((PackedCoordinateSequence.Double) coordinateSequence).getRawCoordinates().length);
+    }
+
+    @Test
+    void dimensionInvalid() {
+        var generator = new PackedCoordinateSequenceGenerator();
+
+        var measures = assertThrows(IllegalArgumentException.class, () -> generator.dimension(4, 2));
+        assertEquals("measures must be 0 or 1", measures.getMessage());
+
+        var spatial = assertThrows(IllegalArgumentException.class, () -> generator.dimension(5, 1));
+        assertEquals("dimension minus measures must be 2 or 3", spatial.getMessage());
+    }
+
+    @RepeatedTest(5)
+    void typeFloat() {
+        var coordinateSequence = new PackedCoordinateSequenceGenerator()
+                .length(10)
+                .type(PackedCoordinateSequenceFactory.FLOAT)
+                .dimension(3, 0)
+                .generate(new DefaultRandom());
+
+        assertInstanceOf(PackedCoordinateSequence.Float.class, coordinateSequence);
+        assertEquals(30, ((PackedCoordinateSequence.Float) coordinateSequence).getRawCoordinates().length);
+    }
+
+    @Test
+    void typeInvalid() {
+        var result = assertThrows(IllegalArgumentException.class, () ->
+                new PackedCoordinateSequenceGenerator().type(7));
+        assertEquals("type must be PackedCoordinateSequenceFactory.DOUBLE or FLOAT", result.getMessage());
+    }
+
+    @Test
+    void seededGenerationIsRepeatable() {
+        var first = new PackedCoordinateSequenceGenerator().length(100).generate(new DefaultRandom(42L));
+        var second = new PackedCoordinateSequenceGenerator().length(100).generate(new DefaultRandom(42L));
+
+        assertArrayEquals(first.toCoordinateArray(), second.toCoordinateArray());
+    }
+}
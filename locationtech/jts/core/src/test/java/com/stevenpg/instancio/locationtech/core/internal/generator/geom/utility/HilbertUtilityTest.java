@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HilbertUtilityTest {
+
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    private final Random random = new DefaultRandom();
+
+    @Test
+    void firstOrderCurveVisitsQuadrantsInOrder() {
+        assertEquals(0, HilbertUtility.index(0, 0, 1));
+        assertEquals(1, HilbertUtility.index(0, 1, 1));
+        assertEquals(2, HilbertUtility.index(1, 1, 1));
+        assertEquals(3, HilbertUtility.index(1, 0, 1));
+    }
+
+    @Test
+    void indexIsABijectionWhoseStepsAreAdjacentCells() {
+        var order = 5;
+        var side = 1 << order;
+        var cells = new int[side * side][];
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                var d = (int) HilbertUtility.index(x, y, order);
+                assertNull(cells[d], "index " + d + " used twice");
+                cells[d] = new int[]{x, y};
+            }
+        }
+        for (int d = 1; d < cells.length; d++) {
+            var step = Math.abs(cells[d][0] - cells[d - 1][0]) + Math.abs(cells[d][1] - cells[d - 1][1]);
+            assertEquals(1, step, "indexes " + (d - 1) + " and " + d + " are not neighbours");
+        }
+    }
+
+    @Test
+    void invalidOrderIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HilbertUtility.index(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> HilbertUtility.index(0, 0, 31));
+    }
+
+    @RepeatedTest(5)
+    void sortKeepsElementsAndImprovesLocality() {
+        var points = new Point[5_000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = point(random.doubleRange(-180, 180), random.doubleRange(-90, 90));
+        }
+        var before = pathLength(points);
+        var original = new HashSet<>(List.of(points));
+
+        assertSame(points, HilbertUtility.sort(points));
+
+        assertEquals(original, new HashSet<>(List.of(points)));
+        var after = pathLength(points);
+        assertTrue(after < before / 10, "path length " + after + " not much shorter than " + before);
+    }
+
+    @Test
+    void sortOrdersByCurveIndex() {
+        // Centres on a 4 x 4 lattice spanning the full grid, so quantization is exact
+        var step = ((1 << HilbertUtility.ORDER) - 1) / 3.0;
+        var points = new Point[16];
+        for (int i = 0; i < 16; i++) {
+            points[15 - i] = point((i % 4) * step, (i / 4) * step);
+        }
+        HilbertUtility.sort(points);
+        for (int i = 1; i < points.length; i++) {
+            var previous = HilbertUtility.index((int) Math.round(points[i - 1].getX()), (int) Math.round(points[i - 1].getY()), HilbertUtility.ORDER);
+            var current = HilbertUtility.index((int) Math.round(points[i].getX()), (int) Math.round(points[i].getY()), HilbertUtility.ORDER);
+            assertTrue(previous < current, "points out of curve order at " + i);
+        }
+    }
+
+    @Test
+    void nullAndEmptyGeometriesMoveToTheEndInOrder() {
+        var empty = FACTORY.createPoint();
+        Geometry[] geometries = {null, point(10, 10), empty, point(0, 0), null};
+        HilbertUtility.sort(geometries);
+
+        assertEquals(point(0, 0), geometries[0]);
+        assertEquals(point(10, 10), geometries[1]);
+        assertNull(geometries[2]);
+        assertSame(empty, geometries[3]);
+        assertNull(geometries[4]);
+    }
+
+    @Test
+    void identicalCentresKeepTheirOrder() {
+        var first = point(1, 1);
+        var second = point(1, 1);
+        var third = point(1, 1);
+        Point[] points = {first, second, third};
+        HilbertUtility.sort(points);
+        assertSame(first, points[0]);
+        assertSame(second, points[1]);
+        assertSame(third, points[2]);
+    }
+
+    private static Point point(double x, double y) {
+        return FACTORY.createPoint(new Coordinate(x, y));
+    }
+
+    private static double pathLength(Point[] points) {
+        var length = 0d;
+        for (int i = 1; i < points.length; i++) {
+            length += points[i - 1].distance(points[i]);
+        }
+        return length;
+    }
+}
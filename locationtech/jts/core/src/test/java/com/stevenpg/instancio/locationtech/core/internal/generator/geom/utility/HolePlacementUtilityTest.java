@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HolePlacementUtilityTest {
+
+    private final Random random = new DefaultRandom();
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    private LinearRing square(double size) {
+        return geometryFactory.createLinearRing(new Coordinate[]{
+                new Coordinate(0, 0),
+                new Coordinate(size, 0),
+                new Coordinate(size, size),
+                new Coordinate(0, size),
+                new Coordinate(0, 0)
+        });
+    }
+
+    @RepeatedTest(5)
+    void shouldPlaceDisjointDisksInsideShell() {
+        var shell = square(10);
+        var shellPolygon = geometryFactory.createPolygon(shell);
+        var disks = HolePlacementUtility.placeHoleDisks(random, shell, 500);
+
+        assertEquals(1500, disks.length);
+        for (int i = 0; i < 500; i++) {
+            var x = disks[3 * i];
+            var y = disks[3 * i + 1];
+            var r = disks[3 * i + 2];
+            assertTrue(r > 0);
+            assertTrue(shellPolygon.contains(geometryFactory.toGeometry(new Envelope(x - r, x + r, y - r, y + r))));
+            for (int j = i + 1; j < 500; j++) {
+                var distance = Math.hypot(x - disks[3 * j], y - disks[3 * j + 1]);
+                assertTrue(distance > r + disks[3 * j + 2]);
+            }
+        }
+    }
+
+    @Test
+    void shouldPlaceThousandsOfDisks() {
+        var disks = HolePlacementUtility.placeHoleDisks(random, square(1), 5000);
+        assertEquals(15_000, disks.length);
+    }
+
+    @Test
+    void shouldReturnNoDisksForNoHoles() {
+        assertEquals(0, HolePlacementUtility.placeHoleDisks(random, square(1), 0).length);
+    }
+
+    @Test
+    void shouldReturnNoDisksForDegenerateShell() {
+        var flat = geometryFactory.createLinearRing(new Coordinate[]{
+                new Coordinate(0, 0),
+                new Coordinate(1, 0),
+                new Coordinate(2, 0),
+                new Coordinate(0, 0)
+        });
+        assertEquals(0, HolePlacementUtility.placeHoleDisks(random, flat, 3).length);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoissonDiskUtilityTest {
+
+    private final Random random = new DefaultRandom();
+
+    @RepeatedTest(5)
+    void pointsKeepMinimumDistanceAndStayInEnvelope() {
+        var envelope = new Envelope(0, 100, -50, 50);
+        var xy = PoissonDiskUtility.sample(random, envelope, 3);
+        var count = xy.length / 2;
+        assertTrue(count > 100, "expected a dense sample, had " + count);
+        for (int i = 0; i < count; i++) {
+            assertTrue(envelope.contains(xy[2 * i], xy[2 * i + 1]));
+            for (int j = i + 1; j < count; j++) {
+                var distance = Math.hypot(xy[2 * i] - xy[2 * j], xy[2 * i + 1] - xy[2 * j + 1]);
+                assertTrue(distance >= 3, "points " + i + " and " + j + " are " + distance + " apart");
+            }
+        }
+    }
+
+    @Test
+    void sampleCoversTheEnvelope() {
+        var envelope = new Envelope(0, 60, 0, 60);
+        var xy = PoissonDiskUtility.sample(random, envelope, 2);
+        var count = xy.length / 2;
+
+        // A maximal sample leaves no gap wide enough for another point
+        var covered = 0;
+        var probes = 0;
+        for (double x = 0.5; x < 60; x += 1) {
+            for (double y = 0.5; y < 60; y += 1) {
+                probes++;
+                var nearest = Double.MAX_VALUE;
+                for (int i = 0; i < count; i++) {
+                    nearest = Math.min(nearest, Math.hypot(xy[2 * i] - x, xy[2 * i + 1] - y));
+                }
+                if (nearest < 4) {
+                    covered++;
+                }
+            }
+        }
+        assertTrue(covered >= probes * 0.995, "covered " + covered + " of " + probes + " probes");
+    }
+
+    @Test
+    void nullEnvelopeDefaultsToWorld() {
+        var xy = PoissonDiskUtility.sample(random, null, 10);
+        assertTrue(xy.length >= 2);
+        for (int i = 0; i < xy.length; i += 2) {
+            assertTrue(xy[i] >= -180 && xy[i] <= 180);
+            assertTrue(xy[i + 1] >= -90 && xy[i + 1] <= 90);
+        }
+    }
+
+    @Test
+    void largeSamplesAreSupported() {
+        var envelope = new Envelope(0, 500, 0, 500);
+        var xy = PoissonDiskUtility.sample(random, envelope, 1);
+        assertTrue(xy.length / 2 > 100_000, "expected over 100,000 points, had " + xy.length / 2);
+    }
+
+    @Test
+    void sameSeedGivesSameSample() {
+        var envelope = new Envelope(0, 20, 0, 20);
+        var first = PoissonDiskUtility.sample(new DefaultRandom(8L), envelope, 1);
+        var second = PoissonDiskUtility.sample(new DefaultRandom(8L), envelope, 1);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void invalidMinDistanceIsRejected() {
+        var zero = assertThrows(IllegalArgumentException.class, () -> PoissonDiskUtility.sample(random, null, 0));
+        assertEquals("minDistance must be finite and > 0", zero.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> PoissonDiskUtility.sample(random, null, Double.NaN));
+    }
+
+    @Test
+    void oversizedGridIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PoissonDiskUtility.sample(random, null, 1e-6));
+
+        // About 52 million cells: rejected before the grid is allocated
+        var envelope = new Envelope(-180, 180, -90, 90);
+        var tooFine = assertThrows(IllegalArgumentException.class, () -> PoissonDiskUtility.sample(random, envelope, 0.05));
+        assertTrue(tooFine.getMessage().startsWith("minDistance 0.05 is too small for the envelope [-180.0, 180.0] x [-90.0, 90.0]"),
+                tooFine.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequenceUtilityTest {
+
+    private final Random random = new DefaultRandom();
+
+    @RepeatedTest(5)
+    void fillRandomShouldStayWithinEnvelope() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var sequence = new PackedCoordinateSequence.Double(100, 2, 0);
+        SequenceUtility.fillRandom(random, sequence, 100, envelope);
+        for (int i = 0; i < sequence.size(); i++) {
+            assertTrue(envelope.contains(sequence.getX(i), sequence.getY(i)));
+        }
+    }
+
+    @RepeatedTest(5)
+    void fillRandomShouldDefaultToWorld() {
+        var sequence = new PackedCoordinateSequence.Double(100, 2, 0);
+        SequenceUtility.fillRandom(random, sequence, 100, null);
+        for (int i = 0; i < sequence.size(); i++) {
+            assertTrue(sequence.getX(i) >= -180 && sequence.getX(i) <= 180);
+            assertTrue(sequence.getY(i) >= -90 && sequence.getY(i) <= 90);
+        }
+    }
+
+    @Test
+    void closeRingShouldCopyFirstCoordinateIntoLast() {
+        var sequence = new PackedCoordinateSequence.Double(new double[]{1, 2, 3, 4, 5, 6, 0, 0}, 2, 0);
+        SequenceUtility.closeRing(sequence);
+        assertEquals(1, sequence.getOrdinate(3, CoordinateSequence.X));
+        assertEquals(2, sequence.getOrdinate(3, CoordinateSequence.Y));
+    }
+}
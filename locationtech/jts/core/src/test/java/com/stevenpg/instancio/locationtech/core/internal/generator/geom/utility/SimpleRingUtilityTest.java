@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleRingUtilityTest {
+
+    private final Random random = new DefaultRandom();
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @RepeatedTest(5)
+    void writeStarRingShouldProduceClosedSimpleRing() {
+        var envelope = new Envelope(0, 10, 0, 10);
+        var sequence = new PackedCoordinateSequence.Double(41, 2, 0);
+        SimpleRingUtility.writeStarRing(random, 40, sequence, envelope, false);
+
+        var ring = geometryFactory.createLinearRing(sequence);
+        assertTrue(ring.isClosed());
+        assertTrue(ring.isSimple());
+        assertTrue(Orientation.isCCW(sequence));
+        assertTrue(envelope.contains(ring.getEnvelopeInternal()));
+    }
+
+    @RepeatedTest(5)
+    void writeStarRingShouldReverseClockwiseRings() {
+        var sequence = new PackedCoordinateSequence.Double(11, 2, 0);
+        SimpleRingUtility.writeStarRing(random, 10, sequence, null, true);
+        assertFalse(Orientation.isCCW(sequence));
+    }
+
+    @RepeatedTest(5)
+    void writeStarRingShouldContainEnvelopeCentre() {
+        var envelope = new Envelope(-1, 1, -1, 1);
+        var sequence = new PackedCoordinateSequence.Double(4, 2, 0);
+        SimpleRingUtility.writeStarRing(random, 3, sequence, envelope, false);
+
+        var shell = geometryFactory.createPolygon(sequence);
+        assertTrue(shell.contains(geometryFactory.createPoint(new Coordinate(0, 0))));
+    }
+
+    @Test
+    void writeStarRingShouldRejectTooFewVertices() {
+        var sequence = new PackedCoordinateSequence.Double(3, 2, 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> SimpleRingUtility.writeStarRing(random, 2, sequence, null, false));
+    }
+}
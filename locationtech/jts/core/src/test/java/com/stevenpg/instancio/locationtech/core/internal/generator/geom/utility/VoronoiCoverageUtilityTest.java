@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.coverage.CoverageUnion;
+import org.locationtech.jts.coverage.CoverageValidator;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoronoiCoverageUtilityTest {
+
+    private final Random random = new DefaultRandom();
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @RepeatedTest(5)
+    void cellsFormAValidCoverageOfTheEnvelope() {
+        var envelope = new Envelope(-122.5, -122.3, 37.7, 37.8);
+        var cells = VoronoiCoverageUtility.tessellate(random, envelope, 500, 0, geometryFactory);
+
+        assertEquals(500, cells.length);
+        assertTrue(CoverageValidator.isValid(cells));
+        var area = 0.0;
+        for (var cell : cells) {
+            assertTrue(cell.isValid());
+            assertTrue(envelope.contains(cell.getEnvelopeInternal()));
+            area += cell.getArea();
+        }
+        assertEquals(envelope.getArea(), area, envelope.getArea() * 1e-9);
+
+        var union = CoverageUnion.union(geometryFactory.createGeometryCollection(cells));
+        assertEquals(1, union.getNumGeometries());
+        assertEquals(0, ((Polygon) union).getNumInteriorRing());
+        assertTrue(union.equalsTopo(geometryFactory.toGeometry(envelope)));
+    }
+
+    @Test
+    void singleCellIsTheEnvelope() {
+        var envelope = new Envelope(0, 10, 0, 5);
+        var cells = VoronoiCoverageUtility.tessellate(random, envelope, 1, 0, geometryFactory);
+
+        assertEquals(1, cells.length);
+        assertTrue(cells[0].equalsTopo(geometryFactory.toGeometry(envelope)));
+    }
+
+    @Test
+    void lloydRelaxationEvensOutCellAreas() {
+        var envelope = new Envelope(0, 100, 0, 100);
+        var raw = VoronoiCoverageUtility.tessellate(new DefaultRandom(11), envelope, 300, 0, geometryFactory);
+        var relaxed = VoronoiCoverageUtility.tessellate(new DefaultRandom(11), envelope, 300, 5, geometryFactory);
+
+        assertEquals(300, relaxed.length);
+        assertTrue(CoverageValidator.isValid(relaxed));
+        assertTrue(areaVariance(relaxed) < areaVariance(raw) / 2,
+                "relaxed " + areaVariance(relaxed) + ", raw " + areaVariance(raw));
+    }
+
+    @Test
+    void manyCells() {
+        var cells = VoronoiCoverageUtility.tessellate(random, null, 20_000, 1, geometryFactory);
+
+        assertEquals(20_000, cells.length);
+    }
+
+    @Test
+    void invalidArguments() {
+        var envelope = new Envelope(0, 1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> VoronoiCoverageUtility.tessellate(random, envelope, 0, 0, geometryFactory));
+        assertThrows(IllegalArgumentException.class,
+                () -> VoronoiCoverageUtility.tessellate(random, envelope, 10, -1, geometryFactory));
+        assertThrows(IllegalArgumentException.class,
+                () -> VoronoiCoverageUtility.tessellate(random, new Envelope(0, 1, 0, 0), 10, 0, geometryFactory));
+    }
+
+    private static double areaVariance(Polygon[] cells) {
+        var mean = 0.0;
+        for (var cell : cells) {
+            mean += cell.getArea();
+        }
+        mean /= cells.length;
+        var variance = 0.0;
+        for (var cell : cells) {
+            variance += (cell.getArea() - mean) * (cell.getArea() - mean);
+        }
+        return variance / cells.length;
+    }
+}
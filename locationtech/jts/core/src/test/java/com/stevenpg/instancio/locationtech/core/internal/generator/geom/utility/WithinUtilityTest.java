@@ -69,4 +69,29 @@ class WithinUtilityTest {
         assertTrue(lon >= -180 && lon <= 180);
         assertTrue(lat >= -90 && lat <= 90);
     }
-}
\ No newline at end of file
+
+    @RepeatedTest(10)
+    void randomLongitudeAndLatitude() {
+        var lon = WithinUtility.randomLongitude(random);
+        var lat = WithinUtility.randomLatitude(random);
+
+        assertTrue(lon >= WithinUtility.MIN_LONGITUDE && lon <= WithinUtility.MAX_LONGITUDE);
+        assertTrue(lat >= WithinUtility.MIN_LATITUDE && lat <= WithinUtility.MAX_LATITUDE);
+    }
+
+    @RepeatedTest(10)
+    void randomOrdinate() {
+        var ordinate = WithinUtility.randomOrdinate(random);
+        assertTrue(ordinate >= 1 && ordinate <= 10_000);
+    }
+
+    @Test
+    void seededDrawsAreRepeatable() {
+        var first = new DefaultRandom(1234L);
+        var second = new DefaultRandom(1234L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(WithinUtility.randomLongitude(first), WithinUtility.randomLongitude(second));
+            assertEquals(WithinUtility.randomLatitude(first), WithinUtility.randomLatitude(second));
+        }
+    }
+}
@@ -18,11 +18,20 @@ package com.stevenpg.instancio.locationtech.core.internal.spi;
 
 import org.instancio.Instancio;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.*;
 import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class LocationtechjtsCoreGeomServiceProviderTest {
 
@@ -130,4 +139,42 @@ class LocationtechjtsCoreGeomServiceProviderTest {
     void shouldAutoGeneratePackedCoordinateSequence() {
         assertNotNull(Instancio.create(PackedCoordinateSequence.class));
     }
+
+    @RepeatedTest(5)
+    void shouldAutoGenerateInterfaceTargetsFromRegisteredSubtype() {
+        assertInstanceOf(LineString.class, Instancio.create(Lineal.class));
+        assertInstanceOf(Point.class, Instancio.create(Puntal.class));
+        assertInstanceOf(Polygon.class, Instancio.create(Polygonal.class));
+    }
+
+    @Test
+    void shouldShareGeneratorProviderAcrossProviderInstances() {
+        assertSame(new LocationtechjtsCoreGeomServiceProvider().getGeneratorProvider(),
+                new LocationtechjtsCoreGeomServiceProvider().getGeneratorProvider());
+    }
+
+    @Test
+    void shouldAutoGenerateConcurrently() throws Exception {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<Integer>>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    int generated = 0;
+                    for (int i = 0; i < 50; i++) {
+                        assertNotNull(Instancio.create(Polygon.class));
+                        assertNotNull(Instancio.create(MultiPoint.class));
+                        assertNotNull(Instancio.create(GeometryCollection.class));
+                        generated++;
+                    }
+                    return generated;
+                });
+            }
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                assertEquals(50, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
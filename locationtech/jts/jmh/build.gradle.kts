@@ -0,0 +1,9 @@
+plugins {
+    id("java-instancio-gis-library")
+    id("java-jmh-conventions")
+}
+
+dependencies {
+    implementation(project(":locationtech-core"))
+    implementation("org.locationtech.jts:jts-core:1.20.0")
+}
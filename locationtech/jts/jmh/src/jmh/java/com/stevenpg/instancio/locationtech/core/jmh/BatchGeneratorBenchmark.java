@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.batch.BatchGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PolygonGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares generating a batch through {@link BatchGenerator} against a loop that
+ * creates a new generator for each value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchGeneratorBenchmark {
+
+    @Param({"1000", "100000"})
+    private int count;
+
+    private Random random;
+    private BatchGenerator<Point> points;
+    private BatchGenerator<Polygon> polygons;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        points = GenLocationtechJtsCore.points(() -> GenLocationtechJtsCore.point().within(BenchmarkSupport.AREA), count);
+        polygons = GenLocationtechJtsCore.polygons(() -> GenLocationtechJtsCore.polygon().within(BenchmarkSupport.AREA), count);
+    }
+
+    @Benchmark
+    public Point[] pointsBatch() {
+        return points.generate(random);
+    }
+
+    @Benchmark
+    public Point[] pointsLoop() {
+        var result = new Point[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = GenLocationtechJtsCore.point().within(BenchmarkSupport.AREA).generate(random);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Polygon[] polygonsBatch() {
+        return polygons.generate(random);
+    }
+
+    @Benchmark
+    public Polygon[] polygonsLoop() {
+        var result = new Polygon[count];
+        for (int i = 0; i < count; i++) {
+            PolygonGenerator generator = GenLocationtechJtsCore.polygon().within(BenchmarkSupport.AREA);
+            result[i] = generator.generate(random);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Shared fixtures for the generator benchmarks.
+ */
+final class BenchmarkSupport {
+
+    /**
+     * Fixed seed so every fork draws the same sequence of values.
+     */
+    static final long SEED = 20250101L;
+
+    /**
+     * Generation area used when a benchmark is parameterized with {@code within=true}.
+     */
+    static final Envelope AREA = new Envelope(-74.05, -73.90, 40.70, 40.80);
+
+    private BenchmarkSupport() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates a seeded random for a benchmark trial.
+     * @return seeded random
+     */
+    static Random seededRandom() {
+        return new DefaultRandom(SEED);
+    }
+}
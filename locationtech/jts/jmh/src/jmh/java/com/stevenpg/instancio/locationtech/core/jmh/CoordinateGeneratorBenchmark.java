@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateXYGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateXYMGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateXYZMGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateXY;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the single coordinate generators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinateGeneratorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean within;
+
+    private Random random;
+    private CoordinateGenerator coordinateGenerator;
+    private CoordinateXYGenerator coordinateXYGenerator;
+    private CoordinateXYMGenerator coordinateXYMGenerator;
+    private CoordinateXYZMGenerator coordinateXYZMGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        coordinateGenerator = GenLocationtechJtsCore.coordinate();
+        coordinateXYGenerator = GenLocationtechJtsCore.coordinateXY();
+        coordinateXYMGenerator = GenLocationtechJtsCore.coordinateXYM();
+        coordinateXYZMGenerator = GenLocationtechJtsCore.coordinateXYZM();
+        if (within) {
+            coordinateGenerator.within(BenchmarkSupport.AREA);
+            coordinateXYGenerator.within(BenchmarkSupport.AREA);
+            coordinateXYMGenerator.within(BenchmarkSupport.AREA);
+            coordinateXYZMGenerator.within(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public Coordinate coordinate() {
+        return coordinateGenerator.generate(random);
+    }
+
+    @Benchmark
+    public CoordinateXY coordinateXY() {
+        return coordinateXYGenerator.generate(random);
+    }
+
+    @Benchmark
+    public CoordinateXYM coordinateXYM() {
+        return coordinateXYMGenerator.generate(random);
+    }
+
+    @Benchmark
+    public CoordinateXYZM coordinateXYZM() {
+        return coordinateXYZMGenerator.generate(random);
+    }
+}
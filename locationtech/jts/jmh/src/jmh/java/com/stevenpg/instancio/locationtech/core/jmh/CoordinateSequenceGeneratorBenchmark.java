@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.CoordinateSequenceGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.CoordinateArraySequenceGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.impl.PackedCoordinateSequenceGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the coordinate sequence generators across sequence lengths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinateSequenceGeneratorBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int length;
+
+    @Param({"false", "true"})
+    private boolean within;
+
+    private Random random;
+    private CoordinateSequenceGenerator coordinateSequenceGenerator;
+    private CoordinateArraySequenceGenerator coordinateArraySequenceGenerator;
+    private PackedCoordinateSequenceGenerator packedDoubleGenerator;
+    private PackedCoordinateSequenceGenerator packedFloatGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        coordinateSequenceGenerator = GenLocationtechJtsCore.coordinateSequence().length(length);
+        coordinateArraySequenceGenerator = GenLocationtechJtsCore.coordinateArraySequence().length(length);
+        packedDoubleGenerator = new PackedCoordinateSequenceGenerator().length(length);
+        packedFloatGenerator = new PackedCoordinateSequenceGenerator().length(length)
+                .type(PackedCoordinateSequenceFactory.FLOAT);
+        if (within) {
+            coordinateSequenceGenerator.within(BenchmarkSupport.AREA);
+            coordinateArraySequenceGenerator.within(BenchmarkSupport.AREA);
+            packedDoubleGenerator.within(BenchmarkSupport.AREA);
+            packedFloatGenerator.within(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public CoordinateSequence coordinateSequence() {
+        return coordinateSequenceGenerator.generate(random);
+    }
+
+    @Benchmark
+    public CoordinateArraySequence coordinateArraySequence() {
+        return coordinateArraySequenceGenerator.generate(random);
+    }
+
+    @Benchmark
+    public PackedCoordinateSequence packedDoubleSequence() {
+        return packedDoubleGenerator.generate(random);
+    }
+
+    @Benchmark
+    public PackedCoordinateSequence packedFloatSequence() {
+        return packedFloatGenerator.generate(random);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.utility.WithinUtility;
+import org.instancio.Instancio;
+import org.instancio.Random;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-coordinate cost of drawing a longitude/latitude pair through
+ * {@code Instancio.gen()} against drawing it directly from the supplied {@link Random}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinateSourceBenchmark {
+
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+    }
+
+    @Benchmark
+    public void instancioGen(Blackhole blackhole) {
+        blackhole.consume(Instancio.gen().spatial().coordinate().lon().get());
+        blackhole.consume(Instancio.gen().spatial().coordinate().lat().get());
+    }
+
+    @Benchmark
+    public void suppliedRandom(Blackhole blackhole) {
+        blackhole.consume(WithinUtility.randomLongitude(random));
+        blackhole.consume(WithinUtility.randomLatitude(random));
+    }
+}
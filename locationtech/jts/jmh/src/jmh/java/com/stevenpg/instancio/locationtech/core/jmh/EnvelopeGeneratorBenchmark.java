@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.EnvelopeGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.OctagonalEnvelopeGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.OctagonalEnvelope;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the envelope generators. Neither generator supports {@code within},
+ * so the parameter switches between the random default and a caller-supplied envelope.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvelopeGeneratorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean provided;
+
+    private Random random;
+    private EnvelopeGenerator envelopeGenerator;
+    private OctagonalEnvelopeGenerator octagonalEnvelopeGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        envelopeGenerator = GenLocationtechJtsCore.envelope();
+        octagonalEnvelopeGenerator = GenLocationtechJtsCore.octagonalEnvelope();
+        if (provided) {
+            envelopeGenerator.envelope(BenchmarkSupport.AREA);
+            octagonalEnvelopeGenerator.envelope(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public Envelope envelope() {
+        return envelopeGenerator.generate(random);
+    }
+
+    @Benchmark
+    public OctagonalEnvelope octagonalEnvelope() {
+        return octagonalEnvelopeGenerator.generate(random);
+    }
+}
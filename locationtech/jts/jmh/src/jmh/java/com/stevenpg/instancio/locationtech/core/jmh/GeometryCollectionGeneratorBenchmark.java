@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.GeometryCollectionGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.GeometryGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the heterogeneous generators: GeometryCollection and Geometry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryCollectionGeneratorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean within;
+
+    private Random random;
+    private GeometryCollectionGenerator geometryCollectionGenerator;
+    private GeometryGenerator geometryGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        geometryCollectionGenerator = GenLocationtechJtsCore.geometryCollection();
+        geometryGenerator = GenLocationtechJtsCore.geometry();
+        if (within) {
+            geometryCollectionGenerator.within(BenchmarkSupport.AREA);
+            geometryGenerator.within(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public GeometryCollection geometryCollection() {
+        return geometryCollectionGenerator.generate(random);
+    }
+
+    @Benchmark
+    public Geometry geometry() {
+        return geometryGenerator.generate(random);
+    }
+}
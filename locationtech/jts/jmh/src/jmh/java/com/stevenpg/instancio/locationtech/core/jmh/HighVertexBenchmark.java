@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.LineStringGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PolygonGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for very large geometries, comparing streaming construction against the default path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HighVertexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int vertices;
+
+    @Param({"false", "true"})
+    private boolean streaming;
+
+    private Random random;
+    private LineStringGenerator lineStringGenerator;
+    private PolygonGenerator polygonGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        lineStringGenerator = GenLocationtechJtsCore.lineString().length(vertices).within(BenchmarkSupport.AREA);
+        polygonGenerator = GenLocationtechJtsCore.polygon().vertices(vertices).simple().within(BenchmarkSupport.AREA);
+        if (streaming) {
+            lineStringGenerator.streaming();
+            polygonGenerator.streaming();
+        }
+    }
+
+    @Benchmark
+    public LineString lineString() {
+        return lineStringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public Polygon simplePolygon() {
+        return polygonGenerator.generate(random);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.LineStringGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.LinearRingGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiLineStringGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the lineal generators across vertex counts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineStringGeneratorBenchmark {
+
+    @Param({"4", "64", "1024"})
+    private int vertices;
+
+    @Param({"false", "true"})
+    private boolean within;
+
+    private Random random;
+    private LineStringGenerator lineStringGenerator;
+    private LinearRingGenerator linearRingGenerator;
+    private MultiLineStringGenerator multiLineStringGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        lineStringGenerator = GenLocationtechJtsCore.lineString().length(vertices);
+        linearRingGenerator = GenLocationtechJtsCore.linearRing().length(vertices);
+        multiLineStringGenerator = GenLocationtechJtsCore.multiLineString();
+        if (within) {
+            lineStringGenerator.within(BenchmarkSupport.AREA);
+            linearRingGenerator.within(BenchmarkSupport.AREA);
+            multiLineStringGenerator.within(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public LineString lineString() {
+        return lineStringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public LinearRing linearRing() {
+        return linearRingGenerator.generate(random);
+    }
+
+    @Benchmark
+    public MultiLineString multiLineString() {
+        return multiLineStringGenerator.generate(random);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.LineSegmentGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiPointGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PointGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the point based generators: Point, MultiPoint and LineSegment.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointGeneratorBenchmark {
+
+    @Param({"10", "1000"})
+    private int multiPointLength;
+
+    @Param({"false", "true"})
+    private boolean within;
+
+    private Random random;
+    private PointGenerator pointGenerator;
+    private MultiPointGenerator multiPointGenerator;
+    private LineSegmentGenerator lineSegmentGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        pointGenerator = GenLocationtechJtsCore.point();
+        multiPointGenerator = GenLocationtechJtsCore.multiPoint().length(multiPointLength);
+        lineSegmentGenerator = GenLocationtechJtsCore.lineSegment();
+        if (within) {
+            pointGenerator.within(BenchmarkSupport.AREA);
+            multiPointGenerator.within(BenchmarkSupport.AREA);
+            lineSegmentGenerator.within(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public Point point() {
+        return pointGenerator.generate(random);
+    }
+
+    @Benchmark
+    public MultiPoint multiPoint() {
+        return multiPointGenerator.generate(random);
+    }
+
+    @Benchmark
+    public LineSegment lineSegment() {
+        return lineSegmentGenerator.generate(random);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.locationtech.core.jmh;
+
+import com.stevenpg.instancio.locationtech.core.GenLocationtechJtsCore;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiPolygonGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PolygonGenerator;
+import org.instancio.Random;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the polygonal generators across vertex and hole counts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonGeneratorBenchmark {
+
+    @Param({"4", "64", "1024"})
+    private int vertices;
+
+    @Param({"0", "2", "8", "512"})
+    private int holes;
+
+    @Param({"false", "true"})
+    private boolean within;
+
+    @Param({"false", "true"})
+    private boolean simple;
+
+    private Random random;
+    private PolygonGenerator polygonGenerator;
+    private MultiPolygonGenerator multiPolygonGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = BenchmarkSupport.seededRandom();
+        polygonGenerator = GenLocationtechJtsCore.polygon().vertices(vertices).holes(holes);
+        multiPolygonGenerator = GenLocationtechJtsCore.multiPolygon();
+        if (simple) {
+            polygonGenerator.simple();
+        }
+        if (within) {
+            polygonGenerator.within(BenchmarkSupport.AREA);
+            multiPolygonGenerator.within(BenchmarkSupport.AREA);
+        }
+    }
+
+    @Benchmark
+    public Polygon polygon() {
+        return polygonGenerator.generate(random);
+    }
+
+    @Benchmark
+    public MultiPolygon multiPolygon() {
+        return multiPolygonGenerator.generate(random);
+    }
+}
@@ -4,6 +4,7 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("org.locationtech.proj4j:proj4j:1.4.1")
     implementation("org.locationtech.proj4j:proj4j-epsg:1.4.1")
 }
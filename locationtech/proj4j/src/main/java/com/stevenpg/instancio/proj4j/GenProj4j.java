@@ -51,6 +51,11 @@ public final class GenProj4j {
      *     .yRange(37.7, 37.8)
      *     .zRange(0, 500)
      *     .generate(random);
+     *
+     * // Generate realistic coordinates in UTM zone 32N
+     * ProjCoordinate[] utm = GenProj4j.projCoordinate()
+     *     .crs("EPSG:32632")
+     *     .array(10_000, random);
      * }</pre>
      *
      * @return a new ProjCoordinateGenerator with default bounds
@@ -17,23 +17,36 @@
 package com.stevenpg.instancio.proj4j.internal.generator;
 
 import com.stevenpg.instancio.proj4j.internal.generator.specs.CrsSpec;
+import com.stevenpg.instancio.proj4j.internal.generator.utility.CrsRegistry;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
-import org.locationtech.proj4j.CRSFactory;
+import org.instancio.support.DefaultRandom;
 import org.locationtech.proj4j.CoordinateReferenceSystem;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Generator for creating random {@link CoordinateReferenceSystem} instances.
  * <p>
  * By default, randomly selects from a set of common EPSG codes:
  * EPSG:4326 (WGS 84), EPSG:3857 (Web Mercator), and EPSG:32632 (UTM zone 32N).
- * Custom EPSG codes can be provided via {@link #epsgCodes(String...)}.
+ * Custom EPSG codes can be provided via {@link #epsgCodes(String...)}, or
+ * {@link #allEpsgCodes()} draws from every code in the bundled EPSG definitions.
+ * <p>
+ * Systems are resolved through a {@link CrsRegistry}, {@link CrsRegistry#shared()} unless
+ * another is set with {@link #registry(CrsRegistry)}, so each code is parsed once and
+ * generated values for the same code are the same instance.
  *
  * @since 1.0.0
  */
 public class CoordinateReferenceSystemGenerator implements Generator<CoordinateReferenceSystem>, CrsSpec<CoordinateReferenceSystemGenerator> {
 
+    private static final int MAX_ATTEMPTS = 100;
+
     private String[] epsgCodes = {"EPSG:4326", "EPSG:3857", "EPSG:32632"};
+    private boolean allEpsgCodes;
+    private CrsRegistry registry = CrsRegistry.shared();
 
     /**
      * Default constructor.
@@ -51,21 +64,51 @@ public class CoordinateReferenceSystemGenerator implements Generator<CoordinateR
     @Override
     public CoordinateReferenceSystemGenerator epsgCodes(String... codes) {
         this.epsgCodes = codes;
+        this.allEpsgCodes = false;
+        return this;
+    }
+
+    @Override
+    public CoordinateReferenceSystemGenerator allEpsgCodes() {
+        this.allEpsgCodes = true;
+        return this;
+    }
+
+    /**
+     * Sets the registry used to resolve and cache systems, for example a bounded
+     * {@code new CrsRegistry(256)}.
+     *
+     * @param registry the registry to use
+     * @return this generator instance for method chaining
+     */
+    public CoordinateReferenceSystemGenerator registry(CrsRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry must not be null");
         return this;
     }
 
     /**
      * Generates a random {@link CoordinateReferenceSystem} by selecting a random
-     * EPSG code from the configured set and resolving it via {@link CRSFactory}.
+     * EPSG code from the configured set and resolving it through the registry.
      *
      * @param random the random instance provided by Instancio
-     * @return a new CoordinateReferenceSystem for the selected EPSG code
+     * @return the CoordinateReferenceSystem for the selected EPSG code
      */
     @Override
     public CoordinateReferenceSystem generate(Random random) {
-        // Pick a random index from the available EPSG codes
-        int index = random.intRange(0, epsgCodes.length - 1);
-        String code = epsgCodes[index];
-        return new CRSFactory().createFromName(code);
+        var rnd = random == null ? new DefaultRandom() : random;
+        if (!allEpsgCodes) {
+            // Pick a random index from the available EPSG codes
+            int index = rnd.intRange(0, epsgCodes.length - 1);
+            return registry.get(epsgCodes[index]);
+        }
+
+        List<String> codes = CrsRegistry.epsgCodes();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            var crs = registry.find(codes.get(rnd.intRange(0, codes.size() - 1)));
+            if (crs.isPresent()) {
+                return crs.get();
+            }
+        }
+        throw new IllegalStateException("No supported EPSG code found after " + MAX_ATTEMPTS + " attempts");
     }
 }
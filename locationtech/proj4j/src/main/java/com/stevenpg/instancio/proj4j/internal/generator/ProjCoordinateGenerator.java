@@ -17,20 +17,40 @@
 package com.stevenpg.instancio.proj4j.internal.generator;
 
 import com.stevenpg.instancio.proj4j.internal.generator.specs.NumericRangeSpec;
+import com.stevenpg.instancio.proj4j.internal.generator.specs.ProjectedSpec;
+import com.stevenpg.instancio.proj4j.internal.generator.utility.AreaOfUse;
+import com.stevenpg.instancio.proj4j.internal.generator.utility.CrsRegistry;
+import com.stevenpg.instancio.proj4j.internal.generator.utility.TransformCache;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
+import org.locationtech.proj4j.CoordinateTransform;
+import org.locationtech.proj4j.Proj4jException;
 import org.locationtech.proj4j.ProjCoordinate;
 
+import java.util.Objects;
+
 /**
  * Generator for creating random {@link ProjCoordinate} instances.
  * <p>
  * By default, generates coordinates within standard geographic bounds:
  * x in [-180, 180], y in [-90, 90]. The z coordinate is not included
  * unless {@link #zRange(double, double)} is called.
+ * <p>
+ * With {@link #crs(String)}, geographic points are instead sampled inside the area of use
+ * of the coordinate reference system and projected into it, so coordinates in projected
+ * systems such as UTM are realistic. Points that fail to project are redrawn. Each thread
+ * reuses a cached transform ({@link TransformCache}) and source coordinate, and
+ * {@link #fill(ProjCoordinate[], Random)} writes into the caller's coordinates, so large
+ * batches allocate nothing per point.
  *
  * @since 1.0.0
  */
-public class ProjCoordinateGenerator implements Generator<ProjCoordinate>, NumericRangeSpec<ProjCoordinateGenerator> {
+public class ProjCoordinateGenerator implements Generator<ProjCoordinate>, NumericRangeSpec<ProjCoordinateGenerator>,
+        ProjectedSpec<ProjCoordinateGenerator> {
+
+    private static final int MAX_ATTEMPTS = 100;
+    private static final ThreadLocal<ProjCoordinate> SOURCE = ThreadLocal.withInitial(ProjCoordinate::new);
 
     private double minX = -180;
     private double maxX = 180;
@@ -39,6 +59,9 @@ public class ProjCoordinateGenerator implements Generator<ProjCoordinate>, Numer
     private double minZ = 0;
     private double maxZ = 0;
     private boolean useZ = false;
+    private String targetCode;
+    private AreaOfUse inputAreaOfUse;
+    private AreaOfUse areaOfUse;
 
     /**
      * Default constructor.
@@ -76,21 +99,99 @@ public class ProjCoordinateGenerator implements Generator<ProjCoordinate>, Numer
         return this;
     }
 
+    @Override
+    public ProjCoordinateGenerator crs(String code) {
+        this.targetCode = Objects.requireNonNull(code, "code must not be null");
+        this.areaOfUse = inputAreaOfUse != null ? inputAreaOfUse : AreaOfUse.of(CrsRegistry.shared().get(code));
+        return this;
+    }
+
+    @Override
+    public ProjCoordinateGenerator areaOfUse(double minLongitude, double maxLongitude, double minLatitude, double maxLatitude) {
+        this.inputAreaOfUse = new AreaOfUse(minLongitude, maxLongitude, minLatitude, maxLatitude);
+        this.areaOfUse = inputAreaOfUse;
+        return this;
+    }
+
     /**
-     * Generates a random {@link ProjCoordinate} within the configured bounds.
+     * Generates a random {@link ProjCoordinate} within the configured bounds, or inside the
+     * area of use of the configured coordinate reference system.
      *
      * @param random the random instance provided by Instancio
      * @return a new ProjCoordinate with random x, y, and optionally z values
      */
     @Override
     public ProjCoordinate generate(Random random) {
-        double x = random.doubleRange(minX, maxX);
-        double y = random.doubleRange(minY, maxY);
+        var rnd = random == null ? new DefaultRandom() : random;
+        if (targetCode != null) {
+            return project(rnd, TransformCache.fromWgs84(targetCode), SOURCE.get(), new ProjCoordinate());
+        }
+
+        double x = rnd.doubleRange(minX, maxX);
+        double y = rnd.doubleRange(minY, maxY);
 
         if (useZ) {
-            double z = random.doubleRange(minZ, maxZ);
+            double z = rnd.doubleRange(minZ, maxZ);
             return new ProjCoordinate(x, y, z);
         }
         return new ProjCoordinate(x, y);
     }
+
+    /**
+     * Fills every slot of a caller-supplied array, writing into existing coordinates and
+     * creating one only for a {@code null} slot.
+     *
+     * @param target array to fill
+     * @param random the random instance to use
+     * @return the filled array
+     */
+    public ProjCoordinate[] fill(ProjCoordinate[] target, Random random) {
+        var rnd = random == null ? new DefaultRandom() : random;
+        CoordinateTransform transform = targetCode != null ? TransformCache.fromWgs84(targetCode) : null;
+        ProjCoordinate source = SOURCE.get();
+        for (int i = 0; i < target.length; i++) {
+            var coordinate = target[i] != null ? target[i] : new ProjCoordinate();
+            if (transform != null) {
+                project(rnd, transform, source, coordinate);
+            } else {
+                coordinate.x = rnd.doubleRange(minX, maxX);
+                coordinate.y = rnd.doubleRange(minY, maxY);
+                coordinate.z = useZ ? rnd.doubleRange(minZ, maxZ) : Double.NaN;
+            }
+            target[i] = coordinate;
+        }
+        return target;
+    }
+
+    /**
+     * Generates a new array of coordinates.
+     *
+     * @param count number of coordinates, must be >= 0
+     * @param random the random instance to use
+     * @return generated coordinates
+     */
+    public ProjCoordinate[] array(int count, Random random) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        return fill(new ProjCoordinate[count], random);
+    }
+
+    private ProjCoordinate project(Random random, CoordinateTransform transform, ProjCoordinate source, ProjCoordinate target) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            source.x = random.doubleRange(areaOfUse.minLongitude(), areaOfUse.maxLongitude());
+            source.y = random.doubleRange(areaOfUse.minLatitude(), areaOfUse.maxLatitude());
+            source.z = Double.NaN;
+            try {
+                transform.transform(source, target);
+            } catch (Proj4jException e) {
+                continue;
+            }
+            if (Double.isFinite(target.x) && Double.isFinite(target.y)) {
+                target.z = useZ ? random.doubleRange(minZ, maxZ) : Double.NaN;
+                return target;
+            }
+        }
+        throw new IllegalStateException("Could not project a point into " + targetCode + " after " + MAX_ATTEMPTS + " attempts");
+    }
 }
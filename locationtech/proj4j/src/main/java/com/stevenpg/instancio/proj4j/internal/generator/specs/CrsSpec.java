@@ -33,4 +33,12 @@ public interface CrsSpec<T> {
      * @return this generator instance for method chaining
      */
     T epsgCodes(String... codes);
+
+    /**
+     * Selects from every code in the bundled EPSG definitions instead of a fixed set.
+     * Codes that Proj4J cannot resolve are skipped.
+     *
+     * @return this generator instance for method chaining
+     */
+    T allEpsgCodes();
 }
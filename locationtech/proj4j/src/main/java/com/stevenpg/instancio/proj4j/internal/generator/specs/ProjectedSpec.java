@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.specs;
+
+/**
+ * Specification for generators that sample geographic points inside the area of use of a
+ * coordinate reference system and project them into it.
+ *
+ * @param <T> the concrete generator type for fluent method chaining
+ * @since 1.0.0
+ */
+public interface ProjectedSpec<T> {
+
+    /**
+     * Projects generated coordinates into the coordinate reference system with the given code.
+     * The x and y ranges are ignored in this mode.
+     *
+     * @param code a code such as "EPSG:32632"
+     * @return this generator instance for method chaining
+     */
+    T crs(String code);
+
+    /**
+     * Sets the geographic bounds, in degrees, that points are sampled from before projection,
+     * replacing the area of use estimated from the projection.
+     *
+     * @param minLongitude the western bound
+     * @param maxLongitude the eastern bound
+     * @param minLatitude the southern bound
+     * @param maxLatitude the northern bound
+     * @return this generator instance for method chaining
+     */
+    T areaOfUse(double minLongitude, double maxLongitude, double minLatitude, double maxLatitude);
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.utility;
+
+import org.locationtech.proj4j.CoordinateReferenceSystem;
+import org.locationtech.proj4j.proj.LongLatProjection;
+import org.locationtech.proj4j.proj.MercatorProjection;
+import org.locationtech.proj4j.proj.Projection;
+import org.locationtech.proj4j.proj.TransverseMercatorProjection;
+
+/**
+ * Geographic bounds, in degrees, within which a coordinate reference system gives meaningful
+ * coordinates.
+ *
+ * @param minLongitude western bound
+ * @param maxLongitude eastern bound
+ * @param minLatitude southern bound
+ * @param maxLatitude northern bound
+ * @since 1.0.0
+ */
+public record AreaOfUse(double minLongitude, double maxLongitude, double minLatitude, double maxLatitude) {
+
+    /**
+     * The whole world.
+     */
+    public static final AreaOfUse WORLD = new AreaOfUse(-180, 180, -90, 90);
+
+    private static final double MERCATOR_MAX_LATITUDE = 85.05112878;
+    private static final double TRANSVERSE_MERCATOR_HALF_WIDTH = 3;
+    private static final double DEFAULT_HALF_WIDTH = 10;
+    private static final double UTM_MAX_NORTH = 84;
+    private static final double UTM_MAX_SOUTH = -80;
+    private static final double UTM_SOUTH_FALSE_NORTHING = 10_000_000;
+
+    /**
+     * Validates the bounds.
+     */
+    public AreaOfUse {
+        if (minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("maxLongitude must be >= minLongitude");
+        }
+        if (minLatitude > maxLatitude) {
+            throw new IllegalArgumentException("maxLatitude must be >= minLatitude");
+        }
+    }
+
+    /**
+     * Estimates the area of use from the projection, since Proj4J does not carry the EPSG
+     * extents. Geographic systems use the whole world, Mercator stops at 85.0511 degrees,
+     * transverse Mercator (UTM) spans 3 degrees either side of the central meridian in the
+     * hemisphere of its latitude of origin (or in the south for the UTM south false northing
+     * of 10,000,000 m), and anything else spans 10 degrees either side of the central meridian
+     * within the projection's latitude limits.
+     *
+     * @param crs the coordinate reference system
+     * @return estimated area of use
+     */
+    public static AreaOfUse of(CoordinateReferenceSystem crs) {
+        Projection projection = crs.getProjection();
+        if (projection instanceof LongLatProjection) {
+            return WORLD;
+        }
+        if (projection instanceof MercatorProjection) {
+            return new AreaOfUse(-180, 180, -MERCATOR_MAX_LATITUDE, MERCATOR_MAX_LATITUDE);
+        }
+
+        double centralMeridian = Math.toDegrees(projection.getProjectionLongitude());
+        if (projection instanceof TransverseMercatorProjection) {
+            // National grids often carry a small positive false northing, so only the UTM south
+            // convention or a southern latitude of origin places the system south of the equator
+            boolean south = projection.getFalseNorthing() >= UTM_SOUTH_FALSE_NORTHING
+                    || projection.getProjectionLatitude() < 0;
+            return new AreaOfUse(
+                    clampLongitude(centralMeridian - TRANSVERSE_MERCATOR_HALF_WIDTH),
+                    clampLongitude(centralMeridian + TRANSVERSE_MERCATOR_HALF_WIDTH),
+                    south ? UTM_MAX_SOUTH : 0,
+                    south ? 0 : UTM_MAX_NORTH);
+        }
+        return new AreaOfUse(
+                clampLongitude(centralMeridian - DEFAULT_HALF_WIDTH),
+                clampLongitude(centralMeridian + DEFAULT_HALF_WIDTH),
+                Math.max(-MERCATOR_MAX_LATITUDE, Math.toDegrees(projection.getMinLatitude())),
+                Math.min(MERCATOR_MAX_LATITUDE, Math.toDegrees(projection.getMaxLatitude())));
+    }
+
+    private static double clampLongitude(double longitude) {
+        return Math.max(-180, Math.min(180, longitude));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.utility;
+
+import org.locationtech.proj4j.CRSFactory;
+import org.locationtech.proj4j.CoordinateReferenceSystem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe cache of {@link CoordinateReferenceSystem} instances keyed by code.
+ * <p>
+ * {@code CRSFactory.createFromName} re-reads and parses the EPSG definition file on every call,
+ * so each code is resolved once and the same instance is handed out afterwards. A registry is
+ * unbounded by default; a registry created with a maximum size evicts the least recently used
+ * entry. {@link #shared()} is the process-wide unbounded registry used by the generators.
+ * <p>
+ * {@link #epsgCodes()} lists every code in the bundled EPSG definitions. The list is read
+ * from the classpath once, on first use.
+ *
+ * @since 1.0.0
+ */
+public final class CrsRegistry {
+
+    private static final String EPSG_DEFINITIONS = "/proj4/nad/epsg";
+
+    private static final CrsRegistry SHARED = new CrsRegistry();
+
+    private final CRSFactory factory = new CRSFactory();
+    private final Map<String, CoordinateReferenceSystem> cache;
+    private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+    private final int maxEntries;
+
+    /**
+     * Create an unbounded registry.
+     */
+    public CrsRegistry() {
+        this.cache = new ConcurrentHashMap<>();
+        this.maxEntries = 0;
+    }
+
+    /**
+     * Create a registry that keeps at most {@code maxEntries} systems, evicting the least
+     * recently used one.
+     * @param maxEntries maximum number of cached systems, must be >= 1
+     */
+    public CrsRegistry(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be >= 1");
+        }
+        this.maxEntries = maxEntries;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CoordinateReferenceSystem> eldest) {
+                return size() > CrsRegistry.this.maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the process-wide unbounded registry.
+     * @return shared registry
+     */
+    public static CrsRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Resolve the codes now so later lookups are cache hits.
+     * @param codes codes such as {@code "EPSG:4326"}
+     * @return this registry
+     */
+    public CrsRegistry preload(String... codes) {
+        for (String code : codes) {
+            get(code);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the system for a code, resolving and caching it on first use.
+     * @param code code such as {@code "EPSG:4326"}
+     * @return the coordinate reference system
+     * @throws RuntimeException the Proj4J exception if the code cannot be resolved
+     */
+    public CoordinateReferenceSystem get(String code) {
+        Objects.requireNonNull(code, "code must not be null");
+        var crs = cache.get(code);
+        if (crs == null) {
+            // Resolve outside any lock; a concurrent duplicate resolution is harmless and the first put wins
+            var created = factory.createFromName(code);
+            crs = Objects.requireNonNullElse(cache.putIfAbsent(code, created), created);
+        }
+        return crs;
+    }
+
+    /**
+     * Returns the system for a code, or empty if Proj4J cannot resolve it. Failures are
+     * remembered, so an unsupported code is only parsed once.
+     * @param code code such as {@code "EPSG:4326"}
+     * @return the coordinate reference system, if supported
+     */
+    public Optional<CoordinateReferenceSystem> find(String code) {
+        if (unsupported.contains(code)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(get(code));
+        } catch (RuntimeException e) {
+            unsupported.add(code);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the number of cached systems.
+     * @return cache size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns every code in the bundled EPSG definitions, such as {@code "EPSG:4326"}.
+     * Some codes use projections Proj4J does not support; see {@link #find(String)}.
+     * @return unmodifiable list of codes in file order
+     */
+    public static List<String> epsgCodes() {
+        return EpsgIndex.CODES;
+    }
+
+    private static final class EpsgIndex {
+        private static final List<String> CODES = read();
+
+        private static List<String> read() {
+            InputStream in = CrsRegistry.class.getResourceAsStream(EPSG_DEFINITIONS);
+            if (in == null) {
+                throw new IllegalStateException("EPSG definitions not found on the classpath: " + EPSG_DEFINITIONS);
+            }
+            var codes = new ArrayList<String>();
+            try (var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // Definition lines look like: <4326> +proj=longlat +datum=WGS84 +no_defs  <>
+                    int end = line.indexOf('>');
+                    if (line.startsWith("<") && end > 1) {
+                        codes.add("EPSG:" + line.substring(1, end).trim());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return List.copyOf(codes);
+        }
+    }
+}
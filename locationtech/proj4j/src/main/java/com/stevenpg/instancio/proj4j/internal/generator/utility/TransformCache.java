@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.utility;
+
+import org.locationtech.proj4j.CoordinateTransform;
+import org.locationtech.proj4j.CoordinateTransformFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread cache of {@link CoordinateTransform} instances from WGS 84 to a target system.
+ * <p>
+ * Proj4J transforms keep intermediate coordinates in instance fields and are not safe to share
+ * between threads, but they are expensive to build. Each thread therefore keeps its own
+ * transform per target code, built from systems in {@link CrsRegistry#shared()}.
+ *
+ * @since 1.0.0
+ */
+public final class TransformCache {
+
+    /**
+     * Code of the geographic system that sampled points are expressed in.
+     */
+    public static final String WGS84 = "EPSG:4326";
+
+    private static final CoordinateTransformFactory FACTORY = new CoordinateTransformFactory();
+    private static final ThreadLocal<Map<String, CoordinateTransform>> TRANSFORMS = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TransformCache() {
+    }
+
+    /**
+     * Returns this thread's transform from WGS 84 to the target system, creating it on first use.
+     *
+     * @param targetCode - code of the target system, such as {@code "EPSG:32632"}
+     * @return the transform, owned by the calling thread
+     */
+    public static CoordinateTransform fromWgs84(String targetCode) {
+        return TRANSFORMS.get().computeIfAbsent(targetCode, code -> {
+            var registry = CrsRegistry.shared();
+            return FACTORY.createTransform(registry.get(WGS84), registry.get(code));
+        });
+    }
+}
@@ -16,19 +16,14 @@
 
 package com.stevenpg.instancio.proj4j.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.proj4j.internal.generator.CoordinateReferenceSystemGenerator;
 import com.stevenpg.instancio.proj4j.internal.generator.ProjCoordinateGenerator;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 import org.locationtech.proj4j.CoordinateReferenceSystem;
 import org.locationtech.proj4j.ProjCoordinate;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI Provider that enables Instancio to generate Proj4J types.
  *
@@ -36,6 +31,11 @@ import java.util.Map;
  */
 public class Proj4jServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            .register(ProjCoordinate.class, new ProjCoordinateGenerator())
+            .register(CoordinateReferenceSystem.class, new CoordinateReferenceSystemGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -50,11 +50,6 @@ public class Proj4jServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> generators = new HashMap<>();
-
-        generators.put(ProjCoordinate.class, new ProjCoordinateGenerator());
-        generators.put(CoordinateReferenceSystem.class, new CoordinateReferenceSystemGenerator());
-
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
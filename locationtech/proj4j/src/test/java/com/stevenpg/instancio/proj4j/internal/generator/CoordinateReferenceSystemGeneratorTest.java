@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.proj4j.internal.generator;
 
+import com.stevenpg.instancio.proj4j.internal.generator.utility.CrsRegistry;
 import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.support.DefaultRandom;
@@ -55,4 +56,38 @@ class CoordinateReferenceSystemGeneratorTest {
         assertNotNull(crs.getName(), "CRS name should not be null");
         assertNotNull(crs.getProjection(), "CRS projection should not be null");
     }
+
+    @Test
+    void shouldReuseCachedInstances() {
+        var generator = new CoordinateReferenceSystemGenerator().epsgCodes("EPSG:3857");
+        assertSame(generator.generate(random), generator.generate(random));
+    }
+
+    @Test
+    void shouldUseConfiguredRegistry() {
+        var registry = new CrsRegistry(8);
+        var generator = new CoordinateReferenceSystemGenerator()
+                .epsgCodes("EPSG:4326", "EPSG:3857")
+                .registry(registry);
+
+        for (int i = 0; i < 20; i++) {
+            generator.generate(random);
+        }
+        assertTrue(registry.size() >= 1 && registry.size() <= 2);
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateFromAllEpsgCodes() {
+        var generator = new CoordinateReferenceSystemGenerator().allEpsgCodes();
+        for (int i = 0; i < 20; i++) {
+            var crs = generator.generate(random);
+            assertNotNull(crs);
+            assertTrue(CrsRegistry.epsgCodes().contains(crs.getName()), crs.getName());
+        }
+    }
+
+    @Test
+    void shouldGenerateWithNullRandom() {
+        assertNotNull(new CoordinateReferenceSystemGenerator().generate(null));
+    }
 }
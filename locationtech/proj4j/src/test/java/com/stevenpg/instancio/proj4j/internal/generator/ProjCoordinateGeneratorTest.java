@@ -21,8 +21,12 @@ import org.instancio.Random;
 import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.locationtech.proj4j.CRSFactory;
+import org.locationtech.proj4j.CoordinateTransformFactory;
 import org.locationtech.proj4j.ProjCoordinate;
 
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ProjCoordinateGeneratorTest {
@@ -75,4 +79,90 @@ class ProjCoordinateGeneratorTest {
         assertTrue(coordinate.y >= -90 && coordinate.y <= 90,
                 "y should be within [-90, 90] but was " + coordinate.y);
     }
+
+    @RepeatedTest(5)
+    void shouldProjectIntoUtmZone() {
+        var coordinates = new ProjCoordinateGenerator().crs("EPSG:32632").array(1_000, random);
+
+        for (ProjCoordinate c : coordinates) {
+            assertTrue(c.x > 160_000 && c.x < 840_000, "easting out of zone: " + c.x);
+            assertTrue(c.y >= 0 && c.y < 9_400_000, "northing out of zone: " + c.y);
+        }
+    }
+
+    @Test
+    void shouldProjectIntoSouthernUtmZone() {
+        var coordinates = new ProjCoordinateGenerator().crs("EPSG:32732").array(500, random);
+
+        for (ProjCoordinate c : coordinates) {
+            assertTrue(c.y > 1_000_000 && c.y <= 10_000_000, "northing out of zone: " + c.y);
+        }
+    }
+
+    @Test
+    void shouldRoundTripIntoAreaOfUse() {
+        var factory = new CRSFactory();
+        var inverse = new CoordinateTransformFactory()
+                .createTransform(factory.createFromName("EPSG:32632"), factory.createFromName("EPSG:4326"));
+        var coordinates = new ProjCoordinateGenerator().crs("EPSG:32632").array(200, random);
+
+        for (ProjCoordinate c : coordinates) {
+            var lonLat = inverse.transform(c, new ProjCoordinate());
+            assertEquals(9, lonLat.x, 3.0001);
+            assertTrue(lonLat.y >= -0.0001 && lonLat.y <= 84.0001);
+        }
+    }
+
+    @Test
+    void shouldProjectIntoWebMercator() {
+        var coordinates = new ProjCoordinateGenerator().crs("EPSG:3857").array(500, random);
+
+        for (ProjCoordinate c : coordinates) {
+            assertTrue(Math.abs(c.x) <= 20_037_509);
+            assertTrue(Math.abs(c.y) <= 20_037_509);
+        }
+    }
+
+    @Test
+    void shouldSampleExplicitAreaOfUse() {
+        var coordinates = new ProjCoordinateGenerator()
+                .areaOfUse(10, 11, 50, 51)
+                .crs("EPSG:4326")
+                .zRange(0, 10)
+                .array(200, random);
+
+        for (ProjCoordinate c : coordinates) {
+            assertTrue(c.x >= 10 && c.x <= 11);
+            assertTrue(c.y >= 50 && c.y <= 51);
+            assertTrue(c.z >= 0 && c.z <= 10);
+        }
+    }
+
+    @Test
+    void shouldFillCallerCoordinates() {
+        var target = new ProjCoordinate[]{new ProjCoordinate(), null, new ProjCoordinate()};
+        var first = target[0];
+        var result = new ProjCoordinateGenerator().crs("EPSG:32632").fill(target, random);
+
+        assertSame(target, result);
+        assertSame(first, result[0]);
+        assertNotNull(result[1]);
+        assertTrue(result[2].x > 160_000);
+    }
+
+    @Test
+    void shouldProjectFromManyThreads() {
+        var generator = new ProjCoordinateGenerator().crs("EPSG:32632");
+        IntStream.range(0, 8).parallel().forEach(i -> {
+            for (ProjCoordinate c : generator.array(500, new DefaultRandom())) {
+                assertTrue(c.x > 160_000 && c.x < 840_000);
+            }
+        });
+    }
+
+    @Test
+    void shouldRejectNegativeCount() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> new ProjCoordinateGenerator().array(-1, random));
+        assertEquals("count must be >= 0", ex.getMessage());
+    }
 }
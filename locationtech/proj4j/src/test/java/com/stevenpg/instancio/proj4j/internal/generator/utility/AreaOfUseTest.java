@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AreaOfUseTest {
+
+    private final CrsRegistry registry = CrsRegistry.shared();
+
+    @Test
+    void shouldUseWholeWorldForGeographicSystems() {
+        assertEquals(AreaOfUse.WORLD, AreaOfUse.of(registry.get("EPSG:4326")));
+    }
+
+    @Test
+    void shouldStopMercatorShortOfThePoles() {
+        var area = AreaOfUse.of(registry.get("EPSG:3857"));
+        assertEquals(-180, area.minLongitude());
+        assertEquals(180, area.maxLongitude());
+        assertEquals(85.0511, area.maxLatitude(), 1e-4);
+    }
+
+    @Test
+    void shouldUseUtmZoneBounds() {
+        var north = AreaOfUse.of(registry.get("EPSG:32632"));
+        assertEquals(6, north.minLongitude(), 1e-9);
+        assertEquals(12, north.maxLongitude(), 1e-9);
+        assertEquals(0, north.minLatitude());
+        assertEquals(84, north.maxLatitude());
+
+        var south = AreaOfUse.of(registry.get("EPSG:32732"));
+        assertEquals(-80, south.minLatitude());
+        assertEquals(0, south.maxLatitude());
+    }
+
+    @Test
+    void shouldKeepNorthernTransverseMercatorWithFalseNorthingInTheNorth() {
+        // Israeli TM Grid, y_0=626907.39
+        var area = AreaOfUse.of(registry.get("EPSG:2039"));
+        assertEquals(32.2045, area.minLongitude(), 1e-4);
+        assertEquals(38.2045, area.maxLongitude(), 1e-4);
+        assertEquals(0, area.minLatitude());
+        assertEquals(84, area.maxLatitude());
+    }
+
+    @Test
+    void shouldRejectInvertedBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AreaOfUse(10, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AreaOfUse(0, 1, 10, 0));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.utility;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.proj4j.CoordinateReferenceSystem;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrsRegistryTest {
+
+    @Test
+    void shouldCacheByCode() {
+        var registry = new CrsRegistry();
+        var first = registry.get("EPSG:4326");
+
+        assertEquals("EPSG:4326", first.getName());
+        assertSame(first, registry.get("EPSG:4326"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void shouldShareAcrossThreads() {
+        var registry = new CrsRegistry();
+        var instances = ConcurrentHashMap.<CoordinateReferenceSystem>newKeySet();
+        IntStream.range(0, 64).parallel().forEach(i -> instances.add(registry.get("EPSG:3857")));
+        assertEquals(1, instances.size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        var registry = new CrsRegistry(2);
+        var wgs84 = registry.get("EPSG:4326");
+        var mercator = registry.get("EPSG:3857");
+        registry.get("EPSG:4326"); // EPSG:3857 is now least recently used
+        registry.get("EPSG:32632");
+
+        assertEquals(2, registry.size());
+        assertSame(wgs84, registry.get("EPSG:4326"));
+        assertNotSame(mercator, registry.get("EPSG:3857"));
+    }
+
+    @Test
+    void shouldPreloadCodes() {
+        var registry = new CrsRegistry().preload("EPSG:4326", "EPSG:3857", "EPSG:32632");
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    void shouldReturnEmptyForUnsupportedCode() {
+        var registry = new CrsRegistry();
+        assertTrue(registry.find("EPSG:999999999").isEmpty());
+        assertTrue(registry.find("EPSG:999999999").isEmpty());
+        assertTrue(registry.find("EPSG:4326").isPresent());
+    }
+
+    @Test
+    void shouldListBundledEpsgCodes() {
+        var codes = CrsRegistry.epsgCodes();
+
+        assertTrue(codes.size() > 1_000, "expected the full EPSG registry but found " + codes.size());
+        assertTrue(codes.contains("EPSG:4326"));
+        assertTrue(codes.contains("EPSG:32632"));
+        assertSame(codes, CrsRegistry.epsgCodes());
+    }
+
+    @Test
+    void shouldShareDefaultRegistry() {
+        assertSame(CrsRegistry.shared(), CrsRegistry.shared());
+    }
+
+    @Test
+    void shouldRejectInvalidMaxEntries() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> new CrsRegistry(0));
+        assertEquals("maxEntries must be >= 1", ex.getMessage());
+    }
+}
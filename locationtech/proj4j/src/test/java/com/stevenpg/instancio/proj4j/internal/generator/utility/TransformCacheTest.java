@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.proj4j.internal.generator.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransformCacheTest {
+
+    @Test
+    void shouldReuseTransformOnSameThread() {
+        assertSame(TransformCache.fromWgs84("EPSG:32632"), TransformCache.fromWgs84("EPSG:32632"));
+        assertNotSame(TransformCache.fromWgs84("EPSG:32632"), TransformCache.fromWgs84("EPSG:3857"));
+    }
+
+    @Test
+    void shouldUseSeparateTransformPerThread() {
+        var here = TransformCache.fromWgs84("EPSG:32632");
+        var there = CompletableFuture.supplyAsync(() -> TransformCache.fromWgs84("EPSG:32632")).join();
+        assertNotSame(here, there);
+    }
+}
@@ -4,5 +4,6 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("org.locationtech.spatial4j:spatial4j:0.8")
 }
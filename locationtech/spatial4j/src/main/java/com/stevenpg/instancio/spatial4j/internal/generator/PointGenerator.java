@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.spatial4j.internal.generator;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import com.stevenpg.instancio.spatial4j.internal.generator.specs.NumericRangeSpec;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
@@ -34,10 +35,7 @@ import org.locationtech.spatial4j.shape.Point;
  */
 public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointGenerator> {
 
-    private double minX = -180;
-    private double maxX = 180;
-    private double minY = -90;
-    private double maxY = 90;
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
 
     /**
      * Default constructor.
@@ -48,22 +46,20 @@ public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointG
 
     @Override
     public PointGenerator xRange(double minX, double maxX) {
-        this.minX = minX;
-        this.maxX = maxX;
+        this.kernel = kernel.withXRange(minX, maxX);
         return this;
     }
 
     @Override
     public PointGenerator yRange(double minY, double maxY) {
-        this.minY = minY;
-        this.maxY = maxY;
+        this.kernel = kernel.withYRange(minY, maxY);
         return this;
     }
 
     @Override
     public Point generate(Random random) {
-        double x = random.doubleRange(minX, maxX);
-        double y = random.doubleRange(minY, maxY);
+        double x = kernel.x(random);
+        double y = kernel.y(random);
         return SpatialContext.GEO.getShapeFactory().pointXY(x, y);
     }
 }
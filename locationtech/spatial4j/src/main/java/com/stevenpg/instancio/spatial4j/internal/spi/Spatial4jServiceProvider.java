@@ -16,23 +16,19 @@
 
 package com.stevenpg.instancio.spatial4j.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.spatial4j.internal.generator.CircleGenerator;
 import com.stevenpg.instancio.spatial4j.internal.generator.PointGenerator;
 import com.stevenpg.instancio.spatial4j.internal.generator.RectangleGenerator;
 import com.stevenpg.instancio.spatial4j.internal.generator.ShapeCollectionGenerator;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 import org.locationtech.spatial4j.shape.Circle;
 import org.locationtech.spatial4j.shape.Point;
 import org.locationtech.spatial4j.shape.Rectangle;
+import org.locationtech.spatial4j.shape.Shape;
 import org.locationtech.spatial4j.shape.ShapeCollection;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI Provider that enables Instancio to generate Spatial4j shapes.
  *
@@ -44,6 +40,13 @@ import java.util.Map;
  */
 public class Spatial4jServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            .register(Point.class, new PointGenerator(), Shape.class)
+            .register(Rectangle.class, new RectangleGenerator())
+            .register(Circle.class, new CircleGenerator())
+            .register(ShapeCollection.class, new ShapeCollectionGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -58,12 +61,6 @@ public class Spatial4jServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> generators = new HashMap<>();
-        generators.put(Point.class, new PointGenerator());
-        generators.put(Rectangle.class, new RectangleGenerator());
-        generators.put(Circle.class, new CircleGenerator());
-        generators.put(ShapeCollection.class, new ShapeCollectionGenerator());
-
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
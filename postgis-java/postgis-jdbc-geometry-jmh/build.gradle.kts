@@ -0,0 +1,10 @@
+plugins {
+    id("java-instancio-gis-library")
+    id("java-jmh-conventions")
+}
+
+dependencies {
+    implementation(project(":postgis-java-jdbc-geometry"))
+    implementation("net.postgis:postgis-geometry:2025.1.1")
+    implementation("net.postgis:postgis-jdbc:2025.1.1")
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.postgis.geometry.jmh;
+
+import com.stevenpg.instancio.postgis.geometry.GenPostgisGeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.LineStringGenerator;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.PointGenerator;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.PolygonGenerator;
+import net.postgis.jdbc.PGgeometry;
+import net.postgis.jdbc.geometry.Geometry;
+import net.postgis.jdbc.geometry.LineString;
+import net.postgis.jdbc.geometry.Point;
+import net.postgis.jdbc.geometry.Polygon;
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generators, which build PostGIS geometries directly from {@link Point} arrays,
+ * against formatting the same coordinates as WKT and parsing them back with {@link PGgeometry}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirectConstructionBenchmark {
+
+    /**
+     * Fixed seed so every fork draws the same sequence of values.
+     */
+    private static final long SEED = 20250101L;
+
+    @Param({"4", "64", "1024"})
+    private int vertices;
+
+    private Random random;
+    private PointGenerator points;
+    private LineStringGenerator lineStrings;
+    private PolygonGenerator polygons;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new DefaultRandom(SEED);
+        points = GenPostgisGeometry.point();
+        lineStrings = GenPostgisGeometry.lineString().pointsRange(vertices, vertices);
+        polygons = GenPostgisGeometry.polygon().pointsRange(vertices, vertices);
+    }
+
+    @Benchmark
+    public Point pointDirect() {
+        return points.generate(random);
+    }
+
+    @Benchmark
+    public Geometry pointWkt() throws SQLException {
+        StringBuilder sb = new StringBuilder("POINT(");
+        appendXY(sb);
+        return parse(sb.append(')'));
+    }
+
+    @Benchmark
+    public LineString lineStringDirect() {
+        return lineStrings.generate(random);
+    }
+
+    @Benchmark
+    public Geometry lineStringWkt() throws SQLException {
+        StringBuilder sb = new StringBuilder("LINESTRING(");
+        for (int i = 0; i < vertices; i++) {
+            if (i > 0) sb.append(", ");
+            appendXY(sb);
+        }
+        return parse(sb.append(')'));
+    }
+
+    @Benchmark
+    public Polygon polygonDirect() {
+        return polygons.generate(random);
+    }
+
+    @Benchmark
+    public Geometry polygonWkt() throws SQLException {
+        StringBuilder sb = new StringBuilder("POLYGON((");
+        double fx = 0;
+        double fy = 0;
+        for (int i = 0; i < vertices; i++) {
+            double x = random.doubleRange(-180, 180);
+            double y = random.doubleRange(-90, 90);
+            if (i == 0) { fx = x; fy = y; }
+            if (i > 0) sb.append(", ");
+            sb.append(x).append(' ').append(y);
+        }
+        return parse(sb.append(", ").append(fx).append(' ').append(fy).append("))"));
+    }
+
+    private void appendXY(StringBuilder sb) {
+        sb.append(random.doubleRange(-180, 180)).append(' ').append(random.doubleRange(-90, 90));
+    }
+
+    private static Geometry parse(StringBuilder wkt) throws SQLException {
+        return PGgeometry.geomFromString(wkt.toString());
+    }
+}
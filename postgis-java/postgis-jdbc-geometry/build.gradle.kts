@@ -4,7 +4,8 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("net.postgis:postgis-geometry:2025.1.1")
-    // Use PGgeometry WKT parsing for convenience
+    // PGgeometry wrapper type
     implementation("net.postgis:postgis-jdbc:2025.1.1")
 }
\ No newline at end of file
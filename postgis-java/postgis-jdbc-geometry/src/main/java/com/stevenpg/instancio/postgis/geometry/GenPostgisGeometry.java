@@ -17,6 +17,9 @@
 package com.stevenpg.instancio.postgis.geometry;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.*;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.copy.CopyBinaryWriter;
+import net.postgis.jdbc.geometry.Geometry;
+import org.instancio.generator.Generator;
 
 /**
  * Facade for accessing PostGIS JDBC geometry type generators.
@@ -153,6 +156,35 @@ public final class GenPostgisGeometry {
         return new PGgeometryGenerator();
     }
 
+    /**
+     * Stream {@code rows} values of a generator as a PostgreSQL binary COPY payload.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * // Load a million polygons with COPY places (geom) FROM STDIN (FORMAT binary)
+     * GenPostgisGeometry.copyBinary(GenPostgisGeometry.polygon().srid(4326), 1_000_000)
+     *     .writeTo(outputStream, random);
+     * }</pre>
+     *
+     * @param generator the configured generator producing one geometry per row
+     * @param rows number of rows to write
+     * @return writer
+     */
+    public static CopyBinaryWriter copyBinary(Generator<? extends Geometry> generator, long rows) {
+        return new CopyBinaryWriter(generator, rows);
+    }
+
+    /**
+     * Stream {@code rows} values of a {@link net.postgis.jdbc.PGgeometry} generator as a PostgreSQL
+     * binary COPY payload.
+     * @param generator the configured generator producing one geometry per row
+     * @param rows number of rows to write
+     * @return writer
+     */
+    public static CopyBinaryWriter copyBinary(PGgeometryGenerator generator, long rows) {
+        return new CopyBinaryWriter(random -> generator.generate(random).getGeometry(), rows);
+    }
+
     private GenPostgisGeometry() {
         // private constructor to prevent instantiation
     }
@@ -17,14 +17,17 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
+import net.postgis.jdbc.geometry.Geometry;
 import net.postgis.jdbc.geometry.GeometryCollection;
+import net.postgis.jdbc.geometry.LineString;
+import net.postgis.jdbc.geometry.Point;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.GeometryCollection using WKT. */
+/** Generator for net.postgis.jdbc.geometry.GeometryCollection built directly from its member geometries. */
 public class GeometryCollectionGenerator implements Generator<GeometryCollection>, NumericRangeSpec<GeometryCollectionGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -47,19 +50,8 @@ public class GeometryCollectionGenerator implements Generator<GeometryCollection
     @Override
     public GeometryCollection generate(Random random) {
         // Simpler implementation just combining a Point and a LineString
-        double x1 = random.doubleRange(minX, maxX);
-        double y1 = random.doubleRange(minY, maxY);
-        double x2 = random.doubleRange(minX, maxX);
-        double y2 = random.doubleRange(minY, maxY);
-        double x3 = random.doubleRange(minX, maxX);
-        double y3 = random.doubleRange(minY, maxY);
-        
-        String wkt = String.format("GEOMETRYCOLLECTION(POINT(%f %f), LINESTRING(%f %f, %f %f))", x1, y1, x2, y2, x3, y3);
-        
-        try {
-            return (GeometryCollection) new PGgeometry(wkt).getGeometry();
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to GeometryCollection", e);
-        }
+        Point point = PointUtility.randomPoint(random, minX, maxX, minY, maxY);
+        LineString line = new LineString(PointUtility.randomPoints(random, 2, minX, maxX, minY, maxY));
+        return new GeometryCollection(new Geometry[]{point, line});
     }
 }
@@ -17,14 +17,22 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
 import net.postgis.jdbc.geometry.Geometry;
+import net.postgis.jdbc.geometry.GeometryCollection;
+import net.postgis.jdbc.geometry.LineString;
+import net.postgis.jdbc.geometry.LinearRing;
+import net.postgis.jdbc.geometry.MultiLineString;
+import net.postgis.jdbc.geometry.MultiPoint;
+import net.postgis.jdbc.geometry.MultiPolygon;
+import net.postgis.jdbc.geometry.Point;
+import net.postgis.jdbc.geometry.Polygon;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator that returns a random org.postgis Geometry subtype using WKT parsing. */
+/** Generator that returns a random org.postgis Geometry subtype built directly from Point arrays. */
 public class GeometryGenerator implements Generator<Geometry>, NumericRangeSpec<GeometryGenerator> {
 
     private double minX = -180d;
@@ -52,7 +60,7 @@ public class GeometryGenerator implements Generator<Geometry>, NumericRangeSpec<
 
     @Override
     public GeometryGenerator zRange(double minZ, double maxZ) {
-        // Z not supported in random WKT generation for now to keep it simple,
+        // Z not supported in random geometry generation for now to keep it simple,
         // but we could add it if needed.
         return this;
     }
@@ -66,115 +74,60 @@ public class GeometryGenerator implements Generator<Geometry>, NumericRangeSpec<
     @Override
     public Geometry generate(Random random) {
         int pick = random.intRange(0, 6); // 0..6 (POINT, LINESTRING, POLYGON, MULTIPOINT, MULTILINESTRING, MULTIPOLYGON, GEOMETRYCOLLECTION)
-        String wkt = switch (pick) {
-            case 0 -> pointWkt(random);
-            case 1 -> lineStringWkt(random);
-            case 2 -> polygonWkt(random);
-            case 3 -> multiPointWkt(random);
-            case 4 -> multiLineStringWkt(random);
-            case 5 -> multiPolygonWkt(random);
-            default -> geometryCollectionWkt(random);
+        Geometry geom = switch (pick) {
+            case 0 -> point(random);
+            case 1 -> lineString(random);
+            case 2 -> polygon(random);
+            case 3 -> multiPoint(random);
+            case 4 -> multiLineString(random);
+            case 5 -> multiPolygon(random);
+            default -> geometryCollection(random);
         };
-        try {
-            Geometry geom = new PGgeometry(wkt).getGeometry();
-            if (srid != 0) {
-                geom.setSrid(srid);
-            }
-            return geom;
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to Geometry", e);
+        if (srid != 0) {
+            geom.setSrid(srid);
         }
+        return geom;
     }
 
-    private double rx(Random r, double a, double b) { return r.doubleRange(a, b); }
-
-    private String pointWkt(Random r) {
-        double x = rx(r, minX, maxX);
-        double y = rx(r, minY, maxY);
-        return String.format("POINT(%f %f)", x, y);
+    private Point point(Random r) {
+        return PointUtility.randomPoint(r, minX, maxX, minY, maxY);
     }
 
-    private String lineStringWkt(Random r) {
+    private LineString lineString(Random r) {
         int n = r.intRange(2, 5);
-        StringBuilder sb = new StringBuilder("LINESTRING(");
-        for (int i = 0; i < n; i++) {
-            if (i > 0) sb.append(", ");
-            sb.append(rx(r, minX, maxX)).append(' ').append(rx(r, minY, maxY));
-        }
-        sb.append(')');
-        return sb.toString();
+        return new LineString(PointUtility.randomPoints(r, n, minX, maxX, minY, maxY));
     }
 
-    private String polygonWkt(Random r) {
+    private Polygon polygon(Random r) {
         int n = r.intRange(3, 7);
-        StringBuilder sb = new StringBuilder("POLYGON((");
-        double fx = 0;
-        double fy = 0;
-        for (int i = 0; i < n; i++) {
-            double x = rx(r, minX, maxX);
-            double y = rx(r, minY, maxY);
-            if (i == 0) { fx = x; fy = y; }
-            if (i > 0) sb.append(", ");
-            sb.append(x).append(' ').append(y);
-        }
-        sb.append(", ").append(fx).append(' ').append(fy).append("))");
-        return sb.toString();
+        LinearRing shell = new LinearRing(PointUtility.randomRing(r, n, minX, maxX, minY, maxY));
+        return new Polygon(new LinearRing[]{shell});
     }
 
-    private String multiPointWkt(Random r) {
+    private MultiPoint multiPoint(Random r) {
         int n = r.intRange(1, 5);
-        StringBuilder sb = new StringBuilder("MULTIPOINT(");
-        for (int i = 0; i < n; i++) {
-            if (i > 0) sb.append(", ");
-            sb.append('(').append(rx(r, minX, maxX)).append(' ').append(rx(r, minY, maxY)).append(')');
-        }
-        sb.append(')');
-        return sb.toString();
+        return new MultiPoint(PointUtility.randomPoints(r, n, minX, maxX, minY, maxY));
     }
 
-    private String multiLineStringWkt(Random r) {
+    private MultiLineString multiLineString(Random r) {
         int m = r.intRange(1, 3);
-        StringBuilder sb = new StringBuilder("MULTILINESTRING(");
+        LineString[] lines = new LineString[m];
         for (int j = 0; j < m; j++) {
-            if (j > 0) sb.append(", ");
-            int n = r.intRange(2, 5);
-            sb.append('(');
-            for (int i = 0; i < n; i++) {
-                if (i > 0) sb.append(", ");
-                sb.append(rx(r, minX, maxX)).append(' ').append(rx(r, minY, maxY));
-            }
-            sb.append(')');
+            lines[j] = lineString(r);
         }
-        sb.append(')');
-        return sb.toString();
+        return new MultiLineString(lines);
     }
 
-    private String multiPolygonWkt(Random r) {
+    private MultiPolygon multiPolygon(Random r) {
         int m = r.intRange(1, 3);
-        StringBuilder sb = new StringBuilder("MULTIPOLYGON(");
+        Polygon[] polygons = new Polygon[m];
         for (int k = 0; k < m; k++) {
-            if (k > 0) sb.append(", ");
-            int n = r.intRange(3, 7);
-            sb.append("((");
-            double fx = 0;
-            double fy = 0;
-            for (int i = 0; i < n; i++) {
-                double x = rx(r, minX, maxX);
-                double y = rx(r, minY, maxY);
-                if (i == 0) { fx = x; fy = y; }
-                if (i > 0) sb.append(", ");
-                sb.append(x).append(' ').append(y);
-            }
-            sb.append(", ").append(fx).append(' ').append(fy).append(")")
-              .append(")");
+            polygons[k] = polygon(r);
         }
-        sb.append(')');
-        return sb.toString();
+        return new MultiPolygon(polygons);
     }
 
-    private String geometryCollectionWkt(Random r) {
-        String p = pointWkt(r);
-        String l = lineStringWkt(r);
-        return "GEOMETRYCOLLECTION(" + p + ", " + l + ")";
+    private GeometryCollection geometryCollection(Random r) {
+        return new GeometryCollection(new Geometry[]{point(r), lineString(r)});
     }
 }
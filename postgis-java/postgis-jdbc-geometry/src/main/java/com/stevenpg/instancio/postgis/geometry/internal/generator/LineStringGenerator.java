@@ -17,14 +17,14 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
 import net.postgis.jdbc.geometry.LineString;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.LineString using WKT. */
+/** Generator for net.postgis.jdbc.geometry.LineString built directly from a Point array. */
 public class LineStringGenerator implements Generator<LineString>, NumericRangeSpec<LineStringGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -62,22 +62,10 @@ public class LineStringGenerator implements Generator<LineString>, NumericRangeS
     @Override
     public LineString generate(Random random) {
         int n = random.intRange(minPoints, maxPoints);
-        StringBuilder sb = new StringBuilder("LINESTRING(");
-        for (int i = 0; i < n; i++) {
-            if (i > 0) sb.append(", ");
-            double x = random.doubleRange(minX, maxX);
-            double y = random.doubleRange(minY, maxY);
-            sb.append(x).append(' ').append(y);
-        }
-        sb.append(')');
-        try {
-            LineString ls = (LineString) new PGgeometry(sb.toString()).getGeometry();
-            if (srid != 0) {
-                ls.setSrid(srid);
-            }
-            return ls;
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to LineString", e);
+        LineString ls = new LineString(PointUtility.randomPoints(random, n, minX, maxX, minY, maxY));
+        if (srid != 0) {
+            ls.setSrid(srid);
         }
+        return ls;
     }
 }
@@ -17,13 +17,14 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
 import net.postgis.jdbc.geometry.LinearRing;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.LinearRing using WKT. */
+/** Generator for net.postgis.jdbc.geometry.LinearRing built directly from a closed Point array. */
 public class LinearRingGenerator implements Generator<LinearRing>, NumericRangeSpec<LinearRingGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -50,23 +51,6 @@ public class LinearRingGenerator implements Generator<LinearRing>, NumericRangeS
     @Override
     public LinearRing generate(Random random) {
         int n = random.intRange(minPoints, maxPoints);
-        StringBuilder sb = new StringBuilder("LINESTRING(");
-        double fx = 0;
-        double fy = 0;
-        for (int i = 0; i < n; i++) {
-            double x = random.doubleRange(minX, maxX);
-            double y = random.doubleRange(minY, maxY);
-            if (i == 0) { fx = x; fy = y; }
-            if (i > 0) sb.append(", ");
-            sb.append(x).append(' ').append(y);
-        }
-        sb.append(", ").append(fx).append(' ').append(fy).append(')');
-        try {
-            // net.postgis.jdbc.geometry.LinearRing is a subclass of LineString
-            // In WKT it is still represented as LINESTRING or we can try to cast it
-            return new LinearRing(sb.toString());
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to parse WKT to LinearRing", e);
-        }
+        return new LinearRing(PointUtility.randomRing(random, n, minX, maxX, minY, maxY));
     }
 }
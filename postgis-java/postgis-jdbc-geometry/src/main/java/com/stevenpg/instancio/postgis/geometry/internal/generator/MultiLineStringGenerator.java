@@ -17,14 +17,15 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
+import net.postgis.jdbc.geometry.LineString;
 import net.postgis.jdbc.geometry.MultiLineString;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.MultiLineString using WKT. */
+/** Generator for net.postgis.jdbc.geometry.MultiLineString built directly from LineString arrays. */
 public class MultiLineStringGenerator implements Generator<MultiLineString>, NumericRangeSpec<MultiLineStringGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -51,24 +52,11 @@ public class MultiLineStringGenerator implements Generator<MultiLineString>, Num
     @Override
     public MultiLineString generate(Random random) {
         int m = random.intRange(minElements, maxElements);
-        StringBuilder sb = new StringBuilder("MULTILINESTRING(");
+        LineString[] lines = new LineString[m];
         for (int j = 0; j < m; j++) {
-            if (j > 0) sb.append(", ");
             int n = random.intRange(2, 5);
-            sb.append('(');
-            for (int i = 0; i < n; i++) {
-                if (i > 0) sb.append(", ");
-                double x = random.doubleRange(minX, maxX);
-                double y = random.doubleRange(minY, maxY);
-                sb.append(x).append(' ').append(y);
-            }
-            sb.append(')');
-        }
-        sb.append(')');
-        try {
-            return (MultiLineString) new PGgeometry(sb.toString()).getGeometry();
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to MultiLineString", e);
+            lines[j] = new LineString(PointUtility.randomPoints(random, n, minX, maxX, minY, maxY));
         }
+        return new MultiLineString(lines);
     }
 }
@@ -17,14 +17,14 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
 import net.postgis.jdbc.geometry.MultiPoint;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.MultiPoint using WKT. */
+/** Generator for net.postgis.jdbc.geometry.MultiPoint built directly from a Point array. */
 public class MultiPointGenerator implements Generator<MultiPoint>, NumericRangeSpec<MultiPointGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -51,18 +51,6 @@ public class MultiPointGenerator implements Generator<MultiPoint>, NumericRangeS
     @Override
     public MultiPoint generate(Random random) {
         int n = random.intRange(minElements, maxElements);
-        StringBuilder sb = new StringBuilder("MULTIPOINT(");
-        for (int i = 0; i < n; i++) {
-            if (i > 0) sb.append(", ");
-            double x = random.doubleRange(minX, maxX);
-            double y = random.doubleRange(minY, maxY);
-            sb.append('(').append(x).append(' ').append(y).append(')');
-        }
-        sb.append(')');
-        try {
-            return (MultiPoint) new PGgeometry(sb.toString()).getGeometry();
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to MultiPoint", e);
-        }
+        return new MultiPoint(PointUtility.randomPoints(random, n, minX, maxX, minY, maxY));
     }
 }
@@ -17,14 +17,16 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
+import net.postgis.jdbc.geometry.LinearRing;
 import net.postgis.jdbc.geometry.MultiPolygon;
+import net.postgis.jdbc.geometry.Polygon;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.MultiPolygon using WKT. */
+/** Generator for net.postgis.jdbc.geometry.MultiPolygon built directly from Polygon arrays. */
 public class MultiPolygonGenerator implements Generator<MultiPolygon>, NumericRangeSpec<MultiPolygonGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -51,27 +53,12 @@ public class MultiPolygonGenerator implements Generator<MultiPolygon>, NumericRa
     @Override
     public MultiPolygon generate(Random random) {
         int m = random.intRange(minElements, maxElements);
-        StringBuilder sb = new StringBuilder("MULTIPOLYGON(");
+        Polygon[] polygons = new Polygon[m];
         for (int k = 0; k < m; k++) {
-            if (k > 0) sb.append(", ");
             int n = random.intRange(3, 5);
-            sb.append("((");
-            double fx = 0;
-            double fy = 0;
-            for (int i = 0; i < n; i++) {
-                double x = random.doubleRange(minX, maxX);
-                double y = random.doubleRange(minY, maxY);
-                if (i == 0) { fx = x; fy = y; }
-                if (i > 0) sb.append(", ");
-                sb.append(x).append(' ').append(y);
-            }
-            sb.append(", ").append(fx).append(' ').append(fy).append("))");
-        }
-        sb.append(')');
-        try {
-            return (MultiPolygon) new PGgeometry(sb.toString()).getGeometry();
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to MultiPolygon", e);
+            LinearRing shell = new LinearRing(PointUtility.randomRing(random, n, minX, maxX, minY, maxY));
+            polygons[k] = new Polygon(new LinearRing[]{shell});
         }
+        return new MultiPolygon(polygons);
     }
 }
@@ -17,14 +17,13 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
 import net.postgis.jdbc.geometry.Point;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for org.postgis.Point using WKT. */
+/** Generator for net.postgis.jdbc.geometry.Point. */
 public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -67,21 +66,10 @@ public class PointGenerator implements Generator<Point>, NumericRangeSpec<PointG
         double x = random.doubleRange(minX, maxX);
         double y = random.doubleRange(minY, maxY);
 
-        String wkt;
-        if (useZ) {
-            double z = random.doubleRange(minZ, maxZ);
-            wkt = String.format("POINT(%f %f %f)", x, y, z);
-        } else {
-            wkt = String.format("POINT(%f %f)", x, y);
-        }
-        try {
-            Point p = (Point) new PGgeometry(wkt).getGeometry();
-            if (srid != 0) {
-                p.setSrid(srid);
-            }
-            return p;
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to Point", e);
+        Point p = useZ ? new Point(x, y, random.doubleRange(minZ, maxZ)) : new Point(x, y);
+        if (srid != 0) {
+            p.setSrid(srid);
         }
+        return p;
     }
 }
@@ -17,14 +17,15 @@
 package com.stevenpg.instancio.postgis.geometry.internal.generator;
 
 import com.stevenpg.instancio.postgis.geometry.internal.generator.specs.NumericRangeSpec;
-import net.postgis.jdbc.PGgeometry;
+import com.stevenpg.instancio.postgis.geometry.internal.generator.utility.PointUtility;
+import net.postgis.jdbc.geometry.LinearRing;
 import net.postgis.jdbc.geometry.Polygon;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 
-/** Generator for net.postgis.jdbc.geometry.Polygon using WKT. */
+/** Generator for net.postgis.jdbc.geometry.Polygon built directly from a closed Point array. */
 public class PolygonGenerator implements Generator<Polygon>, NumericRangeSpec<PolygonGenerator> {
     private double minX = -180d;
     private double maxX = 180d;
@@ -58,25 +59,11 @@ public class PolygonGenerator implements Generator<Polygon>, NumericRangeSpec<Po
     @Override
     public Polygon generate(Random random) {
         int n = random.intRange(minPoints, maxPoints);
-        StringBuilder sb = new StringBuilder("POLYGON((");
-        double fx = 0;
-        double fy = 0;
-        for (int i = 0; i < n; i++) {
-            double x = random.doubleRange(minX, maxX);
-            double y = random.doubleRange(minY, maxY);
-            if (i == 0) { fx = x; fy = y; }
-            if (i > 0) sb.append(", ");
-            sb.append(x).append(' ').append(y);
-        }
-        sb.append(", ").append(fx).append(' ').append(fy).append("))");
-        try {
-            Polygon poly = (Polygon) new PGgeometry(sb.toString()).getGeometry();
-            if (srid != 0) {
-                poly.setSrid(srid);
-            }
-            return poly;
-        } catch (java.sql.SQLException e) {
-            throw new IllegalStateException("Failed to parse WKT to Polygon", e);
+        LinearRing shell = new LinearRing(PointUtility.randomRing(random, n, minX, maxX, minY, maxY));
+        Polygon poly = new Polygon(new LinearRing[]{shell});
+        if (srid != 0) {
+            poly.setSrid(srid);
         }
+        return poly;
     }
 }
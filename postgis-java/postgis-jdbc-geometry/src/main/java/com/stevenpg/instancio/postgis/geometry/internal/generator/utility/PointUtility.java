@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.postgis.geometry.internal.generator.utility;
+
+import net.postgis.jdbc.geometry.Point;
+import org.instancio.Random;
+
+/**
+ * Helpers that draw {@link Point} arrays for the PostGIS geometry constructors, so geometries
+ * are assembled directly instead of being formatted as WKT and parsed back.
+ */
+public final class PointUtility {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PointUtility() {
+    }
+
+    /**
+     * Creates a random 2D point within the given ranges.
+     *
+     * @param random - the random instance to use
+     * @param minX - min X value
+     * @param maxX - max X value
+     * @param minY - min Y value
+     * @param maxY - max Y value
+     * @return a new point
+     */
+    public static Point randomPoint(Random random, double minX, double maxX, double minY, double maxY) {
+        double x = random.doubleRange(minX, maxX);
+        double y = random.doubleRange(minY, maxY);
+        return new Point(x, y);
+    }
+
+    /**
+     * Creates {@code count} random 2D points within the given ranges.
+     *
+     * @param random - the random instance to use
+     * @param count - the number of points to create
+     * @param minX - min X value
+     * @param maxX - max X value
+     * @param minY - min Y value
+     * @param maxY - max Y value
+     * @return a new array of {@code count} points
+     */
+    public static Point[] randomPoints(Random random, int count, double minX, double maxX, double minY, double maxY) {
+        Point[] points = new Point[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = randomPoint(random, minX, maxX, minY, maxY);
+        }
+        return points;
+    }
+
+    /**
+     * Creates {@code count} random 2D points followed by a copy of the first one, ready for a
+     * closed {@link net.postgis.jdbc.geometry.LinearRing}.
+     *
+     * @param random - the random instance to use
+     * @param count - the number of distinct points to create, the array holds one more
+     * @param minX - min X value
+     * @param maxX - max X value
+     * @param minY - min Y value
+     * @param maxY - max Y value
+     * @return a new array of {@code count + 1} points whose last point equals the first
+     */
+    public static Point[] randomRing(Random random, int count, double minX, double maxX, double minY, double maxY) {
+        Point[] points = new Point[count + 1];
+        for (int i = 0; i < count; i++) {
+            points[i] = randomPoint(random, minX, maxX, minY, maxY);
+        }
+        points[count] = new Point(points[0].x, points[0].y);
+        return points;
+    }
+}
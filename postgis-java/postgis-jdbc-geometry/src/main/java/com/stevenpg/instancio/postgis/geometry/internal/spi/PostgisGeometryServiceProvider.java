@@ -16,24 +16,32 @@
 
 package com.stevenpg.instancio.postgis.geometry.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.postgis.geometry.internal.generator.*;
 import net.postgis.jdbc.PGgeometry;
 import net.postgis.jdbc.geometry.*;
 import net.postgis.jdbc.geometry.Point;
 import net.postgis.jdbc.geometry.Polygon;
 import net.postgis.jdbc.geometry.LineString;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /** SPI provider for org.postgis geometry generators. */
 public class PostgisGeometryServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            .register(PGgeometry.class, new PGgeometryGenerator())
+            .register(Geometry.class, new GeometryGenerator())
+            .register(Point.class, new PointGenerator())
+            .register(LineString.class, new LineStringGenerator())
+            .register(LinearRing.class, new LinearRingGenerator())
+            .register(Polygon.class, new PolygonGenerator())
+            .register(MultiPoint.class, new MultiPointGenerator())
+            .register(MultiLineString.class, new MultiLineStringGenerator())
+            .register(MultiPolygon.class, new MultiPolygonGenerator())
+            .register(GeometryCollection.class, new GeometryCollectionGenerator())
+            .build();
+
     @Override
     public void init(ServiceProviderContext providerContext) {
         // No initialization needed
@@ -41,18 +49,7 @@ public class PostgisGeometryServiceProvider implements InstancioServiceProvider
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> map = new HashMap<>();
-        map.put(PGgeometry.class, new PGgeometryGenerator());
-        map.put(Geometry.class, new GeometryGenerator());
-        map.put(Point.class, new PointGenerator());
-        map.put(LineString.class, new LineStringGenerator());
-        map.put(LinearRing.class, new LinearRingGenerator());
-        map.put(Polygon.class, new PolygonGenerator());
-        map.put(MultiPoint.class, new MultiPointGenerator());
-        map.put(MultiLineString.class, new MultiLineStringGenerator());
-        map.put(MultiPolygon.class, new MultiPolygonGenerator());
-        map.put(GeometryCollection.class, new GeometryCollectionGenerator());
-        return (Node node, Generators gen) -> map.get(node.getTargetClass());
+        return GENERATORS;
     }
 
     @Override
@@ -120,4 +120,37 @@ class GeometryGeneratorsTest {
         Point p = Instancio.create(Point.class);
         assertNotNull(p);
     }
+
+    @Test
+    void shouldMatchWktParsedEquivalent() throws Exception {
+        var gen = new GeometryGenerator().srid(4326);
+        for (int i = 0; i < 50; i++) {
+            Geometry g = gen.generate(random);
+            assertEquals(net.postgis.jdbc.PGgeometry.geomFromString(g.toString()), g);
+        }
+    }
+
+    @Test
+    void shouldGenerateAllTypesUnderDecimalCommaLocale() {
+        java.util.Locale defaultLocale = java.util.Locale.getDefault();
+        try {
+            java.util.Locale.setDefault(java.util.Locale.GERMANY);
+            assertEquals(10.5, new GeometryCollectionGenerator().xRange(10.5, 10.5).generate(random).getPoint(0).x);
+            assertEquals(20.5, new PolygonGenerator().yRange(20.5, 20.5).generate(random).getPoint(0).y);
+            for (int i = 0; i < 20; i++) {
+                assertNotNull(new GeometryGenerator().generate(random));
+            }
+        } finally {
+            java.util.Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void shouldCloseRingsWithDistinctPoint() {
+        LinearRing ring = new LinearRingGenerator().generate(random);
+        Point first = ring.getPoint(0);
+        Point last = ring.getPoint(ring.numPoints() - 1);
+        assertEquals(first, last);
+        assertNotSame(first, last);
+    }
 }
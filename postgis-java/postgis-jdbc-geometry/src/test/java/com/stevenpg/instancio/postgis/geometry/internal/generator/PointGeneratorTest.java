@@ -86,14 +86,24 @@ class PointGeneratorTest {
     }
 
     @Test
-    void shouldThrowExceptionOnInvalidWKT() {
+    void generateUnderDecimalCommaLocale() {
         java.util.Locale defaultLocale = java.util.Locale.getDefault();
         try {
-            java.util.Locale.setDefault(java.util.Locale.FRANCE); // Uses comma as decimal separator
-            // String.format will produce "POINT(1,230000 4,560000)" which is invalid WKT
-            assertThrows(IllegalStateException.class, () -> generator.generate(random));
+            java.util.Locale.setDefault(java.util.Locale.GERMANY); // Uses comma as decimal separator
+            generator.xRange(1.23, 1.23).yRange(4.56, 4.56).zRange(7.89, 7.89);
+            Point p = generator.generate(random);
+            assertEquals(1.23, p.x);
+            assertEquals(4.56, p.y);
+            assertEquals(7.89, p.z);
         } finally {
             java.util.Locale.setDefault(defaultLocale);
         }
     }
+
+    @Test
+    void keepsFullPrecision() {
+        generator.xRange(1.0000000123, 1.0000000123);
+        Point p = generator.generate(random);
+        assertEquals(1.0000000123, p.x);
+    }
 }
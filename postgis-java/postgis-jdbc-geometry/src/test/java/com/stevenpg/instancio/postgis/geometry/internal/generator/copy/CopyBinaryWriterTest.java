@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.postgis.geometry.internal.generator.copy;
+
+import com.stevenpg.instancio.postgis.geometry.GenPostgisGeometry;
+import net.postgis.jdbc.geometry.Geometry;
+import net.postgis.jdbc.geometry.Point;
+import net.postgis.jdbc.geometry.Polygon;
+import net.postgis.jdbc.geometry.binary.BinaryParser;
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyBinaryWriterTest {
+
+    private final Random random = new DefaultRandom();
+
+    @RepeatedTest(5)
+    void writesRawEwkbRowsReadableByBinaryParser() throws IOException {
+        var out = new ByteArrayOutputStream();
+        long written = GenPostgisGeometry.copyBinary(GenPostgisGeometry.polygon().srid(4326), 100)
+                .writeTo(out, random);
+
+        assertEquals(100, written);
+        List<Geometry> rows = read(out.toByteArray(), false);
+        assertEquals(100, rows.size());
+        for (Geometry geometry : rows) {
+            assertInstanceOf(Polygon.class, geometry);
+            assertEquals(4326, geometry.getSrid());
+        }
+    }
+
+    @Test
+    void writesHexEwkbRows() throws IOException {
+        var out = new ByteArrayOutputStream();
+        GenPostgisGeometry.copyBinary(GenPostgisGeometry.point().xRange(1.5, 1.5).yRange(2.5, 2.5), 10)
+                .hex()
+                .writeTo(out, random);
+
+        List<Geometry> rows = read(out.toByteArray(), true);
+        assertEquals(10, rows.size());
+        for (Geometry geometry : rows) {
+            assertEquals(new Point(1.5, 2.5), geometry);
+        }
+    }
+
+    @Test
+    void roundTripsGeneratedValuesInBothByteOrders() throws IOException {
+        var seeded = new DefaultRandom(42L);
+        var expected = new ArrayList<Geometry>();
+        var generator = GenPostgisGeometry.geometry();
+        for (int i = 0; i < 50; i++) {
+            expected.add(generator.generate(seeded));
+        }
+
+        for (boolean bigEndian : new boolean[]{false, true}) {
+            var writer = GenPostgisGeometry.copyBinary(GenPostgisGeometry.geometry(), 50);
+            if (bigEndian) {
+                writer.bigEndian();
+            }
+            var out = new ByteArrayOutputStream();
+            writer.writeTo(out, new DefaultRandom(42L));
+            assertEquals(expected, read(out.toByteArray(), false));
+        }
+    }
+
+    @Test
+    void writesHeaderAndTrailerForZeroRows() throws IOException {
+        var out = new ByteArrayOutputStream();
+        GenPostgisGeometry.copyBinary(GenPostgisGeometry.point(), 0).writeTo(out, random);
+
+        byte[] bytes = out.toByteArray();
+        assertEquals(CopyBinaryWriter.SIGNATURE.length + 4 + 4 + 2, bytes.length);
+        assertArrayEquals(CopyBinaryWriter.SIGNATURE, Arrays.copyOf(bytes, CopyBinaryWriter.SIGNATURE.length));
+        assertTrue(read(bytes, false).isEmpty());
+    }
+
+    @Test
+    void writesNullGeometryAsSqlNull() throws IOException {
+        var out = new ByteArrayOutputStream();
+        new CopyBinaryWriter(r -> null, 3).writeTo(out, random);
+
+        var in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        in.skipNBytes(CopyBinaryWriter.SIGNATURE.length + 8);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, in.readShort());
+            assertEquals(-1, in.readInt());
+        }
+        assertEquals(-1, in.readShort());
+    }
+
+    @Test
+    void acceptsPGgeometryGenerator() throws IOException {
+        var out = new ByteArrayOutputStream();
+        GenPostgisGeometry.copyBinary(GenPostgisGeometry.pgGeometry(), 20).writeTo(out, null);
+        assertEquals(20, read(out.toByteArray(), false).size());
+    }
+
+    @Test
+    void doesNotCloseCallerStream() throws IOException {
+        var closed = new boolean[1];
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        GenPostgisGeometry.copyBinary(GenPostgisGeometry.point(), 5).writeTo(out, random);
+        assertFalse(closed[0]);
+    }
+
+    @Test
+    void rejectsNegativeRows() {
+        var writer = GenPostgisGeometry.copyBinary(GenPostgisGeometry.point(), 1);
+        var ex = assertThrows(IllegalArgumentException.class, () -> writer.rows(-1));
+        assertEquals("rows must be >= 0", ex.getMessage());
+    }
+
+    private static List<Geometry> read(byte[] payload, boolean hex) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(payload));
+        assertArrayEquals(CopyBinaryWriter.SIGNATURE, in.readNBytes(CopyBinaryWriter.SIGNATURE.length));
+        assertEquals(0, in.readInt());
+        assertEquals(0, in.readInt());
+
+        var parser = new BinaryParser();
+        var rows = new ArrayList<Geometry>();
+        short fields;
+        while ((fields = in.readShort()) != -1) {
+            assertEquals(1, fields);
+            byte[] value = in.readNBytes(in.readInt());
+            rows.add(hex ? parser.parse(new String(value, StandardCharsets.US_ASCII)) : parser.parse(value));
+        }
+        assertEquals(0, in.available());
+        return rows;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.postgis.geometry.internal.generator.utility;
+
+import net.postgis.jdbc.geometry.Point;
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointUtilityTest {
+
+    private final Random random = new DefaultRandom();
+
+    @RepeatedTest(5)
+    void randomPointsWithinRanges() {
+        Point[] points = PointUtility.randomPoints(random, 50, 10, 20, -5, 5);
+        assertEquals(50, points.length);
+        for (Point p : points) {
+            assertTrue(p.x >= 10 && p.x <= 20);
+            assertTrue(p.y >= -5 && p.y <= 5);
+            assertEquals(2, p.dimension);
+        }
+    }
+
+    @RepeatedTest(5)
+    void randomRingIsClosed() {
+        Point[] ring = PointUtility.randomRing(random, 6, -180, 180, -90, 90);
+        assertEquals(7, ring.length);
+        assertEquals(ring[0], ring[6]);
+        assertNotSame(ring[0], ring[6]);
+    }
+}
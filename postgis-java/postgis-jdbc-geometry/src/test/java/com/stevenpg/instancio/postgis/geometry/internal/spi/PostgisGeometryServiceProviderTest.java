@@ -16,12 +16,17 @@
 
 package com.stevenpg.instancio.postgis.geometry.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import net.postgis.jdbc.PGgeometry;
 import net.postgis.jdbc.geometry.*;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class PostgisGeometryServiceProviderTest {
 
@@ -69,4 +74,11 @@ class PostgisGeometryServiceProviderTest {
     void shouldAutoGeneratePGgeometry() {
         assertNotNull(Instancio.create(PGgeometry.class));
     }
+
+    @Test
+    void shouldNotClaimPostgresBaseTypes() {
+        var registry = (GeneratorRegistry) new PostgisGeometryServiceProvider().getGeneratorProvider();
+        assertNull(registry.resolve(PGobject.class));
+        assertNull(registry.resolve(PGBinaryObject.class));
+    }
 }
@@ -30,6 +30,14 @@ import com.stevenpg.instancio.postgis.jdbc.jts.internal.generator.JtsGeometryGen
  * // Generate a random JtsGeometry wrapping a JTS geometry
  * JtsGeometry jtsGeom = GenPostgisJdbcJts.jtsGeometry()
  *     .generate(random);
+ *
+ * // Generate a WGS 84 polygon column value in the NYC area
+ * JtsGeometry zone = GenPostgisJdbcJts.jtsGeometry()
+ *     .type(Polygon.class)
+ *     .within(new Envelope(-74.05, -73.90, 40.70, 40.80))
+ *     .srid(4326)
+ *     .vertices(6)
+ *     .generate(random);
  * }</pre>
  *
  * @since 1.0.0
@@ -41,8 +49,10 @@ public final class GenPostgisJdbcJts {
      *
      * <p>Example:
      * <pre>{@code
-     * // Generate a JtsGeometry for use with PostGIS JDBC
+     * // Generate a JtsGeometry line string for use with PostGIS JDBC
      * JtsGeometry geom = GenPostgisJdbcJts.jtsGeometry()
+     *     .type(LineString.class)
+     *     .srid(4326)
      *     .generate(random);
      * }</pre>
      *
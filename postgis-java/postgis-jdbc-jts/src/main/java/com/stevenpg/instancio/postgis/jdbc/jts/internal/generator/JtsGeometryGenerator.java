@@ -13,18 +13,61 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package com.stevenpg.instancio.postgis.jdbc.jts.internal.generator;
 
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.GeometryCollectionGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.LineStringGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.LinearRingGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiLineStringGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiPointGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.MultiPolygonGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PointGenerator;
+import com.stevenpg.instancio.locationtech.core.internal.generator.geom.PolygonGenerator;
+import com.stevenpg.instancio.postgis.jdbc.jts.internal.generator.specs.JtsGeometryGeneratorSpec;
 import net.postgis.jdbc.jts.JtsGeometry;
-import org.instancio.Instancio;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
-import org.locationtech.jts.geom.Geometry;
+import org.instancio.support.DefaultRandom;
+import org.locationtech.jts.geom.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Generator for {@link JtsGeometry}.
+ * <p>
+ * The wrapped geometry comes straight from the LocationTech JTS core generators using the
+ * caller's {@link Random}, rather than from a nested {@code Instancio.create} call per value.
+ * Without a {@link #type(Class)} the geometry is a random Point, LineString, LinearRing,
+ * Polygon or GeometryCollection, matching the JTS core {@code Geometry} generator.
+ *
+ * @since 1.0.0
  */
-public class JtsGeometryGenerator implements Generator<JtsGeometry> {
+public class JtsGeometryGenerator implements JtsGeometryGeneratorSpec, Generator<JtsGeometry> {
+
+    private final PointGenerator pointGenerator = new PointGenerator();
+    private final LineStringGenerator lineStringGenerator = new LineStringGenerator();
+    private final LinearRingGenerator linearRingGenerator = new LinearRingGenerator();
+    private final PolygonGenerator polygonGenerator = new PolygonGenerator();
+    private final MultiPointGenerator multiPointGenerator = new MultiPointGenerator();
+    private final MultiLineStringGenerator multiLineStringGenerator = new MultiLineStringGenerator();
+    private final MultiPolygonGenerator multiPolygonGenerator = new MultiPolygonGenerator();
+    private final GeometryCollectionGenerator geometryCollectionGenerator = new GeometryCollectionGenerator();
+    private final Map<Class<? extends Geometry>, Generator<? extends Geometry>> generatorsByType = Map.of(
+            Point.class, pointGenerator,
+            LineString.class, lineStringGenerator,
+            LinearRing.class, linearRingGenerator,
+            Polygon.class, polygonGenerator,
+            MultiPoint.class, multiPointGenerator,
+            MultiLineString.class, multiLineStringGenerator,
+            MultiPolygon.class, multiPolygonGenerator,
+            GeometryCollection.class, geometryCollectionGenerator);
+
+    private List<Generator<? extends Geometry>> generators = List.of(
+            pointGenerator, lineStringGenerator, linearRingGenerator, polygonGenerator, geometryCollectionGenerator);
+    private Integer inputSrid;
 
     /**
      * Default constructor.
@@ -33,11 +76,65 @@ public class JtsGeometryGenerator implements Generator<JtsGeometry> {
         // No custom instantiations needed
     }
 
+    @Override
+    public JtsGeometryGenerator within(Envelope validGenerationAreaEnvelope) {
+        pointGenerator.within(validGenerationAreaEnvelope);
+        lineStringGenerator.within(validGenerationAreaEnvelope);
+        linearRingGenerator.within(validGenerationAreaEnvelope);
+        polygonGenerator.within(validGenerationAreaEnvelope);
+        multiPointGenerator.within(validGenerationAreaEnvelope);
+        multiLineStringGenerator.within(validGenerationAreaEnvelope);
+        multiPolygonGenerator.within(validGenerationAreaEnvelope);
+        geometryCollectionGenerator.within(validGenerationAreaEnvelope);
+        return this;
+    }
+
+    @Override
+    public JtsGeometryGenerator srid(int srid) {
+        this.inputSrid = srid;
+        var geometryFactory = new GeometryFactory(new PrecisionModel(), srid);
+        pointGenerator.geometryFactory(geometryFactory);
+        lineStringGenerator.geometryFactory(geometryFactory);
+        linearRingGenerator.geometryFactory(geometryFactory);
+        polygonGenerator.geometryFactory(geometryFactory);
+        multiPointGenerator.geometryFactory(geometryFactory);
+        multiLineStringGenerator.geometryFactory(geometryFactory);
+        multiPolygonGenerator.geometryFactory(geometryFactory);
+        geometryCollectionGenerator.geometryFactory(geometryFactory);
+        return this;
+    }
+
+    @Override
+    public JtsGeometryGenerator type(Class<? extends Geometry> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        var generator = generatorsByType.get(type);
+        if (generator == null) {
+            throw new IllegalArgumentException("unsupported geometry type: " + type.getName());
+        }
+        this.generators = List.of(generator);
+        return this;
+    }
+
+    @Override
+    public JtsGeometryGenerator vertices(int vertices) {
+        if (vertices < 2) {
+            throw new IllegalArgumentException("vertices must be >= 2");
+        }
+        lineStringGenerator.length(vertices);
+        linearRingGenerator.length(vertices);
+        polygonGenerator.vertices(vertices);
+        return this;
+    }
+
     @Override
     public JtsGeometry generate(Random random) {
-        // This assumes LocationtechjtsCoreGeomServiceProvider is on the classpath
-        // to handle the JTS Geometry generation.
-        Geometry geom = Instancio.create(Geometry.class);
-        return new JtsGeometry(geom);
+        var rnd = random == null ? new DefaultRandom() : random;
+        var selected = generators.size() == 1 ? generators.get(0) : generators.get(rnd.intRange(0, generators.size() - 1));
+        Geometry geometry = selected.generate(rnd);
+        if (inputSrid != null && geometry.getSRID() != inputSrid) {
+            // Multi geometries built inside the collection generator use its own default factory
+            geometry.setSRID(inputSrid);
+        }
+        return new JtsGeometry(geometry);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.postgis.jdbc.jts.internal.generator.specs;
+
+import net.postgis.jdbc.jts.JtsGeometry;
+import org.instancio.generator.GeneratorSpec;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Spec for generating a {@link JtsGeometry}. The wrapped JTS geometry is produced by the
+ * LocationTech JTS core generators, so the same options apply.
+ *
+ * @since 1.0.0
+ */
+public interface JtsGeometryGeneratorSpec extends GeneratorSpec<JtsGeometry> {
+
+    /**
+     * Generate the wrapped geometry within the provided envelope.
+     * @param validGenerationAreaEnvelope envelope to generate within
+     * @return spec builder
+     */
+    JtsGeometryGeneratorSpec within(Envelope validGenerationAreaEnvelope);
+
+    /**
+     * Set the SRID of the wrapped geometry.
+     * @param srid SRID
+     * @return spec builder
+     */
+    JtsGeometryGeneratorSpec srid(int srid);
+
+    /**
+     * Restrict the wrapped geometry to a single JTS type, for example {@code Polygon.class}.
+     * @param type Point, LineString, LinearRing, Polygon, MultiPoint, MultiLineString,
+     *             MultiPolygon or GeometryCollection
+     * @return spec builder
+     */
+    JtsGeometryGeneratorSpec type(Class<? extends Geometry> type);
+
+    /**
+     * Set the number of vertices of generated line strings, rings and polygon shells.
+     * @param vertices number of vertices, must be >= 2; rings and shells use at least 3
+     * @return spec builder
+     */
+    JtsGeometryGeneratorSpec vertices(int vertices);
+}
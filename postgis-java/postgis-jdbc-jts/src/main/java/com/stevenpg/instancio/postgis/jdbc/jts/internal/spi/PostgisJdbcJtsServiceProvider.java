@@ -15,22 +15,21 @@
  */
 package com.stevenpg.instancio.postgis.jdbc.jts.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.postgis.jdbc.jts.internal.generator.JtsGeometryGenerator;
 import net.postgis.jdbc.jts.JtsGeometry;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI provider for PostGIS JTS geometry generators.
  */
 public class PostgisJdbcJtsServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            .register(JtsGeometry.class, new JtsGeometryGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -45,8 +44,6 @@ public class PostgisJdbcJtsServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> map = new HashMap<>();
-        map.put(JtsGeometry.class, new JtsGeometryGenerator());
-        return (Node node, Generators gen) -> map.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
@@ -18,9 +18,12 @@ package com.stevenpg.instancio.postgis.jdbc.jts.internal.generator;
 
 import net.postgis.jdbc.jts.JtsGeometry;
 import org.instancio.Instancio;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.*;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 class JtsGeometryGeneratorTest {
 
@@ -37,4 +40,68 @@ class JtsGeometryGeneratorTest {
         assertNotNull(jtsGeom);
         assertNotNull(jtsGeom.getGeometry());
     }
+
+    @RepeatedTest(5)
+    void shouldGenerateWithinEnvelope() {
+        var envelope = new Envelope(-74.05, -73.90, 40.70, 40.80);
+        var generator = new JtsGeometryGenerator().within(envelope);
+        for (int i = 0; i < 20; i++) {
+            Geometry geometry = generator.generate(new DefaultRandom()).getGeometry();
+            assertTrue(envelope.contains(geometry.getEnvelopeInternal()));
+        }
+    }
+
+    @RepeatedTest(5)
+    void shouldApplySrid() {
+        var generator = new JtsGeometryGenerator().srid(4326);
+        for (int i = 0; i < 20; i++) {
+            JtsGeometry jtsGeom = generator.generate(new DefaultRandom());
+            assertEquals(4326, jtsGeom.getGeometry().getSRID());
+        }
+    }
+
+    @Test
+    void shouldRestrictToType() {
+        var types = new Class<?>[]{Point.class, LineString.class, LinearRing.class, Polygon.class,
+                MultiPoint.class, MultiLineString.class, MultiPolygon.class, GeometryCollection.class};
+        for (Class<?> type : types) {
+            @SuppressWarnings("unchecked")
+            var generator = new JtsGeometryGenerator().type((Class<? extends Geometry>) type);
+            assertInstanceOf(type, generator.generate(new DefaultRandom()).getGeometry());
+        }
+    }
+
+    @Test
+    void shouldApplyVertices() {
+        var random = new DefaultRandom();
+        assertEquals(7, new JtsGeometryGenerator().type(LineString.class).vertices(7)
+                .generate(random).getGeometry().getNumPoints());
+        // Rings and shells repeat the first vertex to close
+        assertEquals(8, new JtsGeometryGenerator().type(Polygon.class).vertices(7)
+                .generate(random).getGeometry().getNumPoints());
+    }
+
+    @Test
+    void shouldUseCallersRandom() {
+        var generator = new JtsGeometryGenerator();
+        for (int i = 0; i < 10; i++) {
+            var first = generator.generate(new DefaultRandom(42L + i)).getGeometry();
+            var second = generator.generate(new DefaultRandom(42L + i)).getGeometry();
+            assertTrue(first.equalsExact(second));
+        }
+    }
+
+    @Test
+    void shouldRejectUnsupportedType() {
+        var generator = new JtsGeometryGenerator();
+        var ex = assertThrows(IllegalArgumentException.class, () -> generator.type(Geometry.class));
+        assertEquals("unsupported geometry type: org.locationtech.jts.geom.Geometry", ex.getMessage());
+    }
+
+    @Test
+    void shouldRejectTooFewVertices() {
+        var generator = new JtsGeometryGenerator();
+        var ex = assertThrows(IllegalArgumentException.class, () -> generator.vertices(1));
+        assertEquals("vertices must be >= 2", ex.getMessage());
+    }
 }
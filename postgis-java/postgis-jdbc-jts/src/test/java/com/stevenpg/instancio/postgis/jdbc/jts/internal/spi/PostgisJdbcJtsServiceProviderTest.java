@@ -16,11 +16,16 @@
 
 package com.stevenpg.instancio.postgis.jdbc.jts.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import net.postgis.jdbc.jts.JtsGeometry;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class PostgisJdbcJtsServiceProviderTest {
 
@@ -28,4 +33,11 @@ class PostgisJdbcJtsServiceProviderTest {
     void shouldAutoGenerateJtsGeometry() {
         assertNotNull(Instancio.create(JtsGeometry.class));
     }
+
+    @Test
+    void shouldNotClaimPostgresBaseTypes() {
+        var registry = (GeneratorRegistry) new PostgisJdbcJtsServiceProvider().getGeneratorProvider();
+        assertNull(registry.resolve(PGobject.class));
+        assertNull(registry.resolve(PGBinaryObject.class));
+    }
 }
@@ -4,6 +4,7 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("net.postgis:postgis-jdbc:2025.1.1")
     api("org.postgresql:postgresql:42.7.7")
 }
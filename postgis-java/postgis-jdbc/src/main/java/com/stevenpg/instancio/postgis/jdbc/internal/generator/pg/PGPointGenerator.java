@@ -15,6 +15,7 @@
  */
 package com.stevenpg.instancio.postgis.jdbc.internal.generator.pg;
 
+import com.stevenpg.instancio.common.internal.coordinate.CoordinateKernel;
 import com.stevenpg.instancio.postgis.jdbc.internal.generator.specs.NumericRangeSpec;
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
@@ -27,10 +28,7 @@ import org.postgresql.geometric.PGpoint;
  */
 public class PGPointGenerator implements Generator<PGpoint>, NumericRangeSpec<PGPointGenerator> {
 
-    private double minX = -180d;
-    private double maxX = 180d;
-    private double minY = -90d;
-    private double maxY = 90d;
+    private CoordinateKernel kernel = CoordinateKernel.WGS84;
 
     /**
      * Default constructor.
@@ -48,22 +46,20 @@ public class PGPointGenerator implements Generator<PGpoint>, NumericRangeSpec<PG
 
     @Override
     public PGPointGenerator xRange(double minX, double maxX) {
-        this.minX = minX;
-        this.maxX = maxX;
+        this.kernel = kernel.withXRange(minX, maxX);
         return this;
     }
 
     @Override
     public PGPointGenerator yRange(double minY, double maxY) {
-        this.minY = minY;
-        this.maxY = maxY;
+        this.kernel = kernel.withYRange(minY, maxY);
         return this;
     }
 
     @Override
     public PGpoint generate(final Random random) {
-        final double x = random.doubleRange(minX, maxX);
-        final double y = random.doubleRange(minY, maxY);
+        final double x = kernel.x(random);
+        final double y = kernel.y(random);
         return new PGpoint(x, y);
     }
 }
@@ -15,22 +15,31 @@
  */
 package com.stevenpg.instancio.postgis.jdbc.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.postgis.jdbc.internal.generator.pg.*;
 import net.postgis.jdbc.PGbox2d;
 import net.postgis.jdbc.PGbox3d;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 import org.postgresql.geometric.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /** SPI provider for PostGIS JDBC generators. */
 public class PostgisJdbcServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            // net.postgis.jdbc.*
+            .register(PGbox2d.class, new PGBox2dGenerator())
+            .register(PGbox3d.class, new PGBox3dGenerator())
+            // org.postgresql.geometric.*
+            .register(PGpoint.class, new PGPointGenerator())
+            .register(PGlseg.class, new PGLsegGenerator())
+            .register(PGline.class, new PGLineGenerator())
+            .register(PGpath.class, new PGPathGenerator())
+            .register(PGpolygon.class, new PGPolygonGenerator())
+            .register(PGbox.class, new PGBoxGenerator())
+            .register(PGcircle.class, new PGCircleGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -45,21 +54,6 @@ public class PostgisJdbcServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> map = new HashMap<>();
-
-        // net.postgis.jdbc.*
-        map.put(PGbox2d.class, new PGBox2dGenerator());
-        map.put(PGbox3d.class, new PGBox3dGenerator());
-
-        // org.postgresql.geometric.*
-        map.put(PGpoint.class, new PGPointGenerator());
-        map.put(PGlseg.class, new PGLsegGenerator());
-        map.put(PGline.class, new PGLineGenerator());
-        map.put(PGpath.class, new PGPathGenerator());
-        map.put(PGpolygon.class, new PGPolygonGenerator());
-        map.put(PGbox.class, new PGBoxGenerator());
-        map.put(PGcircle.class, new PGCircleGenerator());
-
-        return (Node node, Generators gen) -> map.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
@@ -16,13 +16,18 @@
 
 package com.stevenpg.instancio.postgis.jdbc.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import net.postgis.jdbc.PGbox2d;
 import net.postgis.jdbc.PGbox3d;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.postgresql.geometric.*;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class PostgisJdbcServiceProviderTest {
 
@@ -70,4 +75,11 @@ class PostgisJdbcServiceProviderTest {
     void shouldAutoGeneratePGbox3d() {
         assertNotNull(Instancio.create(PGbox3d.class));
     }
+
+    @Test
+    void shouldNotClaimPostgresBaseTypes() {
+        var registry = (GeneratorRegistry) new PostgisJdbcServiceProvider().getGeneratorProvider();
+        assertNull(registry.resolve(PGobject.class));
+        assertNull(registry.resolve(PGBinaryObject.class));
+    }
 }
@@ -7,12 +7,18 @@ pluginManagement {
 
 rootProject.name = "instancio-gis"
 
+// Shared support for every provider module
+include(":instancio-gis-common")
+project(":instancio-gis-common").projectDir = file("common")
+
 // Example Project
 include(":example")
 
 // LocationTech Modules
 include(":locationtech-core")
 project(":locationtech-core").projectDir = file("locationtech/jts/core")
+include(":locationtech-core-jmh")
+project(":locationtech-core-jmh").projectDir = file("locationtech/jts/jmh")
 
 // Future Implementations
 // PostGIS Java Modules
@@ -20,6 +26,8 @@ include(":postgis-java-jdbc")
 project(":postgis-java-jdbc").projectDir = file("postgis-java/postgis-jdbc")
 include(":postgis-java-jdbc-geometry")
 project(":postgis-java-jdbc-geometry").projectDir = file("postgis-java/postgis-jdbc-geometry")
+include(":postgis-java-jdbc-geometry-jmh")
+project(":postgis-java-jdbc-geometry-jmh").projectDir = file("postgis-java/postgis-jdbc-geometry-jmh")
 include(":postgis-java-jdbc-jts")
 project(":postgis-java-jdbc-jts").projectDir = file("postgis-java/postgis-jdbc-jts")
 
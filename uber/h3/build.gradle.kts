@@ -4,5 +4,6 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":instancio-gis-common"))
     implementation("com.uber:h3:4.4.0")
 }
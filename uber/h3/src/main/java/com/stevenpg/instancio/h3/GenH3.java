@@ -16,6 +16,7 @@
 
 package com.stevenpg.instancio.h3;
 
+import com.stevenpg.instancio.h3.internal.generator.H3CellSetGenerator;
 import com.stevenpg.instancio.h3.internal.generator.H3IndexGenerator;
 import com.stevenpg.instancio.h3.internal.generator.LatLngGenerator;
 
@@ -39,6 +40,11 @@ import com.stevenpg.instancio.h3.internal.generator.LatLngGenerator;
  *     .latRange(51.49, 51.53)
  *     .lngRange(-0.15, -0.05)
  *     .generate(random);
+ *
+ * // Generate a million resolution 9 cells as primitives
+ * long[] cells = GenH3.h3Index()
+ *     .resolution(9)
+ *     .array(1_000_000, random);
  * }</pre>
  *
  * @since 1.0.0
@@ -82,6 +88,28 @@ public final class GenH3 {
         return new H3IndexGenerator();
     }
 
+    /**
+     * Access to the Generator for contiguous sets of H3 cell indices ({@code long[]}).
+     *
+     * <p>Example:
+     * <pre>{@code
+     * // Generate a sorted, compacted delivery zone in central London
+     * long[] zone = GenH3.h3CellSet()
+     *     .resolution(9)
+     *     .latRange(51.49, 51.53)
+     *     .lngRange(-0.15, -0.05)
+     *     .polygonFill(0.01, 0.03)
+     *     .compacted()
+     *     .sorted()
+     *     .generate(random);
+     * }</pre>
+     *
+     * @return generator for H3 cell sets
+     */
+    public static H3CellSetGenerator h3CellSet() {
+        return new H3CellSetGenerator();
+    }
+
     private GenH3() {
         // private constructor to prevent instantiation
     }
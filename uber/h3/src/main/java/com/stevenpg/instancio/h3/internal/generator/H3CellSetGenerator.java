@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator;
+
+import com.stevenpg.instancio.h3.internal.generator.specs.H3CellSetSpec;
+import com.stevenpg.instancio.h3.internal.generator.utility.H3CellSampler;
+import com.stevenpg.instancio.h3.internal.generator.utility.H3Engine;
+import com.uber.h3core.H3Core;
+import com.uber.h3core.util.LatLng;
+import org.instancio.Random;
+import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generator for contiguous sets of H3 cell indices ({@code long[]}), such as
+ * delivery zones or geofences.
+ *
+ * <p>By default, each set is a k-ring ({@code gridDisk}) of distance 1 to 3 around
+ * a cell at resolution 7 drawn from the full geographic range. Alternatively, each
+ * set can fill ({@code polygonToCells}) a random star-shaped polygon. Sets can be
+ * compacted ({@code compactCells}) and sorted. A polygon smaller than a single cell
+ * yields an empty set. With {@link #cellUniform()} the origin cell, or the polygon
+ * center, is drawn uniformly over the cells at the resolution.</p>
+ *
+ * @since 1.0.0
+ */
+public class H3CellSetGenerator implements Generator<long[]>, H3CellSetSpec<H3CellSetGenerator> {
+
+    private static final int MIN_POLYGON_VERTICES = 5;
+    private static final int MAX_POLYGON_VERTICES = 12;
+
+    private double minLat = -90;
+    private double maxLat = 90;
+    private double minLng = -180;
+    private double maxLng = 180;
+    private int resolution = 7;
+    private int minK = 1;
+    private int maxK = 3;
+    private boolean polygonFill;
+    private double minRadius;
+    private double maxRadius;
+    private boolean compacted;
+    private boolean sorted;
+    private boolean cellUniform;
+
+    /**
+     * Default constructor.
+     */
+    public H3CellSetGenerator() {
+        // No custom instantiations needed
+    }
+
+    @Override
+    public H3CellSetGenerator latRange(double minLat, double maxLat) {
+        this.minLat = minLat;
+        this.maxLat = maxLat;
+        return this;
+    }
+
+    @Override
+    public H3CellSetGenerator lngRange(double minLng, double maxLng) {
+        this.minLng = minLng;
+        this.maxLng = maxLng;
+        return this;
+    }
+
+    /**
+     * Sets the H3 resolution level. Values outside the valid range (0-15)
+     * are clamped to the nearest boundary.
+     *
+     * @param resolution the desired H3 resolution
+     * @return this instance for method chaining
+     */
+    @Override
+    public H3CellSetGenerator resolution(int resolution) {
+        // Clamp resolution to the valid H3 range of 0-15
+        this.resolution = Math.max(0, Math.min(15, resolution));
+        return this;
+    }
+
+    @Override
+    public H3CellSetGenerator gridDisk(int minK, int maxK) {
+        if (minK < 0) {
+            throw new IllegalArgumentException("minK must be >= 0");
+        }
+        if (maxK < minK) {
+            throw new IllegalArgumentException("maxK must be >= minK");
+        }
+        this.minK = minK;
+        this.maxK = maxK;
+        this.polygonFill = false;
+        return this;
+    }
+
+    @Override
+    public H3CellSetGenerator polygonFill(double minRadius, double maxRadius) {
+        if (minRadius <= 0) {
+            throw new IllegalArgumentException("minRadius must be > 0");
+        }
+        if (maxRadius < minRadius) {
+            throw new IllegalArgumentException("maxRadius must be >= minRadius");
+        }
+        this.minRadius = minRadius;
+        this.maxRadius = maxRadius;
+        this.polygonFill = true;
+        return this;
+    }
+
+    @Override
+    public H3CellSetGenerator compacted() {
+        this.compacted = true;
+        return this;
+    }
+
+    @Override
+    public H3CellSetGenerator sorted() {
+        this.sorted = true;
+        return this;
+    }
+
+    @Override
+    public H3CellSetGenerator cellUniform() {
+        this.cellUniform = true;
+        return this;
+    }
+
+    @Override
+    public long[] generate(Random random) {
+        var rnd = random == null ? new DefaultRandom() : random;
+        H3Core h3 = H3Engine.get();
+
+        List<Long> cells;
+        if (cellUniform) {
+            long origin = H3CellSampler.randomCell(rnd, resolution);
+            if (polygonFill) {
+                LatLng center = h3.cellToLatLng(origin);
+                cells = h3.polygonToCells(randomPolygon(rnd, center.lat, center.lng), List.of(), resolution);
+            } else {
+                cells = h3.gridDisk(origin, rnd.intRange(minK, maxK));
+            }
+        } else {
+            double lat = rnd.doubleRange(minLat, maxLat);
+            double lng = rnd.doubleRange(minLng, maxLng);
+            cells = polygonFill
+                    ? h3.polygonToCells(randomPolygon(rnd, lat, lng), List.of(), resolution)
+                    : h3.gridDisk(h3.latLngToCell(lat, lng, resolution), rnd.intRange(minK, maxK));
+        }
+        if (compacted) {
+            cells = h3.compactCells(cells);
+        }
+
+        long[] result = new long[cells.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = cells.get(i);
+        }
+        if (sorted) {
+            Arrays.sort(result);
+        }
+        return result;
+    }
+
+    /**
+     * Builds a star-shaped polygon around the center: evenly spaced angles with jitter,
+     * each vertex at 50-100% of a random radius. Longitude offsets are widened by
+     * {@code 1 / cos(lat)} so the shape is not squashed away from the equator.
+     */
+    private List<LatLng> randomPolygon(Random random, double lat, double lng) {
+        int vertices = random.intRange(MIN_POLYGON_VERTICES, MAX_POLYGON_VERTICES);
+        double radius = random.doubleRange(minRadius, maxRadius);
+        double lngScale = 1 / Math.max(Math.cos(Math.toRadians(lat)), 0.1);
+        double step = 2 * Math.PI / vertices;
+
+        List<LatLng> shell = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            double angle = (i + random.doubleRange(0, 0.5)) * step;
+            double r = radius * random.doubleRange(0.5, 1);
+            double vertexLat = Math.max(-90, Math.min(90, lat + r * Math.sin(angle)));
+            double vertexLng = Math.max(-180, Math.min(180, lng + r * lngScale * Math.cos(angle)));
+            shell.add(new LatLng(vertexLat, vertexLng));
+        }
+        return shell;
+    }
+}
@@ -17,11 +17,14 @@
 package com.stevenpg.instancio.h3.internal.generator;
 
 import com.stevenpg.instancio.h3.internal.generator.specs.H3IndexSpec;
+import com.stevenpg.instancio.h3.internal.generator.utility.H3CellSampler;
+import com.stevenpg.instancio.h3.internal.generator.utility.H3Engine;
 import com.uber.h3core.H3Core;
 import org.instancio.Random;
 import org.instancio.generator.Generator;
+import org.instancio.support.DefaultRandom;
 
-import java.io.IOException;
+import java.util.stream.LongStream;
 
 /**
  * Generator for creating valid H3 cell index values ({@link Long}) by
@@ -36,6 +39,16 @@ import java.io.IOException;
  * <p>H3 resolution ranges from 0 (coarsest, ~4,357 km edge length)
  * to 15 (finest, ~0.5 m edge length).</p>
  *
+ * <p>Sampling uniformly in degrees over-represents cells near the poles, where
+ * cells span more degrees of longitude. {@link #cellUniform()} instead samples
+ * uniformly over the cells at the resolution with {@link H3CellSampler}.</p>
+ *
+ * <p>Degree-sampled values are computed with the shared {@link H3Engine}, while
+ * cell-uniform values are pure Java and never load the native library.
+ * {@link #fill(long[], Random)}, {@link #array(int, Random)} and
+ * {@link #stream(long, Random)} produce many cells as primitives without
+ * boxing each one.</p>
+ *
  * @since 1.0.0
  */
 public class H3IndexGenerator implements Generator<Long>, H3IndexSpec<H3IndexGenerator> {
@@ -45,6 +58,7 @@ public class H3IndexGenerator implements Generator<Long>, H3IndexSpec<H3IndexGen
     private double minLng = -180;
     private double maxLng = 180;
     private int resolution = 7;
+    private boolean cellUniform;
 
     /**
      * Default constructor.
@@ -81,15 +95,78 @@ public class H3IndexGenerator implements Generator<Long>, H3IndexSpec<H3IndexGen
         return this;
     }
 
+    @Override
+    public H3IndexGenerator cellUniform() {
+        this.cellUniform = true;
+        return this;
+    }
+
     @Override
     public Long generate(Random random) {
-        try {
-            H3Core h3 = H3Core.newInstance();
-            double lat = random.doubleRange(minLat, maxLat);
-            double lng = random.doubleRange(minLng, maxLng);
-            return h3.latLngToCell(lat, lng, resolution);
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to initialize H3Core", e);
+        var rnd = random == null ? new DefaultRandom() : random;
+        return nextCell(engine(), rnd);
+    }
+
+    /**
+     * Fills every slot of a caller-supplied array with a cell index.
+     *
+     * @param target array to fill
+     * @param random the random instance to use
+     * @return the filled array
+     */
+    public long[] fill(long[] target, Random random) {
+        var rnd = random == null ? new DefaultRandom() : random;
+        H3Core h3 = engine();
+        for (int i = 0; i < target.length; i++) {
+            target[i] = nextCell(h3, rnd);
+        }
+        return target;
+    }
+
+    /**
+     * Generates a new array of cell indices.
+     *
+     * @param count number of cells, must be &gt;= 0
+     * @param random the random instance to use
+     * @return generated cell indices
+     */
+    public long[] array(int count, Random random) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        return fill(new long[count], random);
+    }
+
+    /**
+     * Lazily generates cell indices. Values are produced as the stream is consumed.
+     *
+     * @param count number of cells, must be &gt;= 0
+     * @param random the random instance to use
+     * @return sequential stream of cell indices
+     */
+    public LongStream stream(long count, Random random) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        var rnd = random == null ? new DefaultRandom() : random;
+        H3Core h3 = engine();
+        return LongStream.generate(() -> nextCell(h3, rnd)).limit(count);
+    }
+
+    /**
+     * Resolves the shared engine only when it is needed, so cell-uniform generation
+     * never loads the native H3 library.
+     */
+    private H3Core engine() {
+        return cellUniform ? null : H3Engine.get();
+    }
+
+    private long nextCell(H3Core h3, Random random) {
+        if (cellUniform) {
+            return H3CellSampler.randomCell(random, resolution);
         }
+        double lat = random.doubleRange(minLat, maxLat);
+        double lng = random.doubleRange(minLng, maxLng);
+        return h3.latLngToCell(lat, lng, resolution);
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator.specs;
+
+/**
+ * Specification for configuring generation of contiguous sets of H3 cells,
+ * extending {@link H3IndexSpec} with the shape of the set and its output form.
+ *
+ * @param <T> the concrete type returned for method chaining
+ * @since 1.0.0
+ */
+public interface H3CellSetSpec<T> extends H3IndexSpec<T> {
+
+    /**
+     * Generates each set as a k-ring ({@code gridDisk}) around a random origin cell.
+     * This is the default, with k between 1 and 3.
+     *
+     * @param minK minimum ring distance (must be &gt;= 0)
+     * @param maxK maximum ring distance (must be &gt;= minK)
+     * @return this instance for method chaining
+     */
+    T gridDisk(int minK, int maxK);
+
+    /**
+     * Generates each set by filling ({@code polygonToCells}) a random star-shaped polygon
+     * around a random center.
+     *
+     * @param minRadius minimum polygon radius in degrees (must be &gt; 0)
+     * @param maxRadius maximum polygon radius in degrees (must be &gt;= minRadius)
+     * @return this instance for method chaining
+     */
+    T polygonFill(double minRadius, double maxRadius);
+
+    /**
+     * Compacts each set ({@code compactCells}), replacing complete groups of children
+     * with their parent cell.
+     *
+     * @return this instance for method chaining
+     */
+    T compacted();
+
+    /**
+     * Sorts each set in ascending index order.
+     *
+     * @return this instance for method chaining
+     */
+    T sorted();
+}
@@ -32,4 +32,13 @@ public interface H3IndexSpec<T> extends LatLngRangeSpec<T> {
      * @return this instance for method chaining
      */
     T resolution(int resolution);
+
+    /**
+     * Samples uniformly over the cells at the resolution instead of uniformly in degrees,
+     * so polar cells are no longer over-represented. The latitude and longitude ranges
+     * are ignored in this mode.
+     *
+     * @return this instance for method chaining
+     */
+    T cellUniform();
 }
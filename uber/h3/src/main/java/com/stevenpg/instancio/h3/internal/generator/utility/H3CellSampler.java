@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator.utility;
+
+import org.instancio.Random;
+
+/**
+ * Samples H3 cells uniformly over all cells at a resolution by assembling the 64-bit index
+ * directly from a random base cell and random child digits.
+ * <p>
+ * Every one of the 122 base cells has {@code 7^r} candidate digit strings at resolution
+ * {@code r}. Hexagon base cells accept all of them; the 12 pentagon base cells have no child
+ * in the deleted {@code K} direction, so a candidate whose first non-zero digit is 1 is
+ * rejected and redrawn. Rejection keeps the result uniform over the valid cells, and
+ * about 98% of candidates are accepted. No JNI call is needed.
+ *
+ * @since 1.0.0
+ */
+public final class H3CellSampler {
+
+    /**
+     * Number of resolution 0 base cells.
+     */
+    public static final int BASE_CELLS = 122;
+
+    private static final long CELL_MODE = 1L << 59;
+    private static final int RESOLUTION_OFFSET = 52;
+    private static final int BASE_CELL_OFFSET = 45;
+    private static final int MAX_RESOLUTION = 15;
+    private static final int DIGIT_BITS = 3;
+    private static final long UNUSED_DIGITS = (1L << (MAX_RESOLUTION * DIGIT_BITS)) - 1;
+    private static final int K_AXES_DIGIT = 1;
+
+    private static final boolean[] PENTAGON = new boolean[BASE_CELLS];
+
+    static {
+        for (int baseCell : new int[]{4, 14, 24, 38, 49, 58, 63, 72, 83, 97, 107, 117}) {
+            PENTAGON[baseCell] = true;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private H3CellSampler() {
+    }
+
+    /**
+     * Draws a cell uniformly from all cells at the resolution.
+     *
+     * @param random - the random instance to use
+     * @param resolution - the H3 resolution, 0 to 15
+     * @return a valid H3 cell index
+     */
+    public static long randomCell(Random random, int resolution) {
+        if (resolution < 0 || resolution > MAX_RESOLUTION) {
+            throw new IllegalArgumentException("resolution must be between 0 and 15");
+        }
+        while (true) {
+            int baseCell = random.intRange(0, BASE_CELLS - 1);
+            long index = CELL_MODE
+                    | ((long) resolution << RESOLUTION_OFFSET)
+                    | ((long) baseCell << BASE_CELL_OFFSET)
+                    | UNUSED_DIGITS;
+            int firstNonZeroDigit = 0;
+            for (int r = 1; r <= resolution; r++) {
+                int digit = random.intRange(0, 6);
+                if (firstNonZeroDigit == 0) {
+                    firstNonZeroDigit = digit;
+                }
+                int shift = (MAX_RESOLUTION - r) * DIGIT_BITS;
+                index = (index & ~(7L << shift)) | ((long) digit << shift);
+            }
+            if (!PENTAGON[baseCell] || firstNonZeroDigit != K_AXES_DIGIT) {
+                return index;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator.utility;
+
+import com.uber.h3core.H3Core;
+
+import java.io.IOException;
+
+/**
+ * Process-wide {@link H3Core} shared by every H3 generator.
+ * <p>
+ * {@code H3Core.newInstance()} extracts and loads the native library, which costs far more than
+ * any single H3 call. The engine is created on first use with double-checked locking on a
+ * volatile field, so later calls are a single volatile read; {@link H3Core} itself is stateless
+ * and safe to call from many threads. A failed load is not cached: every call until one succeeds
+ * retries it and throws {@link IllegalStateException}.
+ *
+ * @since 1.0.0
+ */
+public final class H3Engine {
+
+    private static volatile H3Core instance;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private H3Engine() {
+    }
+
+    /**
+     * Returns the shared engine, creating it on the first call.
+     *
+     * @return the shared H3 engine
+     * @throws IllegalStateException if the native library cannot be loaded
+     */
+    public static H3Core get() {
+        var engine = instance;
+        if (engine == null) {
+            synchronized (H3Engine.class) {
+                engine = instance;
+                if (engine == null) {
+                    engine = create();
+                    instance = engine;
+                }
+            }
+        }
+        return engine;
+    }
+
+    private static H3Core create() {
+        try {
+            return H3Core.newInstance();
+        } catch (IOException | LinkageError e) {
+            throw new IllegalStateException("Failed to initialize H3Core", e);
+        }
+    }
+}
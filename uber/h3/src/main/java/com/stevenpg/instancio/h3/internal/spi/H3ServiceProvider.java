@@ -16,17 +16,12 @@
 
 package com.stevenpg.instancio.h3.internal.spi;
 
+import com.stevenpg.instancio.common.internal.spi.GeneratorRegistry;
 import com.stevenpg.instancio.h3.internal.generator.LatLngGenerator;
 import com.uber.h3core.util.LatLng;
-import org.instancio.Node;
-import org.instancio.generator.Generator;
-import org.instancio.generators.Generators;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SPI Provider that enables Instancio to generate H3 types.
  *
@@ -38,6 +33,11 @@ import java.util.Map;
  */
 public class H3ServiceProvider implements InstancioServiceProvider {
 
+    private static final GeneratorRegistry GENERATORS = GeneratorRegistry.builder()
+            // Only register LatLng; H3IndexGenerator returns Long (a built-in type)
+            .register(LatLng.class, new LatLngGenerator())
+            .build();
+
     /**
      * Default constructor.
      */
@@ -52,11 +52,6 @@ public class H3ServiceProvider implements InstancioServiceProvider {
 
     @Override
     public GeneratorProvider getGeneratorProvider() {
-        final Map<Class<?>, Generator<?>> generators = new HashMap<>();
-
-        // Only register LatLng; H3IndexGenerator returns Long (a built-in type)
-        generators.put(LatLng.class, new LatLngGenerator());
-
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return GENERATORS;
     }
 }
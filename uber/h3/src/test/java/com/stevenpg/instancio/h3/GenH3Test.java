@@ -50,4 +50,15 @@ class GenH3Test {
         assertInstanceOf(Long.class, result);
         assertTrue(result > 0, "H3 index should be positive but was " + result);
     }
+
+    @RepeatedTest(10)
+    void h3CellSet() {
+        var generator = GenH3.h3CellSet();
+        assertNotNull(generator);
+
+        var result = generator.generate(new DefaultRandom());
+
+        assertNotNull(result);
+        assertTrue(result.length > 0, "H3 cell set should not be empty");
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator;
+
+import com.stevenpg.instancio.h3.internal.generator.utility.H3Engine;
+import com.uber.h3core.H3Core;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class H3CellSetGeneratorTest {
+
+    private final H3Core h3 = H3Engine.get();
+
+    @RepeatedTest(5)
+    void shouldGenerateGridDiskWithDefaults() {
+        long[] cells = new H3CellSetGenerator().generate(new DefaultRandom());
+
+        // A pentagon origin has five neighbours instead of six
+        assertTrue(cells.length >= 6, "k >= 1 covers at least the origin and its neighbours");
+        for (long cell : cells) {
+            assertTrue(h3.isValidCell(cell));
+            assertEquals(7, h3.getResolution(cell));
+        }
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateGridDiskOfFixedK() {
+        long[] cells = new H3CellSetGenerator()
+                .latRange(40, 41)
+                .lngRange(-74, -73)
+                .resolution(8)
+                .gridDisk(3, 3)
+                .generate(new DefaultRandom());
+
+        // 3k(k + 1) + 1 cells away from pentagons
+        assertEquals(37, cells.length);
+        assertEquals(37, Arrays.stream(cells).distinct().count());
+    }
+
+    @RepeatedTest(5)
+    void shouldGeneratePolygonFill() {
+        long[] cells = new H3CellSetGenerator()
+                .latRange(51.49, 51.53)
+                .lngRange(-0.15, -0.05)
+                .resolution(9)
+                .polygonFill(0.02, 0.04)
+                .generate(new DefaultRandom());
+
+        assertTrue(cells.length > 0);
+        for (long cell : cells) {
+            assertEquals(9, h3.getResolution(cell));
+        }
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateSortedSets() {
+        long[] cells = new H3CellSetGenerator().gridDisk(2, 5).sorted().generate(new DefaultRandom());
+
+        long[] copy = cells.clone();
+        Arrays.sort(copy);
+        assertArrayEquals(copy, cells);
+    }
+
+    @RepeatedTest(5)
+    void shouldCompactToSameCoverage() {
+        var generator = new H3CellSetGenerator()
+                .latRange(40, 41)
+                .lngRange(-74, -73)
+                .resolution(8)
+                .polygonFill(0.1, 0.2);
+        long[] plain = generator.generate(new DefaultRandom(11L));
+        long[] compact = generator.compacted().generate(new DefaultRandom(11L));
+
+        assertTrue(compact.length <= plain.length);
+        List<Long> uncompacted = h3.uncompactCells(Arrays.stream(compact).boxed().toList(), 8);
+        long[] restored = uncompacted.stream().mapToLong(Long::longValue).sorted().toArray();
+        Arrays.sort(plain);
+        assertArrayEquals(plain, restored);
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateCellUniformSets() {
+        long[] disk = new H3CellSetGenerator().resolution(6).cellUniform().generate(new DefaultRandom());
+        long[] fill = new H3CellSetGenerator().resolution(6).cellUniform().polygonFill(0.5, 1)
+                .generate(new DefaultRandom());
+
+        assertTrue(disk.length >= 6);
+        for (long cell : disk) {
+            assertEquals(6, h3.getResolution(cell));
+        }
+        for (long cell : fill) {
+            assertEquals(6, h3.getResolution(cell));
+        }
+    }
+
+    @Test
+    void shouldGenerateWithNullRandom() {
+        assertTrue(new H3CellSetGenerator().generate(null).length > 0);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        var generator = new H3CellSetGenerator();
+        assertEquals("minK must be >= 0",
+                assertThrows(IllegalArgumentException.class, () -> generator.gridDisk(-1, 2)).getMessage());
+        assertEquals("maxK must be >= minK",
+                assertThrows(IllegalArgumentException.class, () -> generator.gridDisk(3, 2)).getMessage());
+        assertEquals("minRadius must be > 0",
+                assertThrows(IllegalArgumentException.class, () -> generator.polygonFill(0, 1)).getMessage());
+        assertEquals("maxRadius must be >= minRadius",
+                assertThrows(IllegalArgumentException.class, () -> generator.polygonFill(2, 1)).getMessage());
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.stevenpg.instancio.h3.internal.generator;
 
+import com.stevenpg.instancio.h3.internal.generator.utility.H3Engine;
 import com.uber.h3core.H3Core;
 import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -58,4 +60,90 @@ class H3IndexGeneratorTest {
         assertTrue(H3Core.newInstance().isValidCell(result),
                 "Generated index within NYC area should be a valid H3 cell");
     }
+
+    @Test
+    void shouldGenerateWithNullRandom() {
+        var result = new H3IndexGenerator().generate(null);
+        assertTrue(H3Engine.get().isValidCell(result));
+    }
+
+    @RepeatedTest(5)
+    void shouldFillArrayAtResolution() {
+        var generator = new H3IndexGenerator().resolution(9).latRange(40, 41).lngRange(-74, -73);
+        long[] cells = generator.array(10_000, new DefaultRandom());
+
+        assertEquals(10_000, cells.length);
+        H3Core h3 = H3Engine.get();
+        for (long cell : cells) {
+            assertTrue(h3.isValidCell(cell));
+            assertEquals(9, h3.getResolution(cell));
+        }
+    }
+
+    @Test
+    void shouldFillCallerArray() {
+        long[] target = new long[64];
+        long[] result = new H3IndexGenerator().fill(target, new DefaultRandom());
+
+        assertSame(target, result);
+        for (long cell : result) {
+            assertTrue(H3Engine.get().isValidCell(cell));
+        }
+    }
+
+    @Test
+    void shouldStreamCells() {
+        var generator = new H3IndexGenerator().resolution(5);
+        long count = generator.stream(1_000, new DefaultRandom())
+                .filter(cell -> H3Engine.get().getResolution(cell) == 5)
+                .count();
+        assertEquals(1_000, count);
+    }
+
+    @Test
+    void shouldMatchSingleValueGenerationForSameSeed() {
+        var generator = new H3IndexGenerator().resolution(8);
+        long[] bulk = generator.array(100, new DefaultRandom(7L));
+        var random = new DefaultRandom(7L);
+        for (long cell : bulk) {
+            assertEquals(cell, generator.generate(random));
+        }
+    }
+
+    @Test
+    void shouldRejectNegativeCount() {
+        var generator = new H3IndexGenerator();
+        var ex = assertThrows(IllegalArgumentException.class, () -> generator.array(-1, new DefaultRandom()));
+        assertEquals("count must be >= 0", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> generator.stream(-1, new DefaultRandom()));
+    }
+
+    @Test
+    void shouldSampleUniformlyOverCells() {
+        H3Core h3 = H3Engine.get();
+        long[] uniform = new H3IndexGenerator().resolution(3).cellUniform().array(20_000, new DefaultRandom());
+        long[] degrees = new H3IndexGenerator().resolution(3).array(20_000, new DefaultRandom());
+
+        // Above 60 degrees lies 1 - sin(60) = 13.4% of the sphere's area but a third of its latitude range
+        assertEquals(0.134, polarFraction(h3, uniform), 0.03);
+        assertEquals(0.333, polarFraction(h3, degrees), 0.03);
+    }
+
+    @RepeatedTest(5)
+    void shouldGenerateValidCellUniformIndices() {
+        H3Core h3 = H3Engine.get();
+        var generator = new H3IndexGenerator().resolution(11).cellUniform();
+        for (long cell : generator.array(1_000, new DefaultRandom())) {
+            assertTrue(h3.isValidCell(cell));
+            assertEquals(11, h3.getResolution(cell));
+        }
+        assertTrue(h3.isValidCell(generator.generate(new DefaultRandom())));
+    }
+
+    private static double polarFraction(H3Core h3, long[] cells) {
+        long polar = java.util.Arrays.stream(cells)
+                .filter(cell -> Math.abs(h3.cellToLatLng(cell).lat) > 60)
+                .count();
+        return (double) polar / cells.length;
+    }
 }
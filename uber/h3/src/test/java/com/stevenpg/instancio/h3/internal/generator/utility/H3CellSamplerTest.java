@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator.utility;
+
+import com.uber.h3core.H3Core;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class H3CellSamplerTest {
+
+    private final H3Core h3 = H3Engine.get();
+
+    @RepeatedTest(5)
+    void shouldGenerateValidCellsAtEveryResolution() {
+        var random = new DefaultRandom();
+        for (int resolution = 0; resolution <= 15; resolution++) {
+            for (int i = 0; i < 2_000; i++) {
+                long cell = H3CellSampler.randomCell(random, resolution);
+                assertTrue(h3.isValidCell(cell), "invalid cell " + Long.toHexString(cell));
+                assertEquals(resolution, h3.getResolution(cell));
+            }
+        }
+    }
+
+    @Test
+    void shouldCoverEveryBaseCellUniformly() {
+        var random = new DefaultRandom();
+        Map<Long, Integer> counts = new HashMap<>();
+        int samples = 122_000;
+        for (int i = 0; i < samples; i++) {
+            counts.merge(H3CellSampler.randomCell(random, 0), 1, Integer::sum);
+        }
+
+        assertEquals(H3CellSampler.BASE_CELLS, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(count > 800 && count < 1_200, "count " + count + " is far from 1000");
+        }
+    }
+
+    @Test
+    void shouldSamplePentagonChildrenInProportion() {
+        var random = new DefaultRandom();
+        int samples = 200_000;
+        int pentagons = 0;
+        for (int i = 0; i < samples; i++) {
+            if (h3.isPentagon(H3CellSampler.randomCell(random, 1))) {
+                pentagons++;
+            }
+        }
+        // 12 of the 842 resolution 1 cells are pentagons
+        double expected = samples * 12.0 / 842;
+        assertEquals(expected, pentagons, expected * 0.2);
+    }
+
+    @Test
+    void shouldRejectInvalidResolution() {
+        var random = new DefaultRandom();
+        var ex = assertThrows(IllegalArgumentException.class, () -> H3CellSampler.randomCell(random, 16));
+        assertEquals("resolution must be between 0 and 15", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> H3CellSampler.randomCell(random, -1));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Steven Gantz.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.stevenpg.instancio.h3.internal.generator.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class H3EngineTest {
+
+    @Test
+    void shouldReturnSameInstance() {
+        assertNotNull(H3Engine.get());
+        assertSame(H3Engine.get(), H3Engine.get());
+    }
+
+    @Test
+    void shouldReturnSameInstanceAcrossThreads() {
+        var instances = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 64).parallel().forEach(i -> instances.add(H3Engine.get()));
+        assertEquals(1, instances.size());
+    }
+}